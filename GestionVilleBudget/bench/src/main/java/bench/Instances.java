@@ -0,0 +1,35 @@
+package bench;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.SacADos;
+
+/**
+ * Génération des instances utilisées par les benchmarks.
+ *
+ * <p>
+ * Délègue à {@link GenerateurInstances} (instances non corrélées, coûts dans
+ * [1, 1000], budget = {@code serrage} × somme des coûts). La graine est fixe :
+ * deux exécutions mesurent la même instance.
+ *
+ * @author ZHU YULEI
+ * @version 2.0
+ */
+final class Instances {
+
+    /** Graine commune à tous les benchmarks. */
+    static final long GRAINE = 20252026L;
+
+    private Instances() {
+    }
+
+    /**
+     * @param n       nombre d'objets
+     * @param k       nombre de dimensions
+     * @param serrage rapport budget / somme des coûts, dans ]0, 1]
+     * @return instance générée
+     */
+    static SacADos generer(int n, int k, double serrage) {
+        return new SacADos(GenerateurInstances.generer(n, k, Correlation.NON_CORRELEE, serrage, GRAINE));
+    }
+}
@@ -0,0 +1,66 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point d'entrée du jar de benchmarks.
+ *
+ * <p>
+ * Accepte les mêmes arguments que la ligne de commande JMH (filtre de
+ * benchmarks, {@code -p n=1000}, {@code -f}, ...), y compris les options
+ * d'information ({@code -h}, {@code -l}, {@code -lp}, {@code -lprof},
+ * {@code -lrf}), qui affichent sans rien exécuter. Sans option {@code -prof},
+ * le profileur GC est ajouté : il mesure l'allocation par opération
+ * ({@code gc.alloc.rate.norm}).
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+public class Lanceur {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions ligne;
+        try {
+            ligne = new CommandLineOptions(args);
+        }
+        catch (CommandLineOptionException e) {
+            System.err.println("Erreur dans les arguments : " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        if (ligne.shouldHelp()) {
+            ligne.showHelp();
+            return;
+        }
+        if (ligne.shouldListProfilers()) {
+            ligne.listProfilers();
+            return;
+        }
+        if (ligne.shouldListResultFormats()) {
+            ligne.listResultFormats();
+            return;
+        }
+
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(ligne);
+        if (ligne.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        Runner runner = new Runner(options.build());
+
+        if (ligne.shouldList()) {
+            runner.list();
+        }
+        else if (ligne.shouldListWithParams()) {
+            runner.listWithParams(ligne);
+        }
+        else {
+            runner.run();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sacADos.Objet;
+import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.glouton.Comparateurs;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+
+/**
+ * Benchmarks du modèle : admissibilité, utilité totale et tris gloutons.
+ *
+ * <p>
+ * La sélection mesurée est la solution du glouton à ajout (f_somme),
+ * c'est-à-dire une sélection de taille réaliste pour l'instance.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModeleBench {
+
+    /** Nombre d'objets. */
+    @Param({"1000", "10000", "100000"})
+    int n;
+
+    /** Nombre de dimensions. */
+    @Param({"5", "30"})
+    int k;
+
+    /** Rapport budget / somme des coûts. */
+    @Param({"0.25", "0.75"})
+    double serrage;
+
+    /** Taille de la sélection utilisée par le critère fmv (coût O(|S|·k) par comparaison). */
+    private static final int TAILLE_SELECTION_FMV = 100;
+
+    private SacADos sac;
+    private List<Objet> selection;
+    private List<Objet> selectionFmv;
+    private Solution solution;
+
+    @Setup
+    public void preparer() {
+        sac = Instances.generer(n, k, serrage);
+        selection = new GloutonAjoutSolver().resoudre(sac, Comparateurs.f_somme());
+        selectionFmv = selection.subList(0, Math.min(TAILLE_SELECTION_FMV, selection.size()));
+        solution = sac.solution(selection);
+    }
+
+    @Benchmark
+    public boolean estAdmissible() {
+        return sac.estAdmissible(selection);
+    }
+
+    @Benchmark
+    public int utiliteTotale() {
+        return sac.utiliteTotale(selection);
+    }
+
+    /** Équivalent incrémental : un test d'ajout O(k) pour chaque objet absent. */
+    @Benchmark
+    public int solutionPeutAjouterTousAbsents() {
+        int possibles = 0;
+        for (int i = solution.prochainAbsent(0); i >= 0; i = solution.prochainAbsent(i + 1)) {
+            if (solution.peutAjouter(i)) possibles++;
+        }
+        return possibles;
+    }
+
+    @Benchmark
+    public List<Objet> trierSomme() {
+        List<Objet> l = new ArrayList<>(sac.getObjets());
+        l.sort(Comparateurs.f_somme());
+        return l;
+    }
+
+    @Benchmark
+    public List<Objet> trierMax() {
+        List<Objet> l = new ArrayList<>(sac.getObjets());
+        l.sort(Comparateurs.f_max());
+        return l;
+    }
+
+    /** Scores précalculés puis tri primitif par base. */
+    @Benchmark
+    public int[] trierCritereSomme() {
+        return Criteres.f_somme().ordre(sac.compacte());
+    }
+
+    @Benchmark
+    public int[] trierCritereMax() {
+        return Criteres.f_max().ordre(sac.compacte());
+    }
+
+    @Benchmark
+    public List<Objet> trierFmv() {
+        List<Objet> l = new ArrayList<>(sac.getObjets());
+        l.sort(Comparateurs.fmv(sac.getBudgets(), selectionFmv));
+        return l;
+    }
+}
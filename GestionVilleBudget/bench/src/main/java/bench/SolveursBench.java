@@ -0,0 +1,109 @@
+package bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sacADos.Objet;
+import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.glouton.Comparateurs;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.glouton.GloutonFmvSolver;
+import solveur.glouton.GloutonRetraitSolver;
+import solveur.glouton.Multiplicateurs;
+import solveur.hillclimbing.HillClimbingSolver;
+
+/**
+ * Benchmarks des points d'entrée des solveurs (API {@code List<Objet>}).
+ *
+ * <p>
+ * Le Hill Climbing part de la solution du glouton à ajout (f_somme),
+ * calculée une fois pour toutes dans {@link #preparer()}.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SolveursBench {
+
+    /** Nombre d'objets. */
+    @Param({"100", "1000", "2000"})
+    int n;
+
+    /** Nombre de dimensions. */
+    @Param({"5", "30"})
+    int k;
+
+    /** Rapport budget / somme des coûts. */
+    @Param({"0.25", "0.75"})
+    double serrage;
+
+    private SacADos sac;
+    private List<Objet> initiale;
+
+    @Setup
+    public void preparer() {
+        sac = Instances.generer(n, k, serrage);
+        initiale = new GloutonAjoutSolver().resoudre(sac, Comparateurs.f_somme());
+    }
+
+    @Benchmark
+    public List<Objet> gloutonAjoutSomme() {
+        return new GloutonAjoutSolver().resoudre(sac, Comparateurs.f_somme());
+    }
+
+    @Benchmark
+    public List<Objet> gloutonAjoutMax() {
+        return new GloutonAjoutSolver().resoudre(sac, Comparateurs.f_max());
+    }
+
+    @Benchmark
+    public Solution gloutonAjoutCritereSomme() {
+        return new GloutonAjoutSolver().resoudre(sac.compacte(), Criteres.f_somme());
+    }
+
+    /** Multiplicateurs calculés à chaque appel (sous-gradient compris). */
+    @Benchmark
+    public Solution gloutonAjoutLagrange() {
+        return new GloutonAjoutSolver().resoudre(sac.compacte(),
+                Multiplicateurs.lagrangiens(sac.compacte()).critere());
+    }
+
+    @Benchmark
+    public List<Objet> gloutonFmv() {
+        return new GloutonFmvSolver().resoudre(sac);
+    }
+
+    @Benchmark
+    public List<Objet> gloutonRetrait() {
+        return new GloutonRetraitSolver().resoudre(sac, Comparateurs.f_somme(), Comparateurs.f_max());
+    }
+
+    @Benchmark
+    public List<Objet> hillClimbing() {
+        return new HillClimbingSolver().resoudre(sac, initiale);
+    }
+
+    @Benchmark
+    public List<Objet> hillClimbingAleatoire() {
+        return new HillClimbingSolver().resoudreAleatoire(sac, initiale, 2, 200, 0);
+    }
+}
@@ -0,0 +1,91 @@
+package alea;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source d'aléa reproductible : une graine maîtresse, et un flux de tirages
+ * indépendant par tâche.
+ *
+ * <p>
+ * Le flux numéro i est un {@link SplittableRandom} dont l'état initial est
+ * la i-ème sortie du générateur SplitMix64 initialisé par la graine. Deux
+ * flux partent ainsi de points éloignés et sans rapport de la même période
+ * de 2^64 : contrairement à des graines {@code graine + i·γ}, le flux i + 1
+ * n'est pas le flux i décalé d'un tirage. Un flux s'obtient en O(1) à partir
+ * de son numéro, sans passer par les précédents.
+ *
+ * <p>
+ * La source est immuable et peut être partagée par tous les threads ; un
+ * flux, lui, n'est pas synchronisé et doit rester propre à une tâche.
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+public final class SourceAleatoire {
+
+    /** Incrément de Weyl de SplitMix64 (partie fractionnaire du nombre d'or). */
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** Sépare les graines des sous-sources de celles des flux. */
+    private static final long DERIVATION = 0xD1B54A32D192ED03L;
+
+    private final long graine;
+
+    /**
+     * @param graine graine maîtresse
+     */
+    public SourceAleatoire(long graine) {
+        this.graine = graine;
+    }
+
+    /**
+     * @return une source de graine imprévisible, différente à chaque appel ;
+     *         sa graine reste consultable pour rejouer les tirages
+     */
+    public static SourceAleatoire nonReproductible() {
+        return new SourceAleatoire(new SplittableRandom().nextLong());
+    }
+
+    /** @return la graine maîtresse */
+    public long graine() {
+        return graine;
+    }
+
+    /**
+     * Flux de tirages de la tâche numéro {@code numero}. Deux appels avec le
+     * même numéro rendent deux générateurs produisant la même suite.
+     *
+     * @param numero numéro de la tâche
+     * @return un nouveau générateur, propre à l'appelant
+     */
+    public SplittableRandom flux(long numero) {
+        return new SplittableRandom(melanger(graine + (numero + 1) * GAMMA));
+    }
+
+    /**
+     * Sous-source numéro {@code numero}, pour une tâche qui numérote à son
+     * tour ses propres sous-tâches (cycle de simulation, lot de voisins…).
+     *
+     * @param numero numéro de la tâche
+     * @return une source indépendante de cette source et de ses flux
+     */
+    public SourceAleatoire derivee(long numero) {
+        return new SourceAleatoire(melanger(melanger(graine + (numero + 1) * GAMMA) ^ DERIVATION));
+    }
+
+    @Override
+    public String toString() {
+        return "SourceAleatoire[graine=" + graine + "]";
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Fonction de mélange de SplitMix64 (variante 13 de Stafford), bijective. */
+    private static long melanger(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
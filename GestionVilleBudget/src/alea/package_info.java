@@ -0,0 +1,20 @@
+/**
+ * Contient la source d'aléa commune aux solveurs et à la simulation de
+ * l'équipe municipale.
+ *
+ * <p>
+ * Une {@link alea.SourceAleatoire} est définie par une graine maîtresse et
+ * fournit à chaque tâche (départ, chaîne, voisin, bloc, acteur…) son propre
+ * générateur, identifié par un numéro : les tirages ne dépendent que de la
+ * graine et des numéros, jamais de l'ordonnancement des threads, et aucun
+ * générateur n'est partagé entre threads.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+package alea;
+
+
+public class package_info {
+
+}
@@ -1,12 +1,17 @@
 package equipe;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Représente un élu de la municipalité chargé d’évaluer le bénéfice des projets.
  *
  * <p>
  * Un élu est une {@link Personne} et dispose d’un mécanisme d’évaluation
  * simple consistant à attribuer un bénéfice estimé à chaque projet.  
- * L’évaluation repose sur une génération pseudo-aléatoire contrôlée.
+ * L’évaluation repose sur une génération pseudo-aléatoire contrôlée : les
+ * tirages viennent du générateur fourni par l'appelant (reproductible), ou
+ * du générateur propre au thread courant.
  *
  * <p>
  * Cette classe assure :
@@ -17,7 +22,7 @@ package equipe;
  * </ul>
  *
  * @author Yulei
- * @version 2.0
+ * @version 2.1
  * @since 1.0
  */
 public class Elu extends Personne {
@@ -44,20 +49,35 @@ public class Elu extends Personne {
      * @throws IllegalArgumentException si {@code projet} est null
      */
     public void evaluerBenefice(Projet projet) {
+        evaluerBenefice(projet, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Attribue au projet un bénéfice tiré du générateur donné.
+     *
+     * @param projet projet à évaluer
+     * @param alea   générateur des tirages
+     * @throws IllegalArgumentException si {@code projet} ou {@code alea} est null
+     */
+    public void evaluerBenefice(Projet projet, RandomGenerator alea) {
         if (projet == null)
             throw new IllegalArgumentException("Impossible d'évaluer un projet null.");
 
-        int benefice = genererBeneficeAleatoire();
+        if (alea == null)
+            throw new IllegalArgumentException("Le générateur aléatoire ne peut pas être null.");
+
+        int benefice = genererBeneficeAleatoire(alea);
         projet.setBenefice(benefice);
     }
 
     /**
      * Génère un bénéfice pseudo-aléatoire compris entre 50 000 et 200 000.
      *
+     * @param alea générateur des tirages
      * @return un montant de bénéfice simulé
      */
-    private int genererBeneficeAleatoire() {
-        return 50_000 + (int)(Math.random() * 150_000);
+    private int genererBeneficeAleatoire(RandomGenerator alea) {
+        return alea.nextInt(50_000, 200_000);
     }
 
     @Override
@@ -4,6 +4,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+
+import alea.SourceAleatoire;
 
 /**
  * Gère l’ensemble des acteurs municipaux impliqués dans la création
@@ -27,8 +30,15 @@ import java.util.Map;
  *     <li>d’un cycle de simulation orchestrant la collaboration entre rôles</li>
  * </ul>
  *
+ * <p>
+ * Les tirages viennent d'une {@link SourceAleatoire} : le cycle c utilise la
+ * sous-source c, dans laquelle l'expert e propose ses projets avec son
+ * propre flux, et chaque projet est évalué avec son propre flux. Deux
+ * équipes de même graine simulent les mêmes cycles ; sans source donnée, la
+ * graine est imprévisible et chaque exécution simule d'autres projets.
+ *
  * @author Yulei
- * @version 2.0
+ * @version 2.1
  * @since 1.0
  */
 public class EquipeMunicipale {
@@ -45,6 +55,12 @@ public class EquipeMunicipale {
     /** Projets complètement évalués et validés */
     private final List<Projet> projetsEtudies;
 
+    /** Source des tirages de la simulation */
+    private final SourceAleatoire alea;
+
+    /** Nombre de cycles de simulation déjà exécutés */
+    private long cycles;
+
     /**
      * Construit une équipe municipale complète, comprenant :
      * <ul>
@@ -52,6 +68,7 @@ public class EquipeMunicipale {
      *     <li>exactement trois évaluateurs spécialisés</li>
      *     <li>une liste d'experts</li>
      * </ul>
+     * Les tirages de la simulation ne sont pas reproductibles (graine imprévisible).
      *
      * @param elu               élu unique de la municipalité
      * @param listeEvaluateurs  liste contenant exactement trois évaluateurs
@@ -61,6 +78,26 @@ public class EquipeMunicipale {
      * @throws IllegalArgumentException si deux évaluateurs partagent la même spécialisation
      */
     public EquipeMunicipale(Elu elu, List<Evaluateur> listeEvaluateurs, List<Expert> experts) {
+        this(elu, listeEvaluateurs, experts, SourceAleatoire.nonReproductible());
+    }
+
+    /**
+     * Construit une équipe municipale complète dont les simulations tirent
+     * leurs valeurs de la source donnée.
+     *
+     * @param elu               élu unique de la municipalité
+     * @param listeEvaluateurs  liste contenant exactement trois évaluateurs
+     * @param experts           liste des experts municipaux
+     * @param alea              source des tirages de la simulation
+     *
+     * @throws IllegalArgumentException si un des rôles ou la source est absent
+     * @throws IllegalArgumentException si deux évaluateurs partagent la même spécialisation
+     */
+    public EquipeMunicipale(Elu elu, List<Evaluateur> listeEvaluateurs, List<Expert> experts,
+                            SourceAleatoire alea) {
+
+        if (alea == null)
+            throw new IllegalArgumentException("La source aléatoire ne doit pas être null.");
 
         if (elu == null)
             throw new IllegalArgumentException("L'élu ne doit pas être null.");
@@ -72,6 +109,7 @@ public class EquipeMunicipale {
             throw new IllegalArgumentException("La liste des experts ne doit pas être null.");
 
         this.elu = elu;
+        this.alea = alea;
         this.experts = new ArrayList<>(experts);
         this.projetsEtudies = new ArrayList<>();
         this.evaluateurs = new HashMap<>();
@@ -120,22 +158,27 @@ public class EquipeMunicipale {
             throw new IllegalStateException("Impossible de simuler : aucun expert dans l'équipe.");
 
         List<Projet> nouveauxProjets = new ArrayList<>();
+        SourceAleatoire cycle = alea.derivee(cycles++);
+        SourceAleatoire propositions = cycle.derivee(0);
+        SourceAleatoire evaluations = cycle.derivee(1);
 
         // 1 — Projets proposés
-        for (Expert expert : experts) {
-            nouveauxProjets.addAll(expert.proposerProjets(nbProjetsParExpert));
+        for (int e = 0; e < experts.size(); e++) {
+            nouveauxProjets.addAll(experts.get(e).proposerProjets(nbProjetsParExpert, propositions.flux(e)));
         }
 
         // 2 + 3 — Évaluations
-        for (Projet p : nouveauxProjets) {
+        for (int j = 0; j < nouveauxProjets.size(); j++) {
+            Projet p = nouveauxProjets.get(j);
+            SplittableRandom tirages = evaluations.flux(j);
 
-            // Évaluateurs
-            for (Map.Entry<TypeCout, Evaluateur> entry : evaluateurs.entrySet()) {
-                entry.getValue().evaluerCout(p);
+            // Évaluateurs, dans l'ordre des types de coûts
+            for (TypeCout t : TypeCout.values()) {
+                evaluateurs.get(t).evaluerCout(p, tirages);
             }
 
             // Élu
-            elu.evaluerBenefice(p);
+            elu.evaluerBenefice(p, tirages);
 
             // Ajout si complet
             if (p.estComplet()) {
@@ -1,5 +1,8 @@
 package equipe;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Évaluateur spécialisé chargé d'attribuer un coût à un projet
  * en fonction d'un type de coût particulier.
@@ -13,7 +16,7 @@ package equipe;
  * </ul>
  *
  * @author Yulei
- * @version 2.0
+ * @version 2.1
  * @since 1.0
  */
 public class Evaluateur extends Personne {
@@ -54,17 +57,33 @@ public class Evaluateur extends Personne {
      *
      * <p>
      * Un coût aléatoire est généré puis affecté au projet dans le champ correspondant.
+     * Les tirages viennent du générateur propre au thread courant.
      *
      * @param projet projet à évaluer
      *
      * @throws IllegalArgumentException si le projet est null
      */
     public void evaluerCout(Projet projet) {
+        evaluerCout(projet, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Évalue le coût d’un projet avec un coût tiré du générateur donné.
+     *
+     * @param projet projet à évaluer
+     * @param alea   générateur des tirages
+     *
+     * @throws IllegalArgumentException si le projet ou le générateur est null
+     */
+    public void evaluerCout(Projet projet, RandomGenerator alea) {
 
         if (projet == null)
             throw new IllegalArgumentException("Projet null.");
 
-        int cout = genererCoutAleatoire();
+        if (alea == null)
+            throw new IllegalArgumentException("Le générateur aléatoire ne peut pas être null.");
+
+        int cout = genererCoutAleatoire(alea);
 
         switch (specialisation) {
             case ECONOMIQUE -> projet.setCoutEconomique(cout);
@@ -76,10 +95,11 @@ public class Evaluateur extends Personne {
     /**
      * Génère un coût aléatoire compris entre 10 000 et 100 000.
      *
+     * @param alea générateur des tirages
      * @return coût aléatoire
      */
-    private int genererCoutAleatoire() {
-        return 10_000 + (int)(Math.random() * 90_000);
+    private int genererCoutAleatoire(RandomGenerator alea) {
+        return alea.nextInt(10_000, 100_000);
     }
 
     @Override
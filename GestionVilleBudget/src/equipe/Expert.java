@@ -1,9 +1,11 @@
 package equipe;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Représente un expert capable de proposer des projets
@@ -12,7 +14,6 @@ import java.util.Set;
 public class Expert extends Personne {
 
     private final Set<Secteur> secteursCompetence;
-    private static final Random RANDOM = new Random();
 
     public Expert(String nom, String prenom, int age, Set<Secteur> secteursCompetence) {
         super(nom, prenom, age);
@@ -24,33 +25,46 @@ public class Expert extends Personne {
     }
 
     /**
-     * Propose un certain nombre de projets (non évalués).
+     * Propose un certain nombre de projets (non évalués), tirés du générateur
+     * propre au thread courant.
      */
     public List<Projet> proposerProjets(int nombre) {
+        return proposerProjets(nombre, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Propose un certain nombre de projets (non évalués), tirés du générateur
+     * donné : à générateur identique, projets identiques.
+     */
+    public List<Projet> proposerProjets(int nombre, RandomGenerator alea) {
+        if (alea == null)
+            throw new IllegalArgumentException("Le générateur aléatoire ne peut pas être null.");
+
         List<Projet> projets = new ArrayList<>();
 
         for (int i = 0; i < nombre; i++) {
-            projets.add(creerProjetAleatoire());
+            projets.add(creerProjetAleatoire(alea));
         }
 
         return projets;
     }
 
     /** Crée un projet aléatoire dans un des secteurs maîtrisés */
-    private Projet creerProjetAleatoire() {
+    private Projet creerProjetAleatoire(RandomGenerator alea) {
 
-        Secteur s = choisirSecteurAleatoire();
+        Secteur s = choisirSecteurAleatoire(alea);
 
-        String titre = "Projet " + s + " #" + RANDOM.nextInt(1000);
+        String titre = "Projet " + s + " #" + alea.nextInt(1000);
         String description = "Projet dans le secteur " + s;
 
         return new Projet(titre, description, s);
     }
 
     /** Choix aléatoire d’un secteur parmi les compétences */
-    private Secteur choisirSecteurAleatoire() {
+    private Secteur choisirSecteurAleatoire(RandomGenerator alea) {
         List<Secteur> liste = new ArrayList<>(secteursCompetence);
-        return liste.get(RANDOM.nextInt(liste.size()));
+        Collections.sort(liste); // ordre de déclaration, quelle que soit l'implémentation du Set
+        return liste.get(alea.nextInt(liste.size()));
     }
 
 
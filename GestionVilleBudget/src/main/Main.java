@@ -252,6 +252,7 @@ public class Main {
             System.out.println("1. Glouton Ajout");
             System.out.println("2. Glouton Retrait");
             System.out.println("3. Les deux");
+            System.out.println("4. Portefeuille (toutes les variantes en parallèle)");
             System.out.println("0. Retour");
 
             int choix = lireChoixSousMenu("Votre choix : ");
@@ -268,6 +269,13 @@ public class Main {
                         g2.resoudre(sac, Comparateurs.f_somme(), Comparateurs.f_max()),
                         sac);
             }
+
+            if (choix == 4) {
+                ResultatPortefeuille res = new PortefeuilleGlouton().executer(sac.compacte());
+                System.out.println(res);
+                afficherSolution("Meilleure variante : " + res.getMeilleure().getNom(),
+                        sac.versObjets(res.getSolution()), sac);
+            }
         }
     }
 
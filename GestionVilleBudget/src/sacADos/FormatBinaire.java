@@ -0,0 +1,265 @@
+package sacADos;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Format binaire versionné des instances du sac à dos multidimensionnel.
+ *
+ * <p>
+ * Disposition du fichier (entiers sur 4 octets, petit-boutiste) :
+ * <pre>
+ * en-tête   : MAGIE, VERSION, n, k, drapeaux
+ * budgets   : k entiers
+ * utilités  : n entiers
+ * coûts     : n * k entiers, objet par objet (couts[i * k + d])
+ * labels    : (si drapeau LABELS) n entrées [longueur, octets UTF-8],
+ *             longueur -1 pour un label absent
+ * </pre>
+ * Toutes les sections numériques sont alignées sur 4 octets : à la relecture,
+ * le fichier est projeté en mémoire et l'instance ({@link InstanceMappee})
+ * travaille directement sur la projection, sans copie sur le tas.
+ * Un fichier est limité à 2 Go (taille maximale d'une projection).
+ *
+ * <p>
+ * La méthode {@link #convertir(Path, Path)} transforme un fichier benchmark
+ * texte (voir {@link LecteurBenchmark}) en fichier binaire.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class FormatBinaire {
+
+    /** Nombre magique « SACB ». */
+    public static final int MAGIE = 0x42434153;
+
+    /** Version courante du format. */
+    public static final int VERSION = 1;
+
+    /** Drapeau : le fichier contient les labels des objets. */
+    public static final int LABELS = 1;
+
+    /** Taille de l'en-tête en octets. */
+    private static final int TAILLE_ENTETE = 5 * Integer.BYTES;
+
+    /** Taille du tampon d'écriture. */
+    private static final int TAILLE_TAMPON = 1 << 16;
+
+    private FormatBinaire() {
+    }
+
+    /**
+     * Écrit une instance au format binaire.
+     *
+     * @param chemin   fichier de destination (écrasé s'il existe)
+     * @param instance instance à écrire
+     * @param labels   labels des objets (taille n, éléments null autorisés), ou null
+     * @throws IOException              en cas d'erreur d'écriture
+     * @throws IllegalArgumentException si le nombre de labels ne correspond pas
+     */
+    public static void ecrire(Path chemin, InstanceCompacte instance, String[] labels) throws IOException {
+
+        int n = instance.nombreObjets();
+        int k = instance.dimension();
+
+        if (labels != null && labels.length != n) {
+            throw new IllegalArgumentException("Il faut exactement un label par objet (" + n + ").");
+        }
+
+        try (FileChannel canal = FileChannel.open(chemin,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            ByteBuffer tampon = ByteBuffer.allocateDirect(TAILLE_TAMPON).order(ByteOrder.LITTLE_ENDIAN);
+
+            tampon.putInt(MAGIE).putInt(VERSION).putInt(n).putInt(k).putInt(labels == null ? 0 : LABELS);
+
+            for (int d = 0; d < k; d++) {
+                ecrireInt(canal, tampon, instance.budget(d));
+            }
+            for (int i = 0; i < n; i++) {
+                ecrireInt(canal, tampon, instance.utilite(i));
+            }
+            for (int i = 0; i < n; i++) {
+                for (int d = 0; d < k; d++) {
+                    ecrireInt(canal, tampon, instance.cout(i, d));
+                }
+            }
+
+            if (labels != null) {
+                for (String label : labels) {
+                    if (label == null) {
+                        ecrireInt(canal, tampon, -1);
+                        continue;
+                    }
+                    byte[] octets = label.getBytes(StandardCharsets.UTF_8);
+                    ecrireInt(canal, tampon, octets.length);
+                    ecrireOctets(canal, tampon, octets);
+                }
+            }
+
+            vider(canal, tampon);
+        }
+    }
+
+    /**
+     * Écrit la vue objet d'une instance, labels compris.
+     *
+     * @param chemin fichier de destination (écrasé s'il existe)
+     * @param sac    instance à écrire
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void ecrire(Path chemin, SacADos sac) throws IOException {
+        String[] labels = new String[sac.getObjets().size()];
+        boolean aDesLabels = false;
+        for (int i = 0; i < labels.length; i++) {
+            String label = sac.getObjets().get(i).getLabel();
+            if (!label.isEmpty()) {
+                labels[i] = label;
+                aDesLabels = true;
+            }
+        }
+        ecrire(chemin, sac.compacte(), aDesLabels ? labels : null);
+    }
+
+    /**
+     * Projette un fichier binaire en mémoire et retourne l'instance correspondante.
+     * Aucune donnée numérique n'est copiée sur le tas.
+     *
+     * @param chemin fichier binaire
+     * @return instance travaillant directement sur la projection
+     * @throws IOException              en cas d'erreur de lecture ou de fichier tronqué
+     * @throws IllegalArgumentException si le fichier n'est pas au format attendu
+     */
+    public static InstanceMappee lire(Path chemin) throws IOException {
+
+        MappedByteBuffer projection;
+        try (FileChannel canal = FileChannel.open(chemin, StandardOpenOption.READ)) {
+            long taille = canal.size();
+            if (taille > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Fichier binaire trop volumineux (> 2 Go) : " + chemin);
+            }
+            if (taille < TAILLE_ENTETE) {
+                throw new IllegalArgumentException("Fichier binaire tronqué : " + chemin);
+            }
+            // la projection reste valide après fermeture du canal
+            projection = canal.map(FileChannel.MapMode.READ_ONLY, 0, taille);
+        }
+        projection.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (projection.getInt(0) != MAGIE) {
+            throw new IllegalArgumentException("Ce fichier n'est pas une instance binaire : " + chemin);
+        }
+        int version = projection.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Version de format non supportée : " + version);
+        }
+
+        int n = projection.getInt(8);
+        int k = projection.getInt(12);
+        int drapeaux = projection.getInt(16);
+
+        long finCouts = TAILLE_ENTETE + 4L * (k + n + (long) n * k);
+        if (n < 0 || k <= 0 || finCouts > projection.capacity()) {
+            throw new IllegalArgumentException("Fichier binaire tronqué ou incohérent : " + chemin);
+        }
+
+        int pos = TAILLE_ENTETE;
+        IntBuffer budgets = vueEntiers(projection, pos, k);
+        pos += 4 * k;
+        IntBuffer utilites = vueEntiers(projection, pos, n);
+        pos += 4 * n;
+        IntBuffer couts = vueEntiers(projection, pos, n * k);
+        pos += 4 * n * k;
+
+        ByteBuffer labels = null;
+        if ((drapeaux & LABELS) != 0) {
+            labels = projection.duplicate().position(pos).slice();
+        }
+
+        return new InstanceMappee(n, k, budgets, utilites, couts, labels);
+    }
+
+    /**
+     * Charge la vue objet (labels compris) d'un fichier binaire.
+     *
+     * @param chemin fichier binaire
+     * @return instance SacADos adossée à la projection
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public static SacADos charger(Path chemin) throws IOException {
+        InstanceMappee instance = lire(chemin);
+        return new SacADos(instance, instance.labels());
+    }
+
+    /**
+     * Convertit un fichier benchmark texte en fichier binaire.
+     *
+     * @param texte   fichier benchmark au format texte
+     * @param binaire fichier binaire produit
+     * @throws IOException en cas d'erreur de lecture ou d'écriture
+     */
+    public static void convertir(Path texte, Path binaire) throws IOException {
+        ecrire(binaire, LecteurBenchmark.lire(texte), null);
+    }
+
+    /**
+     * Convertisseur en ligne de commande : {@code FormatBinaire <texte> <binaire>}.
+     *
+     * @param args fichier texte source puis fichier binaire destination
+     * @throws IOException en cas d'erreur de lecture ou d'écriture
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage : FormatBinaire <fichier texte> <fichier binaire>");
+            return;
+        }
+        convertir(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Vue entière sur {@code nombre} entiers à partir de l'octet {@code debut}. */
+    private static IntBuffer vueEntiers(MappedByteBuffer projection, int debut, int nombre) {
+        ByteBuffer b = projection.duplicate().position(debut).limit(debut + 4 * nombre);
+        return b.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    /** Ajoute un entier au tampon, en le vidant dans le canal s'il est plein. */
+    private static void ecrireInt(FileChannel canal, ByteBuffer tampon, int v) throws IOException {
+        if (tampon.remaining() < Integer.BYTES) {
+            vider(canal, tampon);
+        }
+        tampon.putInt(v);
+    }
+
+    /** Ajoute des octets au tampon, en le vidant dans le canal autant que nécessaire. */
+    private static void ecrireOctets(FileChannel canal, ByteBuffer tampon, byte[] octets) throws IOException {
+        int pos = 0;
+        while (pos < octets.length) {
+            if (!tampon.hasRemaining()) {
+                vider(canal, tampon);
+            }
+            int m = Math.min(tampon.remaining(), octets.length - pos);
+            tampon.put(octets, pos, m);
+            pos += m;
+        }
+    }
+
+    /** Écrit le contenu du tampon dans le canal puis le réinitialise. */
+    private static void vider(FileChannel canal, ByteBuffer tampon) throws IOException {
+        tampon.flip();
+        while (tampon.hasRemaining()) {
+            canal.write(tampon);
+        }
+        tampon.clear();
+    }
+}
@@ -0,0 +1,148 @@
+package sacADos;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import alea.SourceAleatoire;
+
+/**
+ * Générateur d'instances synthétiques du sac à dos multidimensionnel.
+ *
+ * <p>
+ * Les coûts sont tirés uniformément dans [1, {@value #COUT_MAX}] ; le budget
+ * de la dimension d vaut {@code serrage[d]} fois la somme des coûts de d.
+ * Les utilités dépendent du type de corrélation (voir {@link Correlation}).
+ *
+ * <p>
+ * Les objets sont générés par blocs de {@value #TAILLE_BLOC}, en parallèle,
+ * directement dans les tableaux d'une {@link InstanceTableaux}. Chaque bloc
+ * dispose de son propre générateur, le flux de son numéro dans la
+ * {@link SourceAleatoire} de la graine :
+ * l'instance produite ne dépend que de la graine, pas du nombre de threads.
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+public final class GenerateurInstances {
+
+    /** Coût maximal d'un objet dans une dimension. */
+    public static final int COUT_MAX = 1000;
+
+    /** Nombre d'objets générés par un même générateur pseudo-aléatoire. */
+    static final int TAILLE_BLOC = 4096;
+
+    /**
+     * Lien entre l'utilité d'un objet et ses coûts.
+     */
+    public enum Correlation {
+        /** Utilité uniforme dans [1, COUT_MAX], indépendante des coûts. */
+        NON_CORRELEE,
+        /** Utilité = coût moyen + bruit uniforme dans [-100, 100] (au moins 1). */
+        FAIBLEMENT_CORRELEE,
+        /** Utilité = coût moyen + 500·q, q uniforme dans [0, 1[ (Chu et Beasley). */
+        FORTEMENT_CORRELEE
+    }
+
+    private GenerateurInstances() {
+    }
+
+    /**
+     * Génère une instance avec le même serrage dans toutes les dimensions.
+     *
+     * @param n           nombre d'objets
+     * @param k           nombre de dimensions
+     * @param correlation type de corrélation utilité / coûts
+     * @param serrage     rapport budget / somme des coûts, dans ]0, 1]
+     * @param graine      graine du générateur
+     * @return instance générée
+     */
+    public static InstanceTableaux generer(int n, int k, Correlation correlation, double serrage, long graine) {
+        double[] s = new double[Math.max(k, 0)];
+        Arrays.fill(s, serrage);
+        return generer(n, k, correlation, s, graine);
+    }
+
+    /**
+     * Génère une instance.
+     *
+     * @param n           nombre d'objets
+     * @param k           nombre de dimensions
+     * @param correlation type de corrélation utilité / coûts
+     * @param serrage     rapport budget / somme des coûts pour chaque dimension (taille k), dans ]0, 1]
+     * @param graine      graine du générateur
+     * @return instance générée
+     *
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public static InstanceTableaux generer(int n, int k, Correlation correlation, double[] serrage, long graine) {
+
+        if (n < 0 || k <= 0 || (long) n * k > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Taille invalide : n=" + n + ", k=" + k);
+        }
+        if (correlation == null) {
+            throw new NullPointerException("La corrélation ne peut pas être null.");
+        }
+        if (serrage == null || serrage.length != k) {
+            throw new IllegalArgumentException("Il faut exactement un serrage par dimension (" + k + ").");
+        }
+        for (double s : serrage) {
+            if (!(s > 0 && s <= 1)) {
+                throw new IllegalArgumentException("Le serrage doit être dans ]0, 1] : " + s);
+            }
+        }
+
+        int[] utilites = new int[n];
+        int[] couts = new int[n * k];
+
+        int nbBlocs = (n + TAILLE_BLOC - 1) / TAILLE_BLOC;
+        long[][] sommesParBloc = new long[nbBlocs][];
+
+        SourceAleatoire alea = new SourceAleatoire(graine);
+        IntStream.range(0, nbBlocs).parallel().forEach(b ->
+            sommesParBloc[b] = genererBloc(b, n, k, correlation, alea.flux(b), utilites, couts));
+
+        // budgets = serrage × somme des coûts (réduction dans l'ordre des blocs)
+        int[] budgets = new int[k];
+        for (int d = 0; d < k; d++) {
+            long somme = 0;
+            for (long[] s : sommesParBloc) {
+                somme += s[d];
+            }
+            budgets[d] = (int) Math.min(Integer.MAX_VALUE, (long) Math.floor(serrage[d] * somme));
+        }
+
+        return new InstanceTableaux(utilites, couts, budgets);
+    }
+
+    /**
+     * Génère les objets d'un bloc et retourne la somme de leurs coûts par dimension.
+     */
+    private static long[] genererBloc(int b, int n, int k, Correlation correlation, SplittableRandom rnd,
+                                      int[] utilites, int[] couts) {
+
+        long[] sommes = new long[k];
+
+        int debut = b * TAILLE_BLOC;
+        int fin = Math.min(n, debut + TAILLE_BLOC);
+
+        for (int i = debut; i < fin; i++) {
+            int base = i * k;
+            long total = 0;
+            for (int d = 0; d < k; d++) {
+                int c = 1 + rnd.nextInt(COUT_MAX);
+                couts[base + d] = c;
+                sommes[d] += c;
+                total += c;
+            }
+
+            int moyenne = (int) (total / k);
+            switch (correlation) {
+                case NON_CORRELEE -> utilites[i] = 1 + rnd.nextInt(COUT_MAX);
+                case FAIBLEMENT_CORRELEE -> utilites[i] = Math.max(1, moyenne + rnd.nextInt(-100, 101));
+                case FORTEMENT_CORRELEE -> utilites[i] = moyenne + (int) (500 * rnd.nextDouble());
+            }
+        }
+        return sommes;
+    }
+}
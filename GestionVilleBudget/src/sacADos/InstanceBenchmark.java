@@ -0,0 +1,58 @@
+package sacADos;
+
+/**
+ * Instance lue dans un fichier benchmark à plusieurs problèmes (OR-Library),
+ * accompagnée de son numéro et de la meilleure valeur connue éventuelle.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class InstanceBenchmark {
+
+    /** Numéro du problème dans le fichier (à partir de 1). */
+    private final int numero;
+
+    /** Données de l'instance. */
+    private final InstanceTableaux instance;
+
+    /** Meilleure valeur connue (0 si inconnue). */
+    private final long meilleureConnue;
+
+    /**
+     * @param numero          numéro du problème dans le fichier (à partir de 1)
+     * @param instance        données de l'instance
+     * @param meilleureConnue meilleure valeur connue, 0 si inconnue
+     */
+    public InstanceBenchmark(int numero, InstanceTableaux instance, long meilleureConnue) {
+        this.numero = numero;
+        this.instance = instance;
+        this.meilleureConnue = meilleureConnue;
+    }
+
+    /** @return le numéro du problème dans le fichier (à partir de 1). */
+    public int getNumero() {
+        return numero;
+    }
+
+    /** @return les données de l'instance. */
+    public InstanceTableaux getInstance() {
+        return instance;
+    }
+
+    /** @return la meilleure valeur connue, 0 si elle est inconnue. */
+    public long getMeilleureConnue() {
+        return meilleureConnue;
+    }
+
+    /** @return true si une meilleure valeur connue est disponible. */
+    public boolean aMeilleureConnue() {
+        return meilleureConnue > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Instance #" + numero + " { n=" + instance.nombreObjets()
+                + ", k=" + instance.dimension()
+                + (aMeilleureConnue() ? ", meilleure connue=" + meilleureConnue : "") + " }";
+    }
+}
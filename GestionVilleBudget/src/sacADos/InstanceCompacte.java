@@ -0,0 +1,110 @@
+package sacADos;
+
+/**
+ * Vue indexée et compacte d'une instance du sac à dos multidimensionnel.
+ *
+ * <p>
+ * Les objets sont désignés par un entier {@code i} compris entre
+ * {@code 0} et {@code nombreObjets() - 1}, et les dimensions par un entier
+ * {@code d} compris entre {@code 0} et {@code dimension() - 1}.
+ * Les implémentations stockent utilités et coûts dans des tableaux
+ * primitifs contigus : aucun objet intermédiaire n'est parcouru lors
+ * d'un test d'admissibilité.
+ *
+ * <p>
+ * C'est la représentation sur laquelle travaillent directement les solveurs ;
+ * {@link SacADos} et {@link Objet} n'en sont qu'une vue pour les labels
+ * et les appelants historiques.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public interface InstanceCompacte {
+
+    /** @return le nombre d'objets n de l'instance. */
+    int nombreObjets();
+
+    /** @return le nombre de dimensions k de l'instance. */
+    int dimension();
+
+    /**
+     * @param i indice de l'objet
+     * @return l'utilité de l'objet i
+     */
+    int utilite(int i);
+
+    /**
+     * @param i indice de l'objet
+     * @param d indice de la dimension
+     * @return le coût de l'objet i dans la dimension d
+     */
+    int cout(int i, int d);
+
+    /**
+     * @param d indice de la dimension
+     * @return le budget maximal de la dimension d
+     */
+    int budget(int d);
+
+    /**
+     * Retourne une copie des budgets de l'instance.
+     *
+     * @return budgets, un par dimension
+     */
+    default int[] budgets() {
+        int[] b = new int[dimension()];
+        for (int d = 0; d < b.length; d++) {
+            b[d] = budget(d);
+        }
+        return b;
+    }
+
+    /**
+     * Vérifie si une sélection d'objets (donnés par leurs indices)
+     * respecte les contraintes du sac à dos.
+     *
+     * @param selection indices des objets choisis
+     * @return true si la sélection est admissible, false sinon
+     */
+    default boolean estAdmissible(int[] selection) {
+        return estAdmissible(selection, selection.length);
+    }
+
+    /**
+     * Vérifie si les {@code taille} premiers indices d'un tableau forment
+     * une sélection admissible.
+     *
+     * @param selection indices des objets choisis
+     * @param taille    nombre d'indices significatifs en tête du tableau
+     * @return true si la sélection est admissible, false sinon
+     */
+    default boolean estAdmissible(int[] selection, int taille) {
+        int k = dimension();
+        long[] consommation = new long[k];
+
+        for (int j = 0; j < taille; j++) {
+            int i = selection[j];
+            for (int d = 0; d < k; d++) {
+                consommation[d] += cout(i, d);
+                if (consommation[d] > budget(d)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcule l'utilité totale d'une sélection d'objets donnés par leurs indices.
+     *
+     * @param selection indices des objets choisis
+     * @return utilité totale
+     */
+    default long utiliteTotale(int[] selection) {
+        long total = 0;
+        for (int i : selection) {
+            total += utilite(i);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,115 @@
+package sacADos;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Instance compacte lue directement dans un fichier binaire projeté en mémoire.
+ *
+ * <p>
+ * Les utilités, coûts et budgets ne sont pas copiés sur le tas : chaque accès
+ * lit la valeur dans la projection du fichier (voir {@link FormatBinaire}).
+ * La disposition des coûts est la même que pour {@link InstanceTableaux}
+ * ({@code couts[i * k + d]}), si bien que les solveurs l'utilisent sans adaptation.
+ *
+ * <p>
+ * Les lectures sont absolues : une même instance peut être partagée
+ * en lecture seule entre plusieurs threads.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class InstanceMappee implements InstanceCompacte {
+
+    /** Nombre d'objets. */
+    private final int n;
+
+    /** Nombre de dimensions. */
+    private final int k;
+
+    /** Vue sur les budgets (taille k). */
+    private final IntBuffer budgets;
+
+    /** Vue sur les utilités (taille n). */
+    private final IntBuffer utilites;
+
+    /** Vue sur les coûts à plat (taille n * k). */
+    private final IntBuffer couts;
+
+    /** Section des labels (null si le fichier n'en contient pas). */
+    private final ByteBuffer sectionLabels;
+
+    /**
+     * Construit l'instance sur des vues déjà positionnées dans la projection.
+     * Utilisé par {@link FormatBinaire#lire(java.nio.file.Path)}.
+     */
+    InstanceMappee(int n, int k, IntBuffer budgets, IntBuffer utilites, IntBuffer couts,
+                   ByteBuffer sectionLabels) {
+        this.n = n;
+        this.k = k;
+        this.budgets = budgets;
+        this.utilites = utilites;
+        this.couts = couts;
+        this.sectionLabels = sectionLabels;
+    }
+
+    @Override
+    public int nombreObjets() {
+        return n;
+    }
+
+    @Override
+    public int dimension() {
+        return k;
+    }
+
+    @Override
+    public int utilite(int i) {
+        return utilites.get(i);
+    }
+
+    @Override
+    public int cout(int i, int d) {
+        return couts.get(i * k + d);
+    }
+
+    @Override
+    public int budget(int d) {
+        return budgets.get(d);
+    }
+
+    /** @return true si le fichier contient les labels des objets. */
+    public boolean aDesLabels() {
+        return sectionLabels != null;
+    }
+
+    /**
+     * Décode les labels des objets (seule partie copiée sur le tas).
+     *
+     * @return labels des objets (taille n), ou null si le fichier n'en contient pas
+     */
+    public String[] labels() {
+        if (sectionLabels == null) {
+            return null;
+        }
+
+        ByteBuffer b = sectionLabels.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        String[] res = new String[n];
+        byte[] tampon = new byte[64];
+
+        for (int i = 0; i < n; i++) {
+            int longueur = b.getInt();
+            if (longueur < 0) {
+                continue; // label absent
+            }
+            if (longueur > tampon.length) {
+                tampon = new byte[longueur];
+            }
+            b.get(tampon, 0, longueur);
+            res[i] = new String(tampon, 0, longueur, StandardCharsets.UTF_8);
+        }
+        return res;
+    }
+}
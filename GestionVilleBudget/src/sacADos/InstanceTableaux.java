@@ -0,0 +1,155 @@
+package sacADos;
+
+import java.util.List;
+
+/**
+ * Instance compacte stockée dans des tableaux primitifs sur le tas.
+ *
+ * <p>
+ * Disposition mémoire :
+ * <ul>
+ *   <li>{@code utilites[i]} — utilité de l'objet i</li>
+ *   <li>{@code couts[i * k + d]} — coût de l'objet i dans la dimension d
+ *       (les k coûts d'un même objet sont contigus)</li>
+ *   <li>{@code budgets[d]} — budget de la dimension d</li>
+ * </ul>
+ * Un test d'admissibilité pour un objet lit donc k entiers consécutifs,
+ * au lieu de suivre une référence vers un {@link Objet} puis vers son tableau.
+ *
+ * <p>
+ * Les tableaux ne sont pas copiés : l'instance en devient propriétaire
+ * et ne doit plus être modifiée par l'appelant.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class InstanceTableaux implements InstanceCompacte {
+
+    /** Nombre d'objets. */
+    private final int n;
+
+    /** Nombre de dimensions. */
+    private final int k;
+
+    /** Utilités, une par objet. */
+    private final int[] utilites;
+
+    /** Coûts à plat, objet par objet (taille n * k). */
+    private final int[] couts;
+
+    /** Budgets, un par dimension. */
+    private final int[] budgets;
+
+    /**
+     * Construit une instance à partir de tableaux déjà remplis.
+     *
+     * @param utilites utilités des objets (taille n)
+     * @param couts    coûts à plat, {@code couts[i * k + d]} (taille n * k)
+     * @param budgets  budgets par dimension (taille k)
+     *
+     * @throws NullPointerException     si un tableau est null
+     * @throws IllegalArgumentException si les tailles sont incohérentes
+     */
+    public InstanceTableaux(int[] utilites, int[] couts, int[] budgets) {
+
+        if (utilites == null || couts == null || budgets == null) {
+            throw new NullPointerException("Les tableaux de l'instance ne peuvent pas être null.");
+        }
+        if (budgets.length == 0) {
+            throw new IllegalArgumentException("La dimension doit être positive.");
+        }
+        if ((long) utilites.length * budgets.length != couts.length) {
+            throw new IllegalArgumentException(
+                "Le tableau des coûts doit contenir n * k = "
+                + ((long) utilites.length * budgets.length) + " valeurs.");
+        }
+
+        this.n = utilites.length;
+        this.k = budgets.length;
+        this.utilites = utilites;
+        this.couts = couts;
+        this.budgets = budgets;
+    }
+
+    /**
+     * Construit l'instance compacte correspondant à une liste d'objets.
+     * L'objet d'indice i dans l'instance est l'objet d'indice i dans la liste.
+     *
+     * @param objets  objets de l'instance
+     * @param budgets budgets par dimension
+     * @return instance compacte équivalente
+     *
+     * @throws IllegalArgumentException si un objet n'a pas exactement k coûts
+     */
+    public static InstanceTableaux depuisObjets(List<Objet> objets, int[] budgets) {
+        int n = objets.size();
+        int k = budgets.length;
+
+        int[] utilites = new int[n];
+        int[] couts = new int[n * k];
+
+        int i = 0;
+        for (Objet o : objets) {
+            int[] c = o.getCouts();
+            if (c.length != k) {
+                throw new IllegalArgumentException(
+                    "L'objet " + o + " doit avoir " + k + " coûts.");
+            }
+            utilites[i] = o.getUtilite();
+            System.arraycopy(c, 0, couts, i * k, k);
+            i++;
+        }
+
+        return new InstanceTableaux(utilites, couts, budgets.clone());
+    }
+
+    @Override
+    public int nombreObjets() {
+        return n;
+    }
+
+    @Override
+    public int dimension() {
+        return k;
+    }
+
+    @Override
+    public int utilite(int i) {
+        return utilites[i];
+    }
+
+    @Override
+    public int cout(int i, int d) {
+        return couts[i * k + d];
+    }
+
+    @Override
+    public int budget(int d) {
+        return budgets[d];
+    }
+
+    @Override
+    public boolean estAdmissible(int[] selection, int taille) {
+        long[] consommation = new long[k];
+
+        for (int j = 0; j < taille; j++) {
+            int base = selection[j] * k;
+            for (int d = 0; d < k; d++) {
+                consommation[d] += couts[base + d];
+                if (consommation[d] > budgets[d]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long utiliteTotale(int[] selection) {
+        long total = 0;
+        for (int i : selection) {
+            total += utilites[i];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,86 @@
+package sacADos;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Chargeur rapide des fichiers benchmark du sac à dos multidimensionnel.
+ *
+ * <p>
+ * Format attendu (valeurs séparées par des blancs, retours à la ligne quelconques) :
+ * <pre>
+ * n k
+ * u_1 ... u_n                    (utilités)
+ * c_1,1 ... c_1,n                (coûts de la dimension 1)
+ * ...
+ * c_k,1 ... c_k,n                (coûts de la dimension k)
+ * B_1 ... B_k                    (budgets)
+ * </pre>
+ *
+ * <p>
+ * Le fichier est projeté en mémoire et les entiers sont décodés directement
+ * depuis les octets, puis écrits dans les tableaux définitifs d'une
+ * {@link InstanceTableaux} (aucune matrice intermédiaire, aucune chaîne par jeton).
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class LecteurBenchmark {
+
+    private LecteurBenchmark() {
+    }
+
+    /**
+     * Lit un fichier benchmark contenant une seule instance.
+     *
+     * @param chemin chemin du fichier
+     * @return instance compacte lue
+     *
+     * @throws IOException              en cas d'erreur de lecture ou de fichier tronqué
+     * @throws NumberFormatException    si une valeur n'est pas un int
+     * @throws IllegalArgumentException si l'en-tête est incohérent
+     */
+    public static InstanceTableaux lire(Path chemin) throws IOException {
+        try (LecteurEntiers lecteur = new LecteurEntiers(chemin)) {
+            int n = lecteur.suivant();
+            int k = lecteur.suivant();
+            return lireCorps(lecteur, n, k);
+        }
+    }
+
+    /**
+     * Lit utilités, coûts et budgets d'une instance dont l'en-tête (n, k) a déjà été lu.
+     *
+     * @param lecteur lecteur positionné après l'en-tête
+     * @param n       nombre d'objets
+     * @param k       nombre de dimensions
+     * @return instance compacte lue
+     * @throws IOException en cas d'erreur de lecture
+     */
+    static InstanceTableaux lireCorps(LecteurEntiers lecteur, int n, int k) throws IOException {
+
+        if (n < 0 || k <= 0 || (long) n * k > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("En-tête invalide : n=" + n + ", k=" + k);
+        }
+
+        int[] utilites = new int[n];
+        for (int i = 0; i < n; i++) {
+            utilites[i] = lecteur.suivant();
+        }
+
+        // le fichier est rangé dimension par dimension, l'instance objet par objet
+        int[] couts = new int[n * k];
+        for (int d = 0; d < k; d++) {
+            for (int i = 0; i < n; i++) {
+                couts[i * k + d] = lecteur.suivant();
+            }
+        }
+
+        int[] budgets = new int[k];
+        for (int d = 0; d < k; d++) {
+            budgets[d] = lecteur.suivant();
+        }
+
+        return new InstanceTableaux(utilites, couts, budgets);
+    }
+}
@@ -0,0 +1,178 @@
+package sacADos;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lecteur d'entiers décimaux sur un fichier projeté en mémoire.
+ *
+ * <p>
+ * Les entiers sont décodés directement depuis les octets du fichier,
+ * sans créer de {@code String} par jeton. Les valeurs sont séparées par des
+ * blancs ASCII (espace, tabulation, retours à la ligne, saut de page) et
+ * peuvent donc être réparties sur un nombre quelconque de lignes ; tout autre
+ * octet ({@code 12.5}, {@code 1e3}, {@code 3,4}…) est une erreur de format.
+ *
+ * <p>
+ * Le fichier est projeté par fenêtres successives, ce qui permet de lire
+ * des fichiers de plus de 2 Go.
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+final class LecteurEntiers implements AutoCloseable {
+
+    /** Taille d'une fenêtre de projection. */
+    private static final long FENETRE = 1L << 28;
+
+    private final FileChannel canal;
+    private final long tailleFichier;
+
+    /** Position dans le fichier du début de la fenêtre courante. */
+    private long debutFenetre;
+
+    /** Fenêtre courante (null avant la première lecture). */
+    private MappedByteBuffer tampon;
+
+    /**
+     * Ouvre un fichier en lecture.
+     *
+     * @param chemin chemin du fichier
+     * @throws IOException si le fichier ne peut pas être ouvert
+     */
+    LecteurEntiers(Path chemin) throws IOException {
+        this.canal = FileChannel.open(chemin, StandardOpenOption.READ);
+        this.tailleFichier = canal.size();
+        this.debutFenetre = 0;
+    }
+
+    /**
+     * Lit l'entier suivant.
+     *
+     * @return valeur lue
+     * @throws EOFException          si la fin du fichier est atteinte
+     * @throws NumberFormatException si la valeur n'est pas un entier décimal
+     *                               ou dépasse la capacité d'un int
+     * @throws IOException           en cas d'erreur de lecture
+     */
+    int suivant() throws IOException {
+        int c = sauterSeparateurs();
+        if (c < 0) {
+            throw new EOFException("Fin de fichier atteinte : valeur manquante.");
+        }
+
+        boolean negatif = false;
+        if (c == '-') {
+            negatif = true;
+            c = octet();
+            if (c < 0) {
+                throw new NumberFormatException("Signe '-' isolé en fin de fichier.");
+            }
+            if (c < '0' || c > '9') {
+                throw invalide(c);
+            }
+        }
+
+        long v = 0;
+        while (c >= '0' && c <= '9') {
+            v = v * 10 + (c - '0');
+            if (v > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("Valeur hors des bornes d'un int.");
+            }
+            c = octet();
+        }
+        if (c >= 0 && !estBlanc(c)) {
+            throw invalide(c);
+        }
+
+        v = negatif ? -v : v;
+        if (v > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Valeur hors des bornes d'un int.");
+        }
+        return (int) v;
+    }
+
+    /**
+     * Indique s'il reste au moins une valeur à lire.
+     *
+     * @return true si un entier peut encore être lu
+     * @throws IOException en cas d'erreur de lecture
+     */
+    boolean aEncore() throws IOException {
+        int c = sauterSeparateurs();
+        if (c < 0) return false;
+        reculer();
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /**
+     * Saute les blancs et retourne le premier octet utile (ou -1).
+     *
+     * @throws NumberFormatException si cet octet ne peut pas commencer un entier
+     */
+    private int sauterSeparateurs() throws IOException {
+        int c = octet();
+        while (c >= 0 && estBlanc(c)) {
+            c = octet();
+        }
+        if (c >= 0 && c != '-' && (c < '0' || c > '9')) {
+            throw invalide(c);
+        }
+        return c;
+    }
+
+    private static boolean estBlanc(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    /** Erreur sur l'octet c, qui vient d'être lu. */
+    private NumberFormatException invalide(int c) {
+        return new NumberFormatException("Caractère inattendu (code " + c + ") à l'octet " + (position() - 1)
+                + " : les valeurs doivent être des entiers séparés par des blancs.");
+    }
+
+    /** Position dans le fichier du prochain octet à lire. */
+    private long position() {
+        return (tampon == null ? 0 : debutFenetre + tampon.position());
+    }
+
+    /** Retourne l'octet suivant, ou -1 en fin de fichier. */
+    private int octet() throws IOException {
+        if (tampon == null || !tampon.hasRemaining()) {
+            if (!projeterSuivante()) {
+                return -1;
+            }
+        }
+        return tampon.get() & 0xFF;
+    }
+
+    /** Revient d'un octet en arrière (l'octet vient d'être lu dans la fenêtre courante). */
+    private void reculer() {
+        tampon.position(tampon.position() - 1);
+    }
+
+    /** Projette la fenêtre suivante ; retourne false en fin de fichier. */
+    private boolean projeterSuivante() throws IOException {
+        long debut = (tampon == null ? 0 : debutFenetre + tampon.capacity());
+        if (debut >= tailleFichier) {
+            return false;
+        }
+        long taille = Math.min(FENETRE, tailleFichier - debut);
+        tampon = canal.map(FileChannel.MapMode.READ_ONLY, debut, taille);
+        debutFenetre = debut;
+        return true;
+    }
+}
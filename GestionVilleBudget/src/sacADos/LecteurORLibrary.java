@@ -0,0 +1,120 @@
+package sacADos;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lecteur en flux des fichiers OR-Library à plusieurs problèmes
+ * (mknap1, mknapcb1 à mknapcb9).
+ *
+ * <p>
+ * Format (valeurs séparées par des blancs, retours à la ligne quelconques) :
+ * <pre>
+ * K                              (nombre de problèmes)
+ * puis, pour chaque problème :
+ *   n m opt                      (opt = 0 si la valeur optimale est inconnue)
+ *   p_1 ... p_n                  (utilités)
+ *   r_1,1 ... r_1,n              (coûts de la contrainte 1)
+ *   ...
+ *   r_m,1 ... r_m,n              (coûts de la contrainte m)
+ *   b_1 ... b_m                  (budgets)
+ * </pre>
+ *
+ * <p>
+ * Les problèmes sont lus un par un, à la demande : un seul problème
+ * est en cours de décodage à la fois, quelle que soit la taille du fichier.
+ * Le décodage réutilise la projection mémoire de {@link LecteurBenchmark}.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class LecteurORLibrary implements Iterator<InstanceBenchmark>, AutoCloseable {
+
+    private final LecteurEntiers lecteur;
+
+    /** Nombre de problèmes annoncé en tête de fichier. */
+    private final int nombreProblemes;
+
+    /** Nombre de problèmes déjà lus. */
+    private int lus;
+
+    /**
+     * Ouvre un fichier OR-Library et lit le nombre de problèmes.
+     *
+     * @param chemin chemin du fichier
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public LecteurORLibrary(Path chemin) throws IOException {
+        this.lecteur = new LecteurEntiers(chemin);
+        try {
+            this.nombreProblemes = lecteur.suivant();
+        } catch (IOException | RuntimeException e) {
+            lecteur.close();
+            throw e;
+        }
+        if (nombreProblemes < 0) {
+            lecteur.close();
+            throw new IllegalArgumentException("Nombre de problèmes invalide : " + nombreProblemes);
+        }
+    }
+
+    /** @return le nombre de problèmes annoncé par le fichier. */
+    public int getNombreProblemes() {
+        return nombreProblemes;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return lus < nombreProblemes;
+    }
+
+    /**
+     * Lit le problème suivant.
+     *
+     * @return instance lue avec sa meilleure valeur connue
+     * @throws NoSuchElementException si tous les problèmes ont été lus
+     * @throws UncheckedIOException   en cas d'erreur de lecture
+     */
+    @Override
+    public InstanceBenchmark next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Tous les problèmes du fichier ont été lus.");
+        }
+        try {
+            int n = lecteur.suivant();
+            int m = lecteur.suivant();
+            int opt = lecteur.suivant();
+            InstanceTableaux instance = LecteurBenchmark.lireCorps(lecteur, n, m);
+            lus++;
+            return new InstanceBenchmark(lus, instance, opt);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Erreur de lecture du problème " + (lus + 1), e);
+        }
+    }
+
+    /**
+     * Retourne les problèmes restants sous forme de flux séquentiel.
+     * Le flux ne ferme pas le lecteur.
+     *
+     * @return flux des instances, dans l'ordre du fichier
+     */
+    public Stream<InstanceBenchmark> instances() {
+        return StreamSupport.stream(
+                Spliterators.spliterator(this, nombreProblemes - lus,
+                        Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        lecteur.close();
+    }
+}
@@ -1,6 +1,12 @@
 package sacADos;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Représente un sac à dos multidimensionnel utilisé pour la sélection optimale d’objets.
@@ -20,27 +26,43 @@ import java.util.List;
  *   <li>de calculer l’utilité totale d’une sélection</li>
  * </ul>
  *
+ * <p>
+ * Les données sont portées par une {@link InstanceCompacte} (tableaux primitifs,
+ * objets désignés par leur indice) sur laquelle travaillent les solveurs.
+ * La liste d’{@link Objet} n’en est qu’une vue : lorsque l’instance est construite
+ * directement depuis une représentation compacte, les objets ne sont créés
+ * qu’au premier appel à {@link #getObjets()}.
+ *
  * @author ZHU YULEI
- * @version 3.0
+ * @version 4.1
  * @since TP7
  */
 public class SacADos {
 
     /** Nombre de dimensions (ou contraintes). */
-    private int dimension;
+    private final int dimension;
 
     /** Budgets maximaux pour chaque dimension. */
-    private int[] budgets;
+    private final int[] budgets;
+
+    /** Représentation compacte utilisée par les solveurs. */
+    private final InstanceCompacte compacte;
+
+    /** Labels des objets (peut être null), utilisés pour construire la vue objet. */
+    private final String[] labels;
+
+    /** Liste des objets disponibles dans cette instance (construite à la demande). */
+    private volatile List<Objet> objets;
 
-    /** Liste des objets disponibles dans cette instance. */
-    private List<Objet> objets;
+    /** Indice de chaque objet dans l’instance (construit à la demande). */
+    private volatile Map<Objet, Integer> index;
 
     /**
      * Construit un sac à dos multidimensionnel.
      *
      * @param dimension nombre de contraintes (dimension du problème)
      * @param budgets   budgets associés à chaque dimension (taille = dimension)
-     * @param objets    liste des objets disponibles
+     * @param objets    liste des objets disponibles (copiée, sans élément null)
      */
     public SacADos(int dimension, int[] budgets, List<Objet> objets) {
 
@@ -58,9 +80,45 @@ public class SacADos {
             throw new NullPointerException("La liste des objets ne peut pas être null.");
         }
 
+        // copies défensives : vue objet et vue compacte issues du même instantané
         this.dimension = dimension;
-        this.budgets = budgets;
-        this.objets = objets;
+        this.budgets = budgets.clone();
+        this.objets = List.copyOf(objets);
+        this.labels = null;
+        this.compacte = InstanceTableaux.depuisObjets(this.objets, this.budgets);
+    }
+
+    /**
+     * Construit la vue objet d’une instance compacte, sans label.
+     *
+     * @param compacte instance compacte (utilités, coûts, budgets)
+     */
+    public SacADos(InstanceCompacte compacte) {
+        this(compacte, null);
+    }
+
+    /**
+     * Construit la vue objet d’une instance compacte.
+     *
+     * @param compacte instance compacte (utilités, coûts, budgets)
+     * @param labels   labels des objets (taille n), ou null
+     *
+     * @throws IllegalArgumentException si le nombre de labels ne correspond pas au nombre d’objets
+     */
+    public SacADos(InstanceCompacte compacte, String[] labels) {
+
+        if (compacte == null) {
+            throw new NullPointerException("L’instance compacte ne peut pas être null.");
+        }
+        if (labels != null && labels.length != compacte.nombreObjets()) {
+            throw new IllegalArgumentException(
+                "Il faut exactement un label par objet (" + compacte.nombreObjets() + ").");
+        }
+
+        this.dimension = compacte.dimension();
+        this.budgets = compacte.budgets();
+        this.compacte = compacte;
+        this.labels = labels;
     }
 
     /** @return la dimension du sac à dos. */
@@ -75,7 +133,125 @@ public class SacADos {
 
     /** @return la liste des objets disponibles. */
     public List<Objet> getObjets() {
-        return objets;
+        List<Objet> liste = objets;
+        if (liste == null) {
+            synchronized (this) {
+                liste = objets;
+                if (liste == null) {
+                    liste = construireObjets();
+                    objets = liste;
+                }
+            }
+        }
+        return liste;
+    }
+
+    /** @return la représentation compacte de l’instance, utilisée par les solveurs. */
+    public InstanceCompacte compacte() {
+        return compacte;
+    }
+
+    /**
+     * Retourne l’indice d’un objet dans l’instance (identité de référence).
+     *
+     * @param o objet de l’instance
+     * @return indice de l’objet dans {@link #getObjets()}
+     * @throws IllegalArgumentException si l’objet n’appartient pas à l’instance
+     */
+    public int indexDe(Objet o) {
+        Map<Objet, Integer> m = index;
+        if (m == null) {
+            synchronized (this) {
+                m = index;
+                if (m == null) {
+                    m = new IdentityHashMap<>();
+                    int i = 0;
+                    for (Objet obj : getObjets()) {
+                        m.putIfAbsent(obj, i++);
+                    }
+                    index = m;
+                }
+            }
+        }
+
+        Integer i = m.get(o);
+        if (i == null) {
+            throw new IllegalArgumentException("L’objet n’appartient pas à l’instance : " + o);
+        }
+        return i;
+    }
+
+    /**
+     * Convertit une sélection d’objets en indices de la représentation compacte.
+     *
+     * @param selection objets choisis
+     * @return indices des objets, dans le même ordre
+     */
+    public int[] indices(List<Objet> selection) {
+        int[] res = new int[selection.size()];
+        int j = 0;
+        for (Objet o : selection) {
+            res[j++] = indexDe(o);
+        }
+        return res;
+    }
+
+    /**
+     * Convertit des indices de la représentation compacte en liste d’objets.
+     *
+     * @param indices indices des objets choisis
+     * @return liste (modifiable) des objets correspondants, dans le même ordre
+     */
+    public List<Objet> versObjets(int[] indices) {
+        List<Objet> tous = getObjets();
+        List<Objet> res = new ArrayList<>(indices.length);
+        for (int i : indices) {
+            res.add(tous.get(i));
+        }
+        return res;
+    }
+
+    /**
+     * Construit la {@link Solution} incrémentale correspondant à une sélection d’objets.
+     *
+     * @param selection objets choisis
+     * @return solution sur la représentation compacte
+     */
+    public Solution solution(List<Objet> selection) {
+        return Solution.depuis(compacte, indices(selection));
+    }
+
+    /**
+     * Convertit une {@link Solution} en liste d’objets, dans l’ordre de l’instance.
+     *
+     * @param solution solution sur la représentation compacte
+     * @return liste (modifiable) des objets sélectionnés
+     */
+    public List<Objet> versObjets(Solution solution) {
+        return versObjets(solution.indices());
+    }
+
+    /**
+     * Trie les indices des objets selon un comparateur d’objets.
+     * Le tri est stable, comme {@link List#sort(Comparator)}.
+     *
+     * @param comparateur ordre de priorité des objets
+     * @return permutation des indices 0..n-1
+     */
+    public int[] trierIndices(Comparator<Objet> comparateur) {
+        List<Objet> tous = getObjets();
+        Integer[] ordre = new Integer[tous.size()];
+        for (int i = 0; i < ordre.length; i++) {
+            ordre[i] = i;
+        }
+
+        Arrays.sort(ordre, (a, b) -> comparateur.compare(tous.get(a), tous.get(b)));
+
+        int[] res = new int[ordre.length];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = ordre[i];
+        }
+        return res;
     }
 
     /**
@@ -109,4 +285,24 @@ public class SacADos {
                 .mapToInt(Objet::getUtilite)
                 .sum();
     }
+
+    /**
+     * Construit les objets à partir de la représentation compacte.
+     *
+     * @return liste non modifiable des objets
+     */
+    private List<Objet> construireObjets() {
+        int n = compacte.nombreObjets();
+        List<Objet> res = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            int[] couts = new int[dimension];
+            for (int d = 0; d < dimension; d++) {
+                couts[d] = compacte.cout(i, d);
+            }
+            String label = (labels == null ? null : labels[i]);
+            res.add(new Objet(label, compacte.utilite(i), couts));
+        }
+        return Collections.unmodifiableList(res);
+    }
 }
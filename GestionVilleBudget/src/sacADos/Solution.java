@@ -0,0 +1,385 @@
+package sacADos;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Solution mutable d'une {@link InstanceCompacte}.
+ *
+ * <p>
+ * Une solution maintient en permanence :
+ * <ul>
+ *   <li>l'appartenance de chaque objet (désigné par son indice)</li>
+ *   <li>le vecteur de consommation dans chaque dimension</li>
+ *   <li>l'utilité totale</li>
+ * </ul>
+ * Tester ou réaliser un ajout, un retrait ou un échange coûte donc O(k),
+ * au lieu de recalculer la consommation de toute la sélection en O(|S|·k)
+ * comme {@link SacADos#estAdmissible(java.util.List)}.
+ *
+ * <p>
+ * Les méthodes de modification ne vérifient pas les budgets : une solution
+ * peut être temporairement inadmissible (par exemple dans le glouton à retrait).
+ * Les tests {@link #peutAjouter(int)} et {@link #peutEchanger(int, int)}
+ * permettent de rester dans le domaine admissible.
+ *
+ * <p>
+ * L'appartenance est stockée dans un bitset ({@code long[]}, un bit par objet) :
+ * test d'appartenance en O(1), cardinal maintenu, parcours des objets présents
+ * ou absents mot par mot, copie en O(n/64). Deux solutions de la même instance
+ * sont égales (et comparables) si et seulement si leurs bitsets sont égaux.
+ *
+ * <p>
+ * Cette classe n'est pas thread-safe : chaque thread doit travailler
+ * sur sa propre copie ({@link #copie()}). Une solution utilisée comme clé
+ * d'une table de hachage ne doit plus être modifiée.
+ *
+ * @author ZHU YULEI
+ * @version 2.1
+ */
+public final class Solution implements Comparable<Solution> {
+
+    /** Instance à laquelle se rapporte la solution. */
+    private final InstanceCompacte instance;
+
+    /** Consommation courante dans chaque dimension. */
+    private final long[] consommation;
+
+    /** Nombre d'objets de l'instance. */
+    private final int n;
+
+    /** Appartenance de chaque objet : bit (i mod 64) du mot i / 64. */
+    private final long[] bits;
+
+    /** Nombre d'objets sélectionnés. */
+    private int taille;
+
+    /** Utilité totale des objets sélectionnés. */
+    private long utilite;
+
+    /**
+     * Construit la solution vide d'une instance.
+     *
+     * @param instance instance compacte du sac à dos
+     */
+    public Solution(InstanceCompacte instance) {
+        if (instance == null) {
+            throw new NullPointerException("L'instance ne peut pas être null.");
+        }
+        this.instance = instance;
+        this.consommation = new long[instance.dimension()];
+        this.n = instance.nombreObjets();
+        this.bits = new long[(n + 63) >>> 6];
+    }
+
+    /** Constructeur de copie. */
+    private Solution(Solution autre) {
+        this.instance = autre.instance;
+        this.consommation = autre.consommation.clone();
+        this.n = autre.n;
+        this.bits = autre.bits.clone();
+        this.taille = autre.taille;
+        this.utilite = autre.utilite;
+    }
+
+    /**
+     * Construit une solution contenant les objets donnés (sans contrôle des budgets).
+     *
+     * @param instance instance compacte du sac à dos
+     * @param indices  indices des objets sélectionnés (sans doublon)
+     * @return la solution correspondante
+     *
+     * @throws IllegalArgumentException si un indice apparaît deux fois
+     */
+    public static Solution depuis(InstanceCompacte instance, int[] indices) {
+        Solution s = new Solution(instance);
+        for (int i : indices) {
+            s.ajouter(i);
+        }
+        return s;
+    }
+
+    /** @return l'instance à laquelle se rapporte la solution. */
+    public InstanceCompacte instance() {
+        return instance;
+    }
+
+    /**
+     * @param i indice d'un objet
+     * @return true si l'objet i est sélectionné
+     */
+    public boolean contient(int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /** @return le nombre d'objets sélectionnés. */
+    public int taille() {
+        return taille;
+    }
+
+    /** @return l'utilité totale de la solution. */
+    public long utilite() {
+        return utilite;
+    }
+
+    /**
+     * @param d indice d'une dimension
+     * @return la consommation courante dans la dimension d
+     */
+    public long consommation(int d) {
+        return consommation[d];
+    }
+
+    /**
+     * @param d indice d'une dimension
+     * @return le budget restant dans la dimension d (négatif en cas de dépassement)
+     */
+    public long reste(int d) {
+        return instance.budget(d) - consommation[d];
+    }
+
+    /**
+     * Vérifie que la consommation respecte tous les budgets. Coût : O(k).
+     *
+     * @return true si la solution est admissible
+     */
+    public boolean estAdmissible() {
+        for (int d = 0; d < consommation.length; d++) {
+            if (consommation[d] > instance.budget(d)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indique si l'objet i peut être ajouté sans dépasser un budget. Coût : O(k).
+     *
+     * @param i indice d'un objet absent de la solution
+     * @return true si l'ajout respecte tous les budgets
+     */
+    public boolean peutAjouter(int i) {
+        for (int d = 0; d < consommation.length; d++) {
+            if (consommation[d] + instance.cout(i, d) > instance.budget(d)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indique si l'échange « retirer {@code retrait}, ajouter {@code ajout} »
+     * respecte tous les budgets. Coût : O(k).
+     *
+     * @param retrait indice d'un objet présent dans la solution
+     * @param ajout   indice d'un objet absent de la solution
+     * @return true si la solution obtenue serait admissible
+     */
+    public boolean peutEchanger(int retrait, int ajout) {
+        for (int d = 0; d < consommation.length; d++) {
+            if (consommation[d] - instance.cout(retrait, d) + instance.cout(ajout, d) > instance.budget(d)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ajoute l'objet i à la solution (sans contrôle des budgets). Coût : O(k).
+     *
+     * @param i indice d'un objet absent de la solution
+     * @throws IndexOutOfBoundsException si i n'est pas un indice d'objet
+     * @throws IllegalArgumentException  si l'objet est déjà présent
+     */
+    public void ajouter(int i) {
+        Objects.checkIndex(i, n);
+        if (contient(i)) {
+            throw new IllegalArgumentException("L'objet " + i + " est déjà dans la solution.");
+        }
+        bits[i >>> 6] |= 1L << i;
+        taille++;
+        utilite += instance.utilite(i);
+        for (int d = 0; d < consommation.length; d++) {
+            consommation[d] += instance.cout(i, d);
+        }
+    }
+
+    /**
+     * Retire l'objet i de la solution. Coût : O(k).
+     *
+     * @param i indice d'un objet présent dans la solution
+     * @throws IndexOutOfBoundsException si i n'est pas un indice d'objet
+     * @throws IllegalArgumentException  si l'objet est absent
+     */
+    public void retirer(int i) {
+        Objects.checkIndex(i, n);
+        if (!contient(i)) {
+            throw new IllegalArgumentException("L'objet " + i + " n'est pas dans la solution.");
+        }
+        bits[i >>> 6] &= ~(1L << i);
+        taille--;
+        utilite -= instance.utilite(i);
+        for (int d = 0; d < consommation.length; d++) {
+            consommation[d] -= instance.cout(i, d);
+        }
+    }
+
+    /**
+     * Remplace l'objet {@code retrait} par l'objet {@code ajout}. Coût : O(k).
+     *
+     * @param retrait indice d'un objet présent dans la solution
+     * @param ajout   indice d'un objet absent de la solution
+     * @throws IndexOutOfBoundsException si un indice n'est pas un indice d'objet
+     * @throws IllegalArgumentException  si {@code retrait} est absent ou {@code ajout}
+     *                                   présent ; la solution n'est alors pas modifiée
+     */
+    public void echanger(int retrait, int ajout) {
+        Objects.checkIndex(retrait, n);
+        Objects.checkIndex(ajout, n);
+        if (!contient(retrait) || contient(ajout)) {
+            throw new IllegalArgumentException("Échange impossible : l'objet " + retrait
+                    + " doit être présent et l'objet " + ajout + " absent.");
+        }
+        retirer(retrait);
+        ajouter(ajout);
+    }
+
+    /**
+     * Retourne une copie indépendante de la solution (instantané).
+     *
+     * @return copie de la solution
+     */
+    public Solution copie() {
+        return new Solution(this);
+    }
+
+    /**
+     * Remplace le contenu de cette solution par celui d'une autre,
+     * sans allocation.
+     *
+     * @param autre solution de la même instance
+     * @throws IllegalArgumentException si les instances diffèrent
+     */
+    public void copierDepuis(Solution autre) {
+        if (autre.instance != instance) {
+            throw new IllegalArgumentException("Les deux solutions doivent porter sur la même instance.");
+        }
+        System.arraycopy(autre.consommation, 0, consommation, 0, consommation.length);
+        System.arraycopy(autre.bits, 0, bits, 0, bits.length);
+        taille = autre.taille;
+        utilite = autre.utilite;
+    }
+
+    /**
+     * Retourne le premier objet présent d'indice supérieur ou égal à {@code depuis}.
+     *
+     * @param depuis indice de départ (inclus)
+     * @return indice de l'objet, ou -1 s'il n'y en a plus
+     */
+    public int prochainPresent(int depuis) {
+        if (depuis >= n) return -1;
+        int w = depuis >>> 6;
+        long mot = bits[w] & (-1L << depuis);
+        while (true) {
+            if (mot != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(mot);
+            }
+            if (++w == bits.length) return -1;
+            mot = bits[w];
+        }
+    }
+
+    /**
+     * Retourne le premier objet absent d'indice supérieur ou égal à {@code depuis}.
+     *
+     * @param depuis indice de départ (inclus)
+     * @return indice de l'objet, ou -1 s'il n'y en a plus
+     */
+    public int prochainAbsent(int depuis) {
+        if (depuis >= n) return -1;
+        int w = depuis >>> 6;
+        long mot = ~bits[w] & (-1L << depuis);
+        while (true) {
+            if (mot != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(mot);
+                return (i < n ? i : -1);
+            }
+            if (++w == bits.length) return -1;
+            mot = ~bits[w];
+        }
+    }
+
+    /**
+     * Retourne les indices des objets sélectionnés, par ordre croissant.
+     *
+     * @return indices des objets de la solution
+     */
+    public int[] indices() {
+        int[] res = new int[taille];
+        int j = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long mot = bits[w];
+            while (mot != 0) {
+                res[j++] = (w << 6) + Long.numberOfTrailingZeros(mot);
+                mot &= mot - 1;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Retourne les indices des objets absents de la solution, par ordre croissant.
+     *
+     * @return indices du complémentaire de la solution
+     */
+    public int[] absents() {
+        int[] res = new int[n - taille];
+        int j = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long mot = ~bits[w];
+            while (mot != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(mot);
+                if (i >= n) break;
+                res[j++] = i;
+                mot &= mot - 1;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Compare deux solutions d'une même instance selon leurs bitsets
+     * (ordre lexicographique des mots, non signés).
+     *
+     * @param autre solution à comparer
+     * @return un entier négatif, nul ou positif
+     */
+    @Override
+    public int compareTo(Solution autre) {
+        int m = Math.min(bits.length, autre.bits.length);
+        for (int w = 0; w < m; w++) {
+            if (bits[w] != autre.bits[w]) {
+                return Long.compareUnsigned(bits[w], autre.bits[w]);
+            }
+        }
+        return Integer.compare(bits.length, autre.bits.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Solution)) return false;
+        Solution autre = (Solution) o;
+        return instance == autre.instance && Arrays.equals(bits, autre.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return "Solution { utilite=" + utilite + ", taille=" + taille + " }";
+    }
+}
@@ -2,10 +2,9 @@ package sacADos;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 
 import equipe.Projet;
 
@@ -89,47 +88,18 @@ public class VersSacADos {
     /**
      * Lit un fichier benchmark et construit une instance SacADos.
      *
+     * <p>
+     * La lecture est déléguée à {@link LecteurBenchmark} : le fichier est projeté
+     * en mémoire et les valeurs peuvent être réparties sur des lignes quelconques.
+     *
      * @param chemin chemin vers le fichier
      * @return instance de SacADos
      */
     public static SacADos depuisFichier(String chemin) {
-        try (BufferedReader br = new BufferedReader(new FileReader(chemin))) {
-
-            String[] header = br.readLine().trim().split("\\s+");
-            int n = Integer.parseInt(header[0]);
-            int k = Integer.parseInt(header[1]);
-
-            int[] utilites = new int[n];
-            for (int i = 0; i < n; i++) {
-                utilites[i] = Integer.parseInt(br.readLine().trim());
-            }
-
-            int[][] couts = new int[k][n];
-            for (int dim = 0; dim < k; dim++) {
-                String[] ligne = br.readLine().trim().split("\\s+");
-                for (int obj = 0; obj < n; obj++) {
-                    couts[dim][obj] = Integer.parseInt(ligne[obj]);
-                }
-            }
-
-            String[] ligneBudgets = br.readLine().trim().split("\\s+");
-            int[] budgets = new int[k];
-            for (int dim = 0; dim < k; dim++) {
-                budgets[dim] = Integer.parseInt(ligneBudgets[dim]);
-            }
-
-            List<Objet> objets = new ArrayList<>();
-            for (int i = 0; i < n; i++) {
-                int[] coutObjet = new int[k];
-                for (int dim = 0; dim < k; dim++) {
-                    coutObjet[dim] = couts[dim][i];
-                }
-                objets.add(new Objet(utilites[i], coutObjet));
-            }
-
-            return new SacADos(k, budgets, objets);
+        try {
+            return new SacADos(LecteurBenchmark.lire(Path.of(chemin)));
         }
-        catch (FileNotFoundException e) {
+        catch (NoSuchFileException e) {
             throw new IllegalArgumentException("Fichier introuvable : " + chemin, e);
         }
         catch (IOException | NumberFormatException e) {
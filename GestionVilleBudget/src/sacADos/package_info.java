@@ -3,6 +3,13 @@
  * <ul>
  *   <li><strong>Objet</strong> — utilité et coûts multidimensionnels</li>
  *   <li><strong>SacADos</strong> — instance avec dimension, budgets et liste d’objets</li>
+ *   <li><strong>InstanceCompacte</strong> — vue indexée (tableaux primitifs) utilisée par les solveurs</li>
+ *   <li><strong>InstanceTableaux</strong> — instance compacte stockée sur le tas</li>
+ *   <li><strong>Solution</strong> — sélection mutable avec consommation et utilité maintenues</li>
+ *   <li><strong>LecteurBenchmark</strong> — chargement des fichiers benchmark par projection mémoire</li>
+ *   <li><strong>FormatBinaire</strong> / <strong>InstanceMappee</strong> — format binaire relu par projection mémoire</li>
+ *   <li><strong>LecteurORLibrary</strong> / <strong>InstanceBenchmark</strong> — lecture en flux des fichiers OR-Library à plusieurs problèmes</li>
+ *   <li><strong>GenerateurInstances</strong> — instances synthétiques reproductibles (corrélées ou non), générées en parallèle</li>
  *   <li><strong>VersSacADos</strong> — conversion des projets municipaux en instance de sac-à-dos</li>
  * </ul>
  *
@@ -0,0 +1,112 @@
+package solveur;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contrôle d'une résolution : arrêt coopératif, compteur d'itérations et
+ * borne supérieure éventuelle.
+ *
+ * <p>
+ * L'arrêt est demandé soit explicitement ({@link #annuler()}), soit par
+ * l'échéance de temps réel. Le solveur le constate en appelant
+ * {@link #continuer()}. Un contrôle peut être partagé par plusieurs threads
+ * d'un même solveur.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class Controle {
+
+    /** Instant de création ({@link System#nanoTime()}). */
+    private final long debut;
+
+    /** Budget de temps réel en nanosecondes, ou Long.MAX_VALUE sans limite. */
+    private final long budgetNanos;
+
+    private final LongAdder iterations = new LongAdder();
+    private final AtomicLong borne = new AtomicLong(Long.MAX_VALUE);
+    private volatile boolean annule;
+    private volatile boolean arrete;
+
+    private Controle(long budgetNanos) {
+        this.debut = System.nanoTime();
+        this.budgetNanos = budgetNanos;
+    }
+
+    /** @return un contrôle sans limite de temps. */
+    public static Controle sansLimite() {
+        return new Controle(Long.MAX_VALUE);
+    }
+
+    /**
+     * @param budgetMillis budget de temps réel en millisecondes, à partir de maintenant
+     * @return un contrôle avec échéance
+     * @throws IllegalArgumentException si le budget est négatif ou nul
+     */
+    public static Controle avecBudget(long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("Le budget de temps doit être strictement positif.");
+        }
+        return new Controle(budgetMillis >= Long.MAX_VALUE / 1_000_000 ? Long.MAX_VALUE : budgetMillis * 1_000_000);
+    }
+
+    /**
+     * Compte une itération et indique si le solveur peut poursuivre.
+     *
+     * @return false si l'arrêt a été demandé ou si l'échéance est dépassée
+     */
+    public boolean continuer() {
+        iterations.increment();
+        return !doitArreter();
+    }
+
+    /**
+     * Indique si le solveur doit s'arrêter, sans compter d'itération.
+     *
+     * @return true si l'arrêt a été demandé ou si l'échéance est dépassée
+     */
+    public boolean doitArreter() {
+        if (arrete) {
+            return true;
+        }
+        if (annule || (budgetNanos != Long.MAX_VALUE && System.nanoTime() - debut > budgetNanos)) {
+            arrete = true;
+        }
+        return arrete;
+    }
+
+    /** Demande l'arrêt de la résolution. */
+    public void annuler() {
+        annule = true;
+    }
+
+    /** @return true si la résolution a été arrêtée (annulation ou échéance). */
+    public boolean estArrete() {
+        return arrete;
+    }
+
+    /** @return le nombre d'itérations comptées. */
+    public long getIterations() {
+        return iterations.sum();
+    }
+
+    /**
+     * Signale une borne supérieure de l'utilité optimale ; seule la plus petite est gardée.
+     *
+     * @param valeur borne supérieure prouvée
+     */
+    public void signalerBorne(long valeur) {
+        borne.accumulateAndGet(valeur, Math::min);
+    }
+
+    /** @return true si une borne a été signalée. */
+    public boolean aBorne() {
+        return borne.get() != Long.MAX_VALUE;
+    }
+
+    /** @return la plus petite borne signalée (Long.MAX_VALUE si aucune). */
+    public long getBorne() {
+        return borne.get();
+    }
+}
@@ -0,0 +1,200 @@
+package solveur;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import sacADos.InstanceCompacte;
+import sacADos.Solution;
+
+/**
+ * Lance des solveurs avec un budget de temps réel, seuls ou en parallèle.
+ *
+ * <p>
+ * Tous les solveurs d'un même appel partagent l'échéance « maintenant + budget »
+ * et lisent simultanément la même instance. À l'échéance, leur {@link Controle}
+ * leur demande de s'arrêter ; s'ils n'ont pas rendu la main après un délai de
+ * grâce de {@value #DELAI_GRACE_MILLIS} ms, ils sont interrompus et l'appel
+ * échoue.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public class ExecuteurSolveurs {
+
+    /** Délai laissé aux solveurs après l'échéance pour rendre leur solution. */
+    public static final long DELAI_GRACE_MILLIS = 1000;
+
+    /** Nombre de threads de résolution. */
+    private final int nombreThreads;
+
+    /**
+     * Un solveur et la configuration avec laquelle le lancer.
+     *
+     * @param <C> type de la configuration
+     */
+    public static final class Tache<C> {
+        private final Solveur<C> solveur;
+        private final C configuration;
+
+        /**
+         * @param solveur       solveur à lancer
+         * @param configuration configuration du solveur
+         */
+        public Tache(Solveur<C> solveur, C configuration) {
+            if (solveur == null) {
+                throw new NullPointerException("Le solveur ne peut pas être null.");
+            }
+            this.solveur = solveur;
+            this.configuration = configuration;
+        }
+
+        /**
+         * @param <C>     type de la configuration
+         * @param solveur solveur à lancer avec sa configuration par défaut
+         * @return la tâche correspondante
+         */
+        public static <C> Tache<C> parDefaut(Solveur<C> solveur) {
+            return new Tache<>(solveur, solveur.configurationParDefaut());
+        }
+
+        /** @return le solveur à lancer. */
+        public Solveur<C> getSolveur() {
+            return solveur;
+        }
+
+        /** Résout l'instance et mesure le temps réel. */
+        Resultat executer(InstanceCompacte instance, Controle controle) {
+            long debut = System.nanoTime();
+            Solution solution = solveur.resoudre(instance, configuration, controle);
+            return new Resultat(solveur.nom(), solution, System.nanoTime() - debut, controle);
+        }
+    }
+
+    /**
+     * Construit un exécuteur utilisant tous les cœurs disponibles.
+     */
+    public ExecuteurSolveurs() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un exécuteur.
+     *
+     * @param nombreThreads nombre de solveurs exécutés simultanément
+     *
+     * @throws IllegalArgumentException si nombreThreads ≤ 0
+     */
+    public ExecuteurSolveurs(int nombreThreads) {
+        if (nombreThreads <= 0) {
+            throw new IllegalArgumentException("Le nombre de threads doit être strictement positif.");
+        }
+        this.nombreThreads = nombreThreads;
+    }
+
+    /**
+     * Lance un solveur avec sa configuration par défaut.
+     *
+     * @param <C>          type de la configuration
+     * @param solveur      solveur à lancer
+     * @param instance     instance compacte du sac à dos
+     * @param budgetMillis budget de temps réel en millisecondes
+     * @return résultat de la résolution
+     */
+    public <C> Resultat executer(Solveur<C> solveur, InstanceCompacte instance, long budgetMillis) {
+        return executer(Tache.parDefaut(solveur), instance, budgetMillis);
+    }
+
+    /**
+     * Lance un solveur avec une configuration donnée.
+     *
+     * @param <C>          type de la configuration
+     * @param tache        solveur et configuration
+     * @param instance     instance compacte du sac à dos
+     * @param budgetMillis budget de temps réel en millisecondes
+     * @return résultat de la résolution
+     */
+    public <C> Resultat executer(Tache<C> tache, InstanceCompacte instance, long budgetMillis) {
+        return executerTous(List.of(tache), instance, budgetMillis).get(0);
+    }
+
+    /**
+     * Lance plusieurs solveurs (configuration par défaut) en parallèle sur la même instance.
+     *
+     * @param solveurs     solveurs à lancer
+     * @param instance     instance compacte du sac à dos
+     * @param budgetMillis budget de temps réel commun, en millisecondes
+     * @return résultats, dans l'ordre des solveurs
+     */
+    public List<Resultat> executerSolveurs(List<? extends Solveur<?>> solveurs, InstanceCompacte instance,
+                                           long budgetMillis) {
+        List<Tache<?>> taches = new ArrayList<>(solveurs.size());
+        for (Solveur<?> s : solveurs) {
+            taches.add(Tache.parDefaut(s));
+        }
+        return executerTous(taches, instance, budgetMillis);
+    }
+
+    /**
+     * Lance plusieurs tâches en parallèle sur la même instance.
+     *
+     * @param taches       solveurs et configurations
+     * @param instance     instance compacte du sac à dos
+     * @param budgetMillis budget de temps réel commun, en millisecondes
+     * @return résultats, dans l'ordre des tâches
+     *
+     * @throws IllegalStateException si un solveur ne s'arrête pas après le délai de grâce
+     */
+    public List<Resultat> executerTous(List<? extends Tache<?>> taches, InstanceCompacte instance,
+                                       long budgetMillis) {
+
+        long debut = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(nombreThreads, Math.max(1, taches.size())));
+
+        List<Controle> controles = new ArrayList<>(taches.size());
+        List<Future<Resultat>> futures = new ArrayList<>(taches.size());
+
+        try {
+            for (Tache<?> t : taches) {
+                Controle controle = Controle.avecBudget(budgetMillis);
+                controles.add(controle);
+                futures.add(pool.submit(() -> t.executer(instance, controle)));
+            }
+
+            long limite = debut + TimeUnit.MILLISECONDS.toNanos(budgetMillis + DELAI_GRACE_MILLIS);
+            List<Resultat> resultats = new ArrayList<>(futures.size());
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    resultats.add(futures.get(i).get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS));
+                }
+                catch (TimeoutException e) {
+                    throw new IllegalStateException("Le solveur " + taches.get(i).getSolveur().nom()
+                            + " ne s'est pas arrêté dans le délai de grâce.", e);
+                }
+            }
+            return resultats;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Exécution des solveurs interrompue.", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Erreur pendant la résolution.", e.getCause());
+        }
+        finally {
+            for (Controle c : controles) {
+                c.annuler();
+            }
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package solveur;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import solveur.exact.BranchAndBoundSolver;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.glouton.GloutonFmvSolver;
+import solveur.glouton.GloutonRetraitSolver;
+import solveur.glouton.PortefeuilleGlouton;
+import solveur.grasp.GraspSolver;
+import solveur.hillclimbing.HillClimbingSolver;
+import solveur.ils.RechercheLocaleIteree;
+import solveur.recuit.RecuitSimule;
+import solveur.tabou.RechercheTabou;
+import solveur.voisinage.DescenteVariable;
+
+/**
+ * Registre des solveurs, indexés par leur nom.
+ *
+ * @author ZHU YULEI
+ * @version 1.4
+ */
+public final class Registre {
+
+    private final Map<String, Solveur<?>> solveurs = new LinkedHashMap<>();
+
+    /**
+     * Registre contenant tous les solveurs du projet, avec leur configuration par défaut :
+     * {@code ajout}, {@code retrait}, {@code fmv}, {@code portefeuille}, {@code hc},
+     * {@code vnd}, {@code tabou}, {@code recuit}, {@code ils}, {@code grasp}, {@code exact}.
+     *
+     * @return nouveau registre
+     */
+    public static Registre parDefaut() {
+        Registre r = new Registre();
+        r.enregistrer(new GloutonAjoutSolver());
+        r.enregistrer(new GloutonRetraitSolver());
+        r.enregistrer(new GloutonFmvSolver());
+        r.enregistrer(new PortefeuilleGlouton());
+        r.enregistrer(new HillClimbingSolver());
+        r.enregistrer(new DescenteVariable());
+        r.enregistrer(new RechercheTabou());
+        r.enregistrer(new RecuitSimule());
+        r.enregistrer(new RechercheLocaleIteree());
+        r.enregistrer(new GraspSolver());
+        r.enregistrer(new BranchAndBoundSolver());
+        return r;
+    }
+
+    /**
+     * Enregistre un solveur sous son nom.
+     *
+     * @param solveur solveur à enregistrer
+     * @throws IllegalArgumentException si un solveur du même nom est déjà enregistré
+     */
+    public synchronized void enregistrer(Solveur<?> solveur) {
+        if (solveur == null) {
+            throw new NullPointerException("Le solveur ne peut pas être null.");
+        }
+        if (solveurs.putIfAbsent(solveur.nom(), solveur) != null) {
+            throw new IllegalArgumentException("Solveur déjà enregistré : " + solveur.nom());
+        }
+    }
+
+    /**
+     * @param nom nom du solveur
+     * @return le solveur enregistré sous ce nom
+     * @throws IllegalArgumentException si le nom est inconnu
+     */
+    public synchronized Solveur<?> get(String nom) {
+        Solveur<?> s = solveurs.get(nom);
+        if (s == null) {
+            throw new IllegalArgumentException("Solveur inconnu : " + nom);
+        }
+        return s;
+    }
+
+    /** @return les noms des solveurs, dans l'ordre d'enregistrement. */
+    public synchronized List<String> noms() {
+        return new ArrayList<>(solveurs.keySet());
+    }
+
+    /** @return les solveurs, dans l'ordre d'enregistrement. */
+    public synchronized List<Solveur<?>> solveurs() {
+        return new ArrayList<>(solveurs.values());
+    }
+}
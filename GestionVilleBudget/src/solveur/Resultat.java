@@ -0,0 +1,96 @@
+package solveur;
+
+import sacADos.Solution;
+
+/**
+ * Résultat d'une résolution lancée par l'{@link ExecuteurSolveurs}.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class Resultat {
+
+    /** Nom du solveur. */
+    private final String solveur;
+
+    /** Meilleure solution obtenue. */
+    private final Solution solution;
+
+    /** Durée de résolution (temps réel), en nanosecondes. */
+    private final long dureeNanos;
+
+    /** Nombre d'itérations comptées par le solveur. */
+    private final long iterations;
+
+    /** Borne supérieure prouvée (Long.MAX_VALUE si aucune). */
+    private final long borne;
+
+    /** true si la résolution a été arrêtée avant son terme. */
+    private final boolean interrompu;
+
+    /**
+     * @param solveur    nom du solveur
+     * @param solution   meilleure solution obtenue
+     * @param dureeNanos durée de résolution en nanosecondes
+     * @param controle   contrôle de la résolution (itérations, borne, arrêt)
+     */
+    public Resultat(String solveur, Solution solution, long dureeNanos, Controle controle) {
+        this.solveur = solveur;
+        this.solution = solution;
+        this.dureeNanos = dureeNanos;
+        this.iterations = controle.getIterations();
+        this.borne = controle.getBorne();
+        this.interrompu = controle.estArrete();
+    }
+
+    /** @return le nom du solveur. */
+    public String getSolveur() {
+        return solveur;
+    }
+
+    /** @return la meilleure solution obtenue. */
+    public Solution getSolution() {
+        return solution;
+    }
+
+    /** @return l'utilité de la meilleure solution obtenue. */
+    public long getUtilite() {
+        return solution.utilite();
+    }
+
+    /** @return la durée de résolution en nanosecondes. */
+    public long getDureeNanos() {
+        return dureeNanos;
+    }
+
+    /** @return le nombre d'itérations comptées par le solveur. */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /** @return true si le solveur a prouvé une borne supérieure. */
+    public boolean aBorne() {
+        return borne != Long.MAX_VALUE;
+    }
+
+    /** @return la borne supérieure prouvée (Long.MAX_VALUE si aucune). */
+    public long getBorne() {
+        return borne;
+    }
+
+    /** @return true si la résolution a été arrêtée avant son terme (annulation ou échéance). */
+    public boolean estInterrompu() {
+        return interrompu;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-14s utilite=%-10d temps=%8.2f ms  iterations=%-8d borne=%s%s",
+                solveur,
+                solution.utilite(),
+                dureeNanos / 1e6,
+                iterations,
+                aBorne() ? Long.toString(borne) : "-",
+                interrompu ? "  (interrompu)" : "");
+    }
+}
@@ -0,0 +1,42 @@
+package solveur;
+
+import sacADos.InstanceCompacte;
+import sacADos.Solution;
+
+/**
+ * Interface commune des solveurs.
+ *
+ * <p>
+ * Un solveur est paramétré par une configuration typée {@code C} ; la
+ * configuration par défaut est celle qu'utilise le {@link Registre}.
+ * Pendant la résolution, le solveur appelle {@link Controle#continuer()}
+ * à chaque itération (passe, départ, nœud…) et s'arrête dès que la réponse
+ * est false, en rendant la meilleure solution admissible obtenue.
+ *
+ * <p>
+ * Une même instance de solveur peut être utilisée simultanément par
+ * plusieurs threads : aucun état mutable n'est partagé entre deux appels.
+ *
+ * @param <C> type de la configuration
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public interface Solveur<C> {
+
+    /** @return le nom du solveur dans le registre. */
+    String nom();
+
+    /** @return la configuration utilisée par défaut. */
+    C configurationParDefaut();
+
+    /**
+     * Résout une instance.
+     *
+     * @param instance      instance compacte du sac à dos
+     * @param configuration configuration du solveur
+     * @param controle      contrôle d'arrêt, compteur d'itérations et borne
+     * @return meilleure solution admissible obtenue
+     */
+    Solution resoudre(InstanceCompacte instance, C configuration, Controle controle);
+}
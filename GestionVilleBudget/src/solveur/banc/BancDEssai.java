@@ -0,0 +1,234 @@
+package solveur.banc;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import sacADos.InstanceBenchmark;
+import sacADos.InstanceCompacte;
+import sacADos.LecteurORLibrary;
+import sacADos.Solution;
+import solveur.exact.BranchAndBoundSolver;
+import solveur.exact.BranchAndBoundSolver.Strategie;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.glouton.GloutonFmvSolver;
+import solveur.glouton.GloutonRetraitSolver;
+import solveur.glouton.Multiplicateurs;
+import solveur.glouton.PortefeuilleGlouton;
+import solveur.grasp.GraspSolver;
+import solveur.hillclimbing.HillClimbingSolver;
+
+/**
+ * Banc d'essai : résout en parallèle tous les problèmes d'un fichier OR-Library.
+ *
+ * <p>
+ * Les problèmes sont lus en flux ({@link LecteurORLibrary}) et soumis au fur
+ * et à mesure à un pool de threads (par défaut, un thread par cœur).
+ * Chaque problème est résolu avec la même configuration de solveur ; les
+ * résultats sont rendus dans l'ordre du fichier avec l'utilité obtenue,
+ * le temps réel de résolution et l'écart à la meilleure valeur connue.
+ *
+ * <p>
+ * La configuration est une fonction « instance → solution » qui doit pouvoir
+ * être appelée simultanément depuis plusieurs threads (les solveurs du projet
+ * ne partagent aucun état mutable entre deux appels).
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public class BancDEssai {
+
+    /** Nombre de départs de la configuration {@code grasp}. */
+    public static final int DEPARTS_GRASP = 100;
+
+    /** Nombre maximal de nœuds de la configuration {@code exact}. */
+    public static final long NOEUDS_EXACT = 1_000_000;
+
+    /** Configuration de solveur appliquée à chaque instance. */
+    private final Function<InstanceCompacte, Solution> solveur;
+
+    /** Nombre de threads de résolution. */
+    private final int nombreThreads;
+
+    /**
+     * Construit un banc d'essai utilisant tous les cœurs disponibles.
+     *
+     * @param solveur configuration de solveur (instance → solution)
+     */
+    public BancDEssai(Function<InstanceCompacte, Solution> solveur) {
+        this(solveur, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un banc d'essai.
+     *
+     * @param solveur       configuration de solveur (instance → solution)
+     * @param nombreThreads nombre de threads de résolution
+     *
+     * @throws IllegalArgumentException si nombreThreads ≤ 0
+     */
+    public BancDEssai(Function<InstanceCompacte, Solution> solveur, int nombreThreads) {
+        if (solveur == null) {
+            throw new NullPointerException("La configuration de solveur ne peut pas être null.");
+        }
+        if (nombreThreads <= 0) {
+            throw new IllegalArgumentException("Le nombre de threads doit être strictement positif.");
+        }
+        this.solveur = solveur;
+        this.nombreThreads = nombreThreads;
+    }
+
+    /**
+     * Résout tous les problèmes d'un fichier, en utilisant les meilleures
+     * valeurs connues indiquées dans le fichier.
+     *
+     * @param fichier fichier OR-Library
+     * @return résultats, dans l'ordre du fichier
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public List<ResultatInstance> executer(Path fichier) throws IOException {
+        return executer(fichier, null);
+    }
+
+    /**
+     * Résout tous les problèmes d'un fichier.
+     *
+     * @param fichier            fichier OR-Library
+     * @param meilleuresConnues  meilleures valeurs connues, une par problème
+     *                           (remplacent celles du fichier ; 0 = inconnue), ou null
+     * @return résultats, dans l'ordre du fichier
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public List<ResultatInstance> executer(Path fichier, long[] meilleuresConnues) throws IOException {
+
+        ExecutorService pool = Executors.newFixedThreadPool(nombreThreads);
+        List<Future<ResultatInstance>> taches = new ArrayList<>();
+
+        try {
+            try (LecteurORLibrary lecteur = new LecteurORLibrary(fichier)) {
+                while (lecteur.hasNext()) {
+                    InstanceBenchmark inst = lecteur.next();
+                    long meilleure = meilleureConnue(inst, meilleuresConnues);
+                    taches.add(pool.submit(() -> resoudre(inst, meilleure)));
+                }
+            }
+
+            List<ResultatInstance> resultats = new ArrayList<>(taches.size());
+            for (Future<ResultatInstance> f : taches) {
+                resultats.add(f.get());
+            }
+            return resultats;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Banc d'essai interrompu.", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Erreur pendant la résolution.", e.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Configurations de solveur prédéfinies :
+     * <ul>
+     *   <li>{@code ajout}   — glouton à ajout, critère f_somme</li>
+     *   <li>{@code retrait} — glouton à retrait, critères f_somme / f_max</li>
+     *   <li>{@code fmv}     — glouton fmv adaptatif</li>
+     *   <li>{@code lagrange} — glouton à ajout, critère des multiplicateurs lagrangiens</li>
+     *   <li>{@code portefeuille} — meilleure des variantes gloutonnes (un thread par instance)</li>
+     *   <li>{@code hc}      — glouton à ajout puis Hill Climbing (t = 1)</li>
+     *   <li>{@code grasp}   — GRASP, alpha = 0.2, {@value #DEPARTS_GRASP} départs, graine fixe</li>
+     *   <li>{@code exact}   — séparation et évaluation partant du glouton à ajout,
+     *                         limitée à {@value #NOEUDS_EXACT} nœuds</li>
+     * </ul>
+     *
+     * @param nom nom de la configuration
+     * @return configuration (instance → solution)
+     * @throws IllegalArgumentException si le nom est inconnu
+     */
+    public static Function<InstanceCompacte, Solution> configuration(String nom) {
+        switch (nom) {
+            case "ajout":
+                return inst -> new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme());
+            case "retrait":
+                return inst -> new GloutonRetraitSolver().resoudre(inst,
+                        Criteres.f_somme(), Criteres.f_max());
+            case "fmv":
+                return inst -> new GloutonFmvSolver().resoudre(inst);
+            case "lagrange":
+                return inst -> new GloutonAjoutSolver().resoudre(inst,
+                        Multiplicateurs.lagrangiens(inst).critere());
+            case "portefeuille":
+                return inst -> new PortefeuilleGlouton(1).executer(inst).getSolution();
+            case "hc":
+                return inst -> new HillClimbingSolver().resoudre(inst,
+                        configuration("ajout").apply(inst), 1, 0);
+            case "grasp":
+                return inst -> new GraspSolver(0.2, DEPARTS_GRASP, 0L, 1, Criteres.f_somme()).resoudre(inst);
+            case "exact":
+                return inst -> new BranchAndBoundSolver(Strategie.PROFONDEUR_DABORD, NOEUDS_EXACT, Long.MAX_VALUE)
+                        .resoudre(inst, configuration("ajout").apply(inst)).getSolution();
+            default:
+                throw new IllegalArgumentException("Configuration inconnue : " + nom);
+        }
+    }
+
+    /**
+     * Lancement en ligne de commande : {@code BancDEssai <fichier> [ajout|retrait|fmv|lagrange|portefeuille|hc|grasp|exact]}.
+     *
+     * @param args fichier OR-Library puis nom de configuration (par défaut {@code ajout})
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage : BancDEssai <fichier> [ajout|retrait|fmv|lagrange|portefeuille|hc|grasp|exact]");
+            return;
+        }
+
+        String nom = (args.length > 1 ? args[1] : "ajout");
+        BancDEssai banc = new BancDEssai(configuration(nom));
+
+        long debut = System.nanoTime();
+        List<ResultatInstance> resultats = banc.executer(Path.of(args[0]));
+        long duree = System.nanoTime() - debut;
+
+        for (ResultatInstance r : resultats) {
+            System.out.println(r);
+        }
+        System.out.printf("%d instances résolues (%s) en %.2f ms%n", resultats.size(), nom, duree / 1e6);
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Résout une instance et mesure le temps réel. */
+    private ResultatInstance resoudre(InstanceBenchmark inst, long meilleureConnue) {
+        long debut = System.nanoTime();
+        Solution solution = solveur.apply(inst.getInstance());
+        long duree = System.nanoTime() - debut;
+        return new ResultatInstance(inst, solution, duree, meilleureConnue);
+    }
+
+    /** Meilleure valeur connue : celle fournie par l'appelant, sinon celle du fichier. */
+    private static long meilleureConnue(InstanceBenchmark inst, long[] meilleuresConnues) {
+        int i = inst.getNumero() - 1;
+        if (meilleuresConnues != null && i < meilleuresConnues.length && meilleuresConnues[i] > 0) {
+            return meilleuresConnues[i];
+        }
+        return inst.getMeilleureConnue();
+    }
+}
@@ -0,0 +1,87 @@
+package solveur.banc;
+
+import sacADos.InstanceBenchmark;
+import sacADos.Solution;
+
+/**
+ * Résultat de la résolution d'une instance benchmark par {@link BancDEssai}.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class ResultatInstance {
+
+    /** Instance résolue. */
+    private final InstanceBenchmark instance;
+
+    /** Solution obtenue. */
+    private final Solution solution;
+
+    /** Durée de résolution (temps réel), en nanosecondes. */
+    private final long dureeNanos;
+
+    /** Meilleure valeur connue utilisée pour l'écart (0 si inconnue). */
+    private final long meilleureConnue;
+
+    /**
+     * @param instance        instance résolue
+     * @param solution        solution obtenue
+     * @param dureeNanos      durée de résolution en nanosecondes
+     * @param meilleureConnue meilleure valeur connue, 0 si inconnue
+     */
+    public ResultatInstance(InstanceBenchmark instance, Solution solution, long dureeNanos, long meilleureConnue) {
+        this.instance = instance;
+        this.solution = solution;
+        this.dureeNanos = dureeNanos;
+        this.meilleureConnue = meilleureConnue;
+    }
+
+    /** @return l'instance résolue. */
+    public InstanceBenchmark getInstance() {
+        return instance;
+    }
+
+    /** @return la solution obtenue. */
+    public Solution getSolution() {
+        return solution;
+    }
+
+    /** @return l'utilité de la solution obtenue. */
+    public long getUtilite() {
+        return solution.utilite();
+    }
+
+    /** @return la durée de résolution en nanosecondes. */
+    public long getDureeNanos() {
+        return dureeNanos;
+    }
+
+    /** @return la meilleure valeur connue, 0 si elle est inconnue. */
+    public long getMeilleureConnue() {
+        return meilleureConnue;
+    }
+
+    /**
+     * Écart relatif à la meilleure valeur connue : (meilleure − utilité) / meilleure.
+     *
+     * @return écart relatif, ou {@code Double.NaN} si la meilleure valeur est inconnue
+     */
+    public double getEcart() {
+        if (meilleureConnue <= 0) {
+            return Double.NaN;
+        }
+        return (double) (meilleureConnue - solution.utilite()) / meilleureConnue;
+    }
+
+    @Override
+    public String toString() {
+        String ecart = (meilleureConnue > 0 ? String.format("%.3f %%", 100 * getEcart()) : "-");
+        return String.format("#%-3d n=%-5d k=%-3d utilite=%-10d temps=%8.2f ms  ecart=%s",
+                instance.getNumero(),
+                instance.getInstance().nombreObjets(),
+                instance.getInstance().dimension(),
+                solution.utilite(),
+                dureeNanos / 1e6,
+                ecart);
+    }
+}
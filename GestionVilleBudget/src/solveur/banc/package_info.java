@@ -0,0 +1,18 @@
+/**
+ * Banc d'essai des solveurs sur les fichiers benchmark OR-Library.
+ *
+ * <p>
+ * La classe {@code BancDEssai} lit en flux tous les problèmes d'un fichier
+ * (mknap1, mknapcb1 à mknapcb9), les résout en parallèle avec une même
+ * configuration de solveur, et rend pour chacun l'utilité, le temps de
+ * résolution et l'écart à la meilleure valeur connue ({@code ResultatInstance}).
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+package solveur.banc;
+
+
+public class package_info {
+
+}
@@ -0,0 +1,502 @@
+package solveur.exact;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.function.Function;
+
+import sacADos.InstanceCompacte;
+import sacADos.Objet;
+import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.glouton.TriParCles;
+
+/**
+ * Résolution exacte du sac à dos multidimensionnel par séparation et évaluation.
+ *
+ * <p>
+ * Principe :
+ * <ul>
+ *   <li>les objets sont fixés un par un (pris / non pris), dans l'ordre
+ *       décroissant d'efficacité utilité / coût pondéré ;</li>
+ *   <li>chaque nœud est évalué par relaxation continue : pour chaque dimension,
+ *       et pour la contrainte « surrogate » somme des contraintes pondérées
+ *       par 1 / budget, on calcule la borne de Dantzig (sac à dos fractionnaire)
+ *       sur les objets encore libres ; la plus petite de ces bornes majore
+ *       l'utilité de tout complément admissible ;</li>
+ *   <li>un nœud dont la borne ne dépasse pas la meilleure solution connue
+ *       est élagué.</li>
+ * </ul>
+ *
+ * <p>
+ * L'exploration se fait en profondeur d'abord (mémoire faible, améliore vite
+ * la solution courante) ou par meilleure borne d'abord (fait baisser plus vite
+ * le majorant). Elle peut être limitée en nombre de nœuds et en temps : le
+ * {@link ResultatExact} rendu contient alors la meilleure solution trouvée et
+ * un majorant prouvé de l'optimum, donc l'écart garanti.
+ *
+ * <p>
+ * Une solution heuristique (gloutonne, Hill Climbing) peut être fournie
+ * comme solution initiale : plus elle est bonne, plus l'élagage est précoce.
+ *
+ * <p>
+ * Comme {@link Solveur}, chaque nœud compte pour une itération du {@link Controle},
+ * et le majorant prouvé lui est signalé à la fin de la recherche.
+ *
+ * @author ZHU YULEI
+ * @version 1.2
+ */
+public class BranchAndBoundSolver implements Solveur<BranchAndBoundSolver.Configuration> {
+
+    /**
+     * Ordre d'exploration des nœuds.
+     */
+    public enum Strategie {
+        /** Profondeur d'abord, branche « pris » en premier. */
+        PROFONDEUR_DABORD,
+        /** Nœud de plus grande borne d'abord. */
+        MEILLEURE_BORNE_DABORD
+    }
+
+    /** Tolérance sur les bornes flottantes (les utilités sont entières). */
+    private static final double EPSILON = 1e-9;
+
+    /** Nombre de nœuds entre deux lectures de l'horloge. */
+    private static final int PERIODE_HORLOGE = 1024;
+
+    /**
+     * Paramètres d'une résolution exacte lancée par le {@link Solveur}.
+     */
+    public static final class Configuration {
+        private final Strategie strategie;
+        private final long limiteNoeuds;
+        private final long limiteTempsMillis;
+        private final Function<InstanceCompacte, Solution> depart;
+
+        /**
+         * @param strategie         ordre d'exploration des nœuds
+         * @param limiteNoeuds      nombre maximal de nœuds explorés
+         * @param limiteTempsMillis durée maximale de la recherche, en millisecondes
+         * @param depart            construction de la solution initiale admissible, ou null
+         *
+         * @throws IllegalArgumentException si une limite est négative ou nulle
+         */
+        public Configuration(Strategie strategie, long limiteNoeuds, long limiteTempsMillis,
+                             Function<InstanceCompacte, Solution> depart) {
+            if (strategie == null) {
+                throw new NullPointerException("La stratégie ne peut pas être null.");
+            }
+            if (limiteNoeuds <= 0 || limiteTempsMillis <= 0) {
+                throw new IllegalArgumentException("Les limites de nœuds et de temps doivent être strictement positives.");
+            }
+            this.strategie = strategie;
+            this.limiteNoeuds = limiteNoeuds;
+            this.limiteTempsMillis = limiteTempsMillis;
+            this.depart = depart;
+        }
+    }
+
+    private final Configuration configuration;
+
+    /**
+     * Construit un solveur en profondeur d'abord, sans limite.
+     */
+    public BranchAndBoundSolver() {
+        this(Strategie.PROFONDEUR_DABORD, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Construit un solveur.
+     *
+     * @param strategie         ordre d'exploration des nœuds
+     * @param limiteNoeuds      nombre maximal de nœuds explorés
+     * @param limiteTempsMillis durée maximale de la recherche, en millisecondes
+     *
+     * @throws IllegalArgumentException si une limite est négative ou nulle
+     */
+    public BranchAndBoundSolver(Strategie strategie, long limiteNoeuds, long limiteTempsMillis) {
+        this.configuration = new Configuration(strategie, limiteNoeuds, limiteTempsMillis,
+                inst -> new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme()));
+    }
+
+    @Override
+    public String nom() {
+        return "exact";
+    }
+
+    /** @return la stratégie et les limites données à la construction, départ glouton f_somme. */
+    @Override
+    public Configuration configurationParDefaut() {
+        return configuration;
+    }
+
+    /**
+     * Résout une instance compacte sous le contrôle d'un {@link Controle}.
+     *
+     * @param instance      instance compacte du sac à dos
+     * @param configuration stratégie, limites et solution de départ
+     * @param controle      contrôle d'arrêt (une itération par nœud), reçoit le majorant prouvé
+     * @return meilleure solution trouvée (optimale si la recherche n'a pas été arrêtée)
+     */
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Configuration configuration, Controle controle) {
+        Solution initiale = (configuration.depart == null ? null : configuration.depart.apply(instance));
+        ResultatExact resultat = explorer(instance, initiale, configuration, controle);
+        controle.signalerBorne(resultat.getBorneSuperieure());
+        return resultat.getSolution();
+    }
+
+    /**
+     * Résout une instance en partant d'une liste d'objets admissible.
+     *
+     * @param instance         instance du sac à dos
+     * @param solutionInitiale solution initiale admissible (gloutonne, Hill Climbing…), ou null
+     * @return la meilleure solution trouvée (optimale si aucune limite n'a été atteinte)
+     */
+    public List<Objet> resoudre(SacADos instance, List<Objet> solutionInitiale) {
+        Solution initiale = (solutionInitiale == null ? null : instance.solution(solutionInitiale));
+        return instance.versObjets(resoudre(instance.compacte(), initiale).getSolution());
+    }
+
+    /**
+     * Résout une instance compacte sans solution initiale.
+     *
+     * @param instance instance compacte du sac à dos
+     * @return résultat : meilleure solution, majorant prouvé, nombre de nœuds
+     */
+    public ResultatExact resoudre(InstanceCompacte instance) {
+        return resoudre(instance, null);
+    }
+
+    /**
+     * Résout une instance compacte.
+     *
+     * @param instance         instance compacte du sac à dos
+     * @param solutionInitiale solution admissible de départ sur la même instance, ou null
+     * @return résultat : meilleure solution, majorant prouvé, nombre de nœuds
+     *
+     * @throws IllegalArgumentException si la solution initiale n'est pas admissible
+     *                                  ou porte sur une autre instance
+     */
+    public ResultatExact resoudre(InstanceCompacte instance, Solution solutionInitiale) {
+        return explorer(instance, solutionInitiale, configuration, Controle.sansLimite());
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Exploration de l'arbre, limitée par la configuration et par le contrôle. */
+    private static ResultatExact explorer(InstanceCompacte instance, Solution solutionInitiale,
+                                          Configuration configuration, Controle controle) {
+
+        long debut = System.nanoTime();
+        long limiteTempsMillis = configuration.limiteTempsMillis;
+        long limiteNoeuds = configuration.limiteNoeuds;
+        long limiteNanos = (limiteTempsMillis >= Long.MAX_VALUE / 1_000_000
+                ? Long.MAX_VALUE
+                : limiteTempsMillis * 1_000_000);
+
+        Solution meilleure = new Solution(instance);
+        if (solutionInitiale != null) {
+            if (!solutionInitiale.estAdmissible()) {
+                throw new IllegalArgumentException("La solution initiale doit être admissible.");
+            }
+            meilleure.copierDepuis(solutionInitiale);
+        }
+
+        Relaxation relaxation = new Relaxation(instance);
+        int n = relaxation.n;
+        int k = relaxation.k;
+
+        long[] budgets = new long[k];
+        for (int d = 0; d < k; d++) {
+            budgets[d] = instance.budget(d);
+        }
+
+        Queue<Noeud> frontiere = (configuration.strategie == Strategie.PROFONDEUR_DABORD
+                ? Collections.asLifoQueue(new ArrayDeque<>())
+                : new PriorityQueue<>(Comparator.comparingDouble((Noeud x) -> x.borne).reversed()));
+
+        Noeud racine = new Noeud(null, 0, false, 0, budgets);
+        racine.borne = relaxation.borne(racine, meilleure.utilite());
+        if (plancher(racine.borne) > meilleure.utilite()) {
+            frontiere.add(racine);
+        }
+
+        long noeuds = 0;
+        boolean interrompu = false;
+
+        while (!frontiere.isEmpty()) {
+
+            if (noeuds >= limiteNoeuds
+                    || (noeuds % PERIODE_HORLOGE == 0 && System.nanoTime() - debut > limiteNanos)) {
+                interrompu = true;
+                break;
+            }
+
+            Noeud x = frontiere.poll();
+
+            // la borne a pu devenir insuffisante depuis l'insertion du nœud
+            if (plancher(x.borne) <= meilleure.utilite() || x.profondeur == n) {
+                continue;
+            }
+            if (!controle.continuer()) {
+                frontiere.add(x);
+                interrompu = true;
+                break;
+            }
+            noeuds++;
+
+            int p = x.profondeur;
+
+            // branche « pris », seulement si l'objet tient dans le reste
+            Noeud pris = null;
+            if (relaxation.tient(p, x.reste)) {
+                long[] reste = x.reste.clone();
+                for (int d = 0; d < k; d++) {
+                    reste[d] -= relaxation.couts[p * k + d];
+                }
+                pris = new Noeud(x, p + 1, true, x.utilite + relaxation.utilites[p], reste);
+
+                if (pris.utilite > meilleure.utilite()) {
+                    meilleure = reconstruire(instance, relaxation, pris);
+                }
+                pris.borne = relaxation.borne(pris, meilleure.utilite());
+            }
+
+            // branche « non pris » (partage le reste du parent, jamais modifié)
+            Noeud nonPris = new Noeud(x, p + 1, false, x.utilite, x.reste);
+            nonPris.borne = relaxation.borne(nonPris, meilleure.utilite());
+
+            // en profondeur, le dernier empilé est exploré en premier
+            if (plancher(nonPris.borne) > meilleure.utilite()) {
+                frontiere.add(nonPris);
+            }
+            if (pris != null && plancher(pris.borne) > meilleure.utilite()) {
+                frontiere.add(pris);
+            }
+        }
+
+        long borneSuperieure = meilleure.utilite();
+        if (interrompu) {
+            for (Noeud x : frontiere) {
+                borneSuperieure = Math.max(borneSuperieure, plancher(x.borne));
+            }
+        }
+
+        return new ResultatExact(meilleure, borneSuperieure, noeuds, System.nanoTime() - debut);
+    }
+
+    /** Partie entière d'une borne (les utilités sont entières). */
+    private static long plancher(double borne) {
+        return (long) Math.floor(borne + EPSILON);
+    }
+
+    /** Reconstruit la solution d'un nœud en remontant ses ancêtres. */
+    private static Solution reconstruire(InstanceCompacte instance, Relaxation relaxation, Noeud noeud) {
+        Solution s = new Solution(instance);
+        for (Noeud x = noeud; x.parent != null; x = x.parent) {
+            if (x.pris) {
+                s.ajouter(relaxation.ordre[x.profondeur - 1]);
+            }
+        }
+        return s;
+    }
+
+    /**
+     * Nœud de l'arbre : les objets de rang &lt; profondeur (dans l'ordre de branchement)
+     * sont fixés, le dernier fixé l'étant à « pris » ou « non pris ».
+     */
+    private static final class Noeud {
+        final Noeud parent;
+        final int profondeur;
+        final boolean pris;
+        final long utilite;
+        final long[] reste;
+        double borne;
+
+        Noeud(Noeud parent, int profondeur, boolean pris, long utilite, long[] reste) {
+            this.parent = parent;
+            this.profondeur = profondeur;
+            this.pris = pris;
+            this.utilite = utilite;
+            this.reste = reste;
+        }
+    }
+
+    /**
+     * Données de l'instance réordonnées pour le branchement, et ordres
+     * d'efficacité précalculés pour chacune des k + 1 relaxations
+     * (une par dimension, plus la contrainte surrogate en dernier).
+     */
+    private static final class Relaxation {
+        final int n;
+        final int k;
+
+        /** ordre[r] = indice d'objet de rang r dans l'ordre de branchement. */
+        final int[] ordre;
+
+        /** Utilités et coûts (objet par objet) dans l'ordre de branchement. */
+        final long[] utilites;
+        final long[] couts;
+
+        /** Multiplicateurs de la contrainte surrogate. */
+        final double[] lambda;
+
+        /** poids[r][p] : poids de l'objet de rang p dans la relaxation r. */
+        final double[][] poids;
+
+        /** tri[r] : rangs triés par efficacité décroissante pour la relaxation r. */
+        final int[][] tri;
+
+        /**
+         * premier[r][d] : première position de tri[r] dont le rang est ≥ d.
+         * Pour la surrogate, tri[k] suit l'ordre de branchement et premier[k][d] = d.
+         */
+        final int[][] premier;
+
+        Relaxation(InstanceCompacte instance) {
+            this.n = instance.nombreObjets();
+            this.k = instance.dimension();
+
+            lambda = new double[k];
+            for (int d = 0; d < k; d++) {
+                int b = instance.budget(d);
+                lambda[d] = (b > 0 ? 1.0 / b : 1.0);
+            }
+
+            // ordre de branchement : efficacité surrogate décroissante
+            double[] efficacite = new double[n];
+            for (int i = 0; i < n; i++) {
+                double w = 0;
+                for (int d = 0; d < k; d++) {
+                    w += lambda[d] * instance.cout(i, d);
+                }
+                efficacite[i] = ratio(instance.utilite(i), w);
+            }
+            ordre = TriParCles.decroissant(efficacite);
+
+            utilites = new long[n];
+            couts = new long[n * k];
+            for (int p = 0; p < n; p++) {
+                int i = ordre[p];
+                utilites[p] = instance.utilite(i);
+                for (int d = 0; d < k; d++) {
+                    couts[p * k + d] = instance.cout(i, d);
+                }
+            }
+
+            poids = new double[k + 1][n];
+            tri = new int[k + 1][];
+            premier = new int[k + 1][];
+            double[] eff = new double[n];
+            for (int r = 0; r <= k; r++) {
+                for (int p = 0; p < n; p++) {
+                    double w;
+                    if (r < k) {
+                        w = couts[p * k + r];
+                    } else {
+                        w = 0;
+                        for (int d = 0; d < k; d++) {
+                            w += lambda[d] * couts[p * k + d];
+                        }
+                    }
+                    poids[r][p] = w;
+                    eff[p] = ratio(utilites[p], w);
+                }
+                tri[r] = TriParCles.decroissant(eff);
+                premier[r] = premiers(tri[r]);
+            }
+        }
+
+        /** @return true si l'objet de rang p tient dans le reste. */
+        boolean tient(int p, long[] reste) {
+            int base = p * k;
+            for (int d = 0; d < k; d++) {
+                if (couts[base + d] > reste[d]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Plus petite des bornes de Dantzig du nœud. S'arrête dès qu'une
+         * borne permet d'élaguer (borne ≤ seuil).
+         */
+        double borne(Noeud x, long seuil) {
+            double meilleure = Double.POSITIVE_INFINITY;
+
+            // surrogate d'abord : c'est en général la plus serrée
+            for (int r = k; r >= 0; r--) {
+                double capacite;
+                if (r == k) {
+                    capacite = 0;
+                    for (int d = 0; d < k; d++) {
+                        capacite += lambda[d] * x.reste[d];
+                    }
+                } else {
+                    capacite = x.reste[r];
+                }
+
+                double b = dantzig(r, x.profondeur, capacite) + x.utilite;
+                if (b < meilleure) {
+                    meilleure = b;
+                    if (plancher(meilleure) <= seuil) {
+                        break;
+                    }
+                }
+            }
+            return meilleure;
+        }
+
+        /** Borne du sac à dos fractionnaire sur les rangs ≥ profondeur, pour la relaxation r. */
+        private double dantzig(int r, int profondeur, double capacite) {
+            double[] w = poids[r];
+            int[] t = tri[r];
+            double somme = 0;
+            for (int j = premier[r][profondeur]; j < n; j++) {
+                int p = t[j];
+                if (p < profondeur) {
+                    continue;
+                }
+                if (w[p] <= capacite) {
+                    capacite -= w[p];
+                    somme += utilites[p];
+                } else {
+                    somme += utilites[p] * capacite / w[p];
+                    break;
+                }
+            }
+            return somme;
+        }
+
+        /** Efficacité utilité / poids, infinie pour un poids nul. */
+        private static double ratio(long utilite, double poids) {
+            return (poids > 0 ? utilite / poids : Double.POSITIVE_INFINITY);
+        }
+
+        /** Pour chaque profondeur d, première position de t dont le rang est ≥ d. */
+        private static int[] premiers(int[] t) {
+            int taille = t.length;
+            int[] position = new int[taille];
+            for (int j = 0; j < taille; j++) {
+                position[t[j]] = j;
+            }
+            int[] premier = new int[taille + 1];
+            premier[taille] = taille;
+            for (int d = taille - 1; d >= 0; d--) {
+                premier[d] = Math.min(position[d], premier[d + 1]);
+            }
+            return premier;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package solveur.exact;
+
+import sacADos.Solution;
+
+/**
+ * Résultat d'une exécution de {@link BranchAndBoundSolver}.
+ *
+ * <p>
+ * Si la recherche a été menée à son terme, la solution est optimale et
+ * la borne supérieure est égale à son utilité. Si elle a été interrompue
+ * (limite de nœuds ou de temps), la solution est la meilleure trouvée et
+ * la borne supérieure majore l'optimum : l'écart relatif est alors prouvé.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class ResultatExact {
+
+    /** Meilleure solution trouvée. */
+    private final Solution solution;
+
+    /** Majorant prouvé de l'utilité optimale. */
+    private final long borneSuperieure;
+
+    /** Nombre de nœuds explorés. */
+    private final long noeuds;
+
+    /** Durée de la recherche, en nanosecondes. */
+    private final long dureeNanos;
+
+    /**
+     * @param solution        meilleure solution trouvée
+     * @param borneSuperieure majorant prouvé de l'utilité optimale
+     * @param noeuds          nombre de nœuds explorés
+     * @param dureeNanos      durée de la recherche en nanosecondes
+     */
+    public ResultatExact(Solution solution, long borneSuperieure, long noeuds, long dureeNanos) {
+        this.solution = solution;
+        this.borneSuperieure = Math.max(borneSuperieure, solution.utilite());
+        this.noeuds = noeuds;
+        this.dureeNanos = dureeNanos;
+    }
+
+    /** @return la meilleure solution trouvée. */
+    public Solution getSolution() {
+        return solution;
+    }
+
+    /** @return l'utilité de la meilleure solution trouvée. */
+    public long getUtilite() {
+        return solution.utilite();
+    }
+
+    /** @return un majorant prouvé de l'utilité optimale. */
+    public long getBorneSuperieure() {
+        return borneSuperieure;
+    }
+
+    /** @return le nombre de nœuds explorés. */
+    public long getNoeuds() {
+        return noeuds;
+    }
+
+    /** @return la durée de la recherche en nanosecondes. */
+    public long getDureeNanos() {
+        return dureeNanos;
+    }
+
+    /** @return true si la solution est prouvée optimale. */
+    public boolean estOptimale() {
+        return borneSuperieure == solution.utilite();
+    }
+
+    /**
+     * Écart relatif prouvé : (borne supérieure − utilité) / borne supérieure.
+     *
+     * @return écart dans [0, 1], 0 si la solution est optimale
+     */
+    public double getEcart() {
+        if (borneSuperieure == 0) {
+            return 0;
+        }
+        return (double) (borneSuperieure - solution.utilite()) / borneSuperieure;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultatExact { utilite=" + solution.utilite()
+                + ", borne=" + borneSuperieure
+                + ", ecart=" + String.format("%.4f %%", 100 * getEcart())
+                + ", noeuds=" + noeuds
+                + (estOptimale() ? ", optimale" : "") + " }";
+    }
+}
@@ -0,0 +1,20 @@
+/**
+ * Contient la résolution exacte du sac-à-dos multidimensionnel
+ * par séparation et évaluation (branch-and-bound).
+ *
+ * <p>
+ * Le solveur élague avec des bornes de relaxation continue, explore l'arbre
+ * en profondeur ou par meilleure borne, et s'arrête sur une limite de nœuds
+ * ou de temps en rendant la meilleure solution et l'écart prouvé.
+ * Une solution heuristique (gloutonne, Hill Climbing) peut servir
+ * de solution initiale.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+package solveur.exact;
+
+
+public class package_info {
+
+}
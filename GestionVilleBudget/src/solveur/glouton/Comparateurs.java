@@ -53,6 +53,10 @@ public class Comparateurs {
      * afin de privilégier des objets qui n’aggravent pas la dimension
      * déjà la plus critique.
      *
+     * Les scores sont figés par l'état de la sélection au moment du tri :
+     * pour une dimension critique réévaluée après chaque ajout, voir
+     * {@link GloutonFmvSolver}.
+     *
      * @param budgets    budgets disponibles dans chaque dimension
      * @param selection  objets déjà sélectionnés
      * @return comparateur adaptatif tenant compte de la situation courante
@@ -0,0 +1,72 @@
+package solveur.glouton;
+
+import java.util.stream.IntStream;
+
+import sacADos.InstanceCompacte;
+
+/**
+ * Critère glouton exprimé comme une fonction de score par objet.
+ *
+ * <p>
+ * Contrairement aux {@link java.util.Comparator} de {@link Comparateurs},
+ * qui recalculent l'efficacité des deux objets à chaque comparaison,
+ * un critère est évalué une seule fois par objet : les scores sont rangés
+ * dans un {@code double[]}, puis les indices sont triés par clé primitive
+ * ({@link TriParCles}). Le tri de n objets coûte ainsi O(n·k) pour les scores
+ * plus O(n) pour le tri par base.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Critere {
+
+    /** Nombre d'objets à partir duquel les scores sont calculés en parallèle. */
+    int SEUIL_PARALLELE = 1 << 16;
+
+    /**
+     * Score d'un objet : plus il est grand, plus l'objet est prioritaire.
+     *
+     * @param instance instance compacte du sac à dos
+     * @param i        indice de l'objet
+     * @return score de l'objet
+     */
+    double score(InstanceCompacte instance, int i);
+
+    /**
+     * Calcule le score de chaque objet de l'instance.
+     *
+     * @param instance instance compacte du sac à dos
+     * @return scores, indexés par objet
+     */
+    default double[] scores(InstanceCompacte instance) {
+        int n = instance.nombreObjets();
+        double[] s = new double[n];
+        IntStream indices = IntStream.range(0, n);
+        if (n >= SEUIL_PARALLELE) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> s[i] = score(instance, i));
+        return s;
+    }
+
+    /**
+     * Ordre des objets par score décroissant (à score égal, par indice croissant).
+     *
+     * @param instance instance compacte du sac à dos
+     * @return permutation des indices 0..n-1
+     */
+    default int[] ordre(InstanceCompacte instance) {
+        return TriParCles.decroissant(scores(instance));
+    }
+
+    /**
+     * Critère opposé : les objets les moins prioritaires passent en premier
+     * (utile pour un ordre de retrait).
+     *
+     * @return critère de score opposé
+     */
+    default Critere inverse() {
+        return (instance, i) -> -score(instance, i);
+    }
+}
@@ -0,0 +1,63 @@
+package solveur.glouton;
+
+import sacADos.InstanceCompacte;
+
+/**
+ * Fournit les critères gloutons sous forme de fonctions de score
+ * ({@link Critere}), évaluées une fois par objet.
+ *
+ * Mêmes critères d’efficacité que {@link Comparateurs} :
+ *   utilité / somme des coûts
+ *   utilité / coût maximal
+ *
+ * Les critères qui pondèrent les dimensions selon les budgets sont fournis
+ * par {@link Multiplicateurs#critere()}.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class Criteres {
+
+    private Criteres() {
+    }
+
+    /**
+     * Critère glouton : f(oi) = utilité / somme des coûts.
+     *
+     * @return critère basé sur l’efficacité globale
+     */
+    public static Critere f_somme() {
+        return Criteres::scoreSomme;
+    }
+
+    /**
+     * Critère glouton : fmax(oi) = utilité / coût maximal.
+     *
+     * @return critère basé sur le coût maximal
+     */
+    public static Critere f_max() {
+        return Criteres::scoreMax;
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** utilité / somme des coûts (infini si la somme est nulle). */
+    private static double scoreSomme(InstanceCompacte instance, int i) {
+        long somme = 0;
+        for (int d = 0, k = instance.dimension(); d < k; d++) {
+            somme += instance.cout(i, d);
+        }
+        return (double) instance.utilite(i) / somme;
+    }
+
+    /** utilité / coût maximal (infini si le coût maximal est nul). */
+    private static double scoreMax(InstanceCompacte instance, int i) {
+        int max = instance.cout(i, 0);
+        for (int d = 1, k = instance.dimension(); d < k; d++) {
+            max = Math.max(max, instance.cout(i, d));
+        }
+        return (double) instance.utilite(i) / max;
+    }
+}
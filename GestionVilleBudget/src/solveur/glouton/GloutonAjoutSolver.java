@@ -4,8 +4,12 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import sacADos.InstanceCompacte;
 import sacADos.Objet;
 import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
 
 /**
  * Implémente l'algorithme glouton « à ajout ».
@@ -22,10 +26,43 @@ import sacADos.SacADos;
  * Cette approche permet d'obtenir rapidement une solution admissible,
  * mais elle n'est pas garantie optimale.
  *
+ * <p>
+ * Le calcul se fait sur la représentation compacte de l'instance
+ * ({@link InstanceCompacte}) : les objets y sont désignés par leur indice.
+ * Avec un {@link Critere}, les scores sont calculés une seule fois par objet
+ * et l'ordre est obtenu par un tri primitif ({@link TriParCles}).
+ *
+ * <p>
+ * Comme {@link Solveur}, sa configuration est le critère glouton (f_somme par défaut).
+ *
  * @author ZHU YULEI
- * @version 2.0
+ * @version 3.2
  */
-public class GloutonAjoutSolver {
+public class GloutonAjoutSolver implements Solveur<Critere> {
+
+    @Override
+    public String nom() {
+        return "ajout";
+    }
+
+    @Override
+    public Critere configurationParDefaut() {
+        return Criteres.f_somme();
+    }
+
+    /**
+     * Applique la méthode gloutonne « à ajout » avec le critère donné (une seule passe).
+     *
+     * @param instance instance compacte du sac à dos
+     * @param critere  critère glouton
+     * @param controle contrôle de la résolution (une itération)
+     * @return solution gloutonne admissible
+     */
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Critere critere, Controle controle) {
+        controle.continuer();
+        return resoudre(instance, critere);
+    }
 
     /**
      * Applique la méthode gloutonne « à ajout » pour sélectionner une liste d’objets.
@@ -35,23 +72,60 @@ public class GloutonAjoutSolver {
      * @return une liste d’objets représentant la solution gloutonne admissible
      */
     public List<Objet> resoudre(SacADos instance, Comparator<Objet> comparateur) {
+        return resoudreDansLOrdre(instance, instance.trierIndices(comparateur));
+    }
 
-        // copie des objets pour éviter de modifier la liste originale
-        List<Objet> objetsTries = new ArrayList<>(instance.getObjets());
-        objetsTries.sort(comparateur);
+    /**
+     * Applique la méthode gloutonne « à ajout » avec un critère à scores précalculés,
+     * directement sur une instance compacte.
+     *
+     * @param instance instance compacte du sac à dos
+     * @param critere  critère glouton, évalué une fois par objet
+     * @return solution gloutonne admissible
+     */
+    public Solution resoudre(InstanceCompacte instance, Critere critere) {
+        return resoudre(instance, critere.ordre(instance));
+    }
 
-        List<Objet> selection = new ArrayList<>();
+    /**
+     * Applique la méthode gloutonne « à ajout » directement sur une instance compacte.
+     *
+     * <p>
+     * Chaque candidat est testé en O(k) grâce à la consommation maintenue
+     * par la {@link Solution}.
+     *
+     * @param instance instance compacte du sac à dos
+     * @param ordre    indices des objets, du plus prioritaire au moins prioritaire
+     * @return solution gloutonne admissible
+     */
+    public Solution resoudre(InstanceCompacte instance, int[] ordre) {
 
-        // sélection gloutonne
-        for (Objet o : objetsTries) {
-            selection.add(o);
+        Solution selection = new Solution(instance);
 
-            // si l'ajout viole un budget → on retire l'objet
-            if (!instance.estAdmissible(selection)) {
-                selection.remove(o);
+        // sélection gloutonne : on n'ajoute que si aucun budget n'est violé
+        for (int i : ordre) {
+            if (!selection.contient(i) && selection.peutAjouter(i)) {
+                selection.ajouter(i);
             }
         }
 
         return selection;
     }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Résout selon un ordre d'indices et restitue les objets dans l'ordre d'ajout. */
+    private List<Objet> resoudreDansLOrdre(SacADos instance, int[] ordre) {
+        Solution solution = resoudre(instance.compacte(), ordre);
+
+        List<Objet> selection = new ArrayList<>(solution.taille());
+        for (int i : ordre) {
+            if (solution.contient(i)) {
+                selection.add(instance.getObjets().get(i));
+            }
+        }
+        return selection;
+    }
 }
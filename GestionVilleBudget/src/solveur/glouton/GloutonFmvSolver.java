@@ -0,0 +1,185 @@
+package solveur.glouton;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import sacADos.InstanceCompacte;
+import sacADos.Objet;
+import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
+
+/**
+ * Implémente l'algorithme glouton adaptatif fmv (« most violated »).
+ *
+ * <p>
+ * À chaque étape :
+ * <ul>
+ *   <li>la dimension critique est celle où consommation − budget est maximal
+ *       (la plus proche du dépassement) ;</li>
+ *   <li>on choisit, parmi les objets non encore examinés, celui de meilleur
+ *       rapport utilité / coût dans cette dimension ;</li>
+ *   <li>il est ajouté s'il respecte tous les budgets, écarté sinon
+ *       (la consommation ne faisant que croître, il ne pourra plus jamais entrer).</li>
+ * </ul>
+ *
+ * <p>
+ * Contrairement au comparateur {@link Comparateurs#fmv(int[], List)}, dont les
+ * scores sont figés au moment du tri, la dimension critique est réévaluée
+ * après chaque ajout, en O(k) grâce à la consommation maintenue par la
+ * {@link Solution}.
+ *
+ * <p>
+ * Le score d'un objet dans une dimension ne change jamais : seule la dimension
+ * critique évolue. Chaque dimension dispose donc d'une file de priorité
+ * statique (indices triés par score décroissant, {@link TriParCles}),
+ * construite paresseusement la première fois que la dimension devient critique,
+ * et d'un curseur. Les objets déjà examinés via une autre file sont sautés
+ * au moment de leur extraction (suppression paresseuse). Chaque objet est
+ * extrait au plus une fois par file : O(n·k) au total, tris compris.
+ *
+ * <p>
+ * Comme {@link Solveur}, il n'a pas de configuration.
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+public class GloutonFmvSolver implements Solveur<Void> {
+
+    @Override
+    public String nom() {
+        return "fmv";
+    }
+
+    @Override
+    public Void configurationParDefaut() {
+        return null;
+    }
+
+    /**
+     * Applique le glouton fmv adaptatif (une seule passe).
+     *
+     * @param instance      instance compacte du sac à dos
+     * @param configuration ignorée
+     * @param controle      contrôle de la résolution (une itération)
+     * @return solution gloutonne admissible
+     */
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Void configuration, Controle controle) {
+        controle.continuer();
+        return resoudre(instance);
+    }
+
+    /**
+     * Applique le glouton fmv adaptatif pour sélectionner une liste d’objets.
+     *
+     * @param instance instance du sac à dos contenant les objets et les budgets
+     * @return objets sélectionnés, dans l'ordre d'ajout
+     */
+    public List<Objet> resoudre(SacADos instance) {
+        InstanceCompacte compacte = instance.compacte();
+        int[] ordreAjout = new int[compacte.nombreObjets()];
+        int nbAjouts = resoudre(compacte, new Solution(compacte), ordreAjout);
+
+        List<Objet> selection = new ArrayList<>(nbAjouts);
+        for (int r = 0; r < nbAjouts; r++) {
+            selection.add(instance.getObjets().get(ordreAjout[r]));
+        }
+        return selection;
+    }
+
+    /**
+     * Applique le glouton fmv adaptatif directement sur une instance compacte.
+     *
+     * @param instance instance compacte du sac à dos
+     * @return solution gloutonne admissible
+     */
+    public Solution resoudre(InstanceCompacte instance) {
+        Solution selection = new Solution(instance);
+        resoudre(instance, selection, null);
+        return selection;
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /**
+     * Remplit la sélection (vide au départ).
+     *
+     * @param ordreAjout tableau recevant les indices dans l'ordre d'ajout, ou null
+     * @return nombre d'objets ajoutés
+     */
+    private int resoudre(InstanceCompacte instance, Solution selection, int[] ordreAjout) {
+
+        int n = instance.nombreObjets();
+        int k = instance.dimension();
+
+        int[][] files = new int[k][];
+        int[] curseurs = new int[k];
+        boolean[] examine = new boolean[n];
+
+        int restants = n;
+        int nbAjouts = 0;
+        int critique = dimensionCritique(selection, k);
+
+        while (restants > 0) {
+
+            // file de la dimension critique, construite à la première utilisation
+            if (files[critique] == null) {
+                files[critique] = ordreDimension(instance, critique);
+            }
+            int[] file = files[critique];
+
+            // extraction du meilleur objet non examiné (suppression paresseuse)
+            int c = curseurs[critique];
+            while (examine[file[c]]) {
+                c++;
+            }
+            int i = file[c];
+            curseurs[critique] = c + 1;
+
+            examine[i] = true;
+            restants--;
+
+            if (selection.peutAjouter(i)) {
+                selection.ajouter(i);
+                if (ordreAjout != null) {
+                    ordreAjout[nbAjouts] = i;
+                }
+                nbAjouts++;
+                critique = dimensionCritique(selection, k);
+            }
+        }
+        return nbAjouts;
+    }
+
+    /**
+     * Dimension où consommation − budget est maximal (la première en cas d'égalité).
+     */
+    private static int dimensionCritique(Solution selection, int k) {
+        int pire = 0;
+        long plusPetitReste = Long.MAX_VALUE;
+        for (int d = 0; d < k; d++) {
+            long reste = selection.reste(d);
+            if (reste < plusPetitReste) {
+                plusPetitReste = reste;
+                pire = d;
+            }
+        }
+        return pire;
+    }
+
+    /**
+     * Indices triés par utilité / coût dans la dimension d, décroissant
+     * (score infini pour un coût nul, comme pour le comparateur fmv).
+     */
+    private static int[] ordreDimension(InstanceCompacte instance, int d) {
+        Critere critere = (inst, i) -> {
+            int cout = inst.cout(i, d);
+            return (cout == 0 ? Double.POSITIVE_INFINITY : (double) inst.utilite(i) / cout);
+        };
+        return critere.ordre(instance);
+    }
+}
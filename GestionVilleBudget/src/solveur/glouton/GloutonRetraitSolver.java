@@ -1,11 +1,14 @@
 package solveur.glouton;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import sacADos.InstanceCompacte;
 import sacADos.Objet;
 import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
 
 /**
  * Implémente la méthode gloutonne « à retrait ».
@@ -22,10 +25,71 @@ import sacADos.SacADos;
  *
  * <p>Cette méthode combine un nettoyage (retrait) puis une optimisation locale (ajout).
  *
+ * <p>
+ * Le calcul se fait sur la représentation compacte de l'instance
+ * ({@link InstanceCompacte}) : les objets y sont désignés par leur indice.
+ * Avec des {@link Critere}, les ordres de retrait et d'ajout sont obtenus
+ * par scores précalculés et tri primitif ({@link TriParCles}).
+ *
  * @author ZHU YULEI
- * @version 2.0
+ * @version 3.3
  */
-public class GloutonRetraitSolver {
+public class GloutonRetraitSolver implements Solveur<GloutonRetraitSolver.Configuration> {
+
+    /**
+     * Critères de retrait et d'ajout du glouton.
+     */
+    public static final class Configuration {
+        private final Critere retrait;
+        private final Critere ajout;
+
+        /**
+         * @param retrait critère dont l’ordre décroissant est l’ordre de retrait
+         * @param ajout   critère de la phase d’ajout
+         */
+        public Configuration(Critere retrait, Critere ajout) {
+            if (retrait == null || ajout == null) {
+                throw new NullPointerException("Les critères ne peuvent pas être null.");
+            }
+            this.retrait = retrait;
+            this.ajout = ajout;
+        }
+
+        /** @return le critère de retrait. */
+        public Critere getRetrait() {
+            return retrait;
+        }
+
+        /** @return le critère d'ajout. */
+        public Critere getAjout() {
+            return ajout;
+        }
+    }
+
+    @Override
+    public String nom() {
+        return "retrait";
+    }
+
+    /** @return retrait par f_somme croissant, ajout par f_somme décroissant. */
+    @Override
+    public Configuration configurationParDefaut() {
+        return new Configuration(Criteres.f_somme().inverse(), Criteres.f_somme());
+    }
+
+    /**
+     * Applique l’algorithme glouton « à retrait » (une seule passe).
+     *
+     * @param instance      instance compacte du sac à dos
+     * @param configuration critères de retrait et d'ajout
+     * @param controle      contrôle de la résolution (une itération)
+     * @return solution admissible (vide si aucun retrait ne suffit)
+     */
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Configuration configuration, Controle controle) {
+        controle.continuer();
+        return resoudre(instance, configuration.retrait, configuration.ajout);
+    }
 
     /**
      * Applique l’algorithme glouton « à retrait » sur une instance du sac à dos.
@@ -40,46 +104,103 @@ public class GloutonRetraitSolver {
             Comparator<Objet> compRetrait,
             Comparator<Objet> compAjout) {
 
-        // --- 1) S = O (copie complète des objets)
-        List<Objet> selection = new ArrayList<>(instance.getObjets());
+        int[] ordreRetrait = instance.trierIndices(compRetrait);
+        int[] ordreAjout = instance.trierIndices(compAjout);
+
+        return instance.versObjets(resoudre(instance.compacte(), ordreRetrait, ordreAjout));
+    }
+
+    /**
+     * Applique l’algorithme glouton « à retrait » avec des critères à scores précalculés,
+     * directement sur une instance compacte.
+     *
+     * @param instance       instance compacte du sac à dos
+     * @param critereRetrait critère dont l’ordre décroissant est l’ordre de retrait
+     * @param critereAjout   critère de la phase d’ajout
+     * @return solution admissible (vide si aucun retrait ne suffit)
+     */
+    public Solution resoudre(InstanceCompacte instance, Critere critereRetrait, Critere critereAjout) {
+        return resoudre(instance, critereRetrait.ordre(instance), critereAjout.ordre(instance));
+    }
+
+    /**
+     * Applique l’algorithme glouton « à retrait » directement sur une instance compacte.
+     *
+     * <p>
+     * La phase de retrait maintient le vecteur des excès (consommation − budget)
+     * et le nombre de dimensions en dépassement : chaque retrait coûte O(k)
+     * et la phase s’arrête dès que toutes les dimensions sont dans leur budget.
+     * Chaque tentative d’ajout coûte O(k) grâce à la consommation maintenue
+     * par la {@link Solution}. Le tout est en O(n·k), hors calcul des ordres.
+     *
+     * @param instance     instance compacte du sac à dos
+     * @param ordreRetrait indices de tous les objets, dans l’ordre de retrait
+     * @param ordreAjout   indices de tous les objets, dans l’ordre de la phase d’ajout
+     * @return solution admissible (vide si aucun retrait ne suffit)
+     *
+     * @throws IllegalArgumentException si un indice apparaît deux fois dans l’ordre de retrait
+     */
+    public Solution resoudre(InstanceCompacte instance, int[] ordreRetrait, int[] ordreAjout) {
 
-        // --- 2) Trier du moins intéressant au plus intéressant
-        selection.sort(compRetrait);
+        int n = instance.nombreObjets();
+        int k = instance.dimension();
 
-        // --- 3) Phase de retrait : on enlève tant que la solution reste inadmissible
-        for (Objet o : new ArrayList<>(selection)) {
-            if (!instance.estAdmissible(selection)) {
-                selection.remove(o);
+        // --- 1) S = O (tous les objets) : excès de consommation par dimension
+        boolean[] garde = new boolean[n];
+        long[] exces = new long[k];
+        for (int d = 0; d < k; d++) {
+            exces[d] = -instance.budget(d);
+        }
+        for (int i : ordreRetrait) {
+            if (garde[i]) {
+                throw new IllegalArgumentException("Objet déjà sélectionné : " + i);
+            }
+            garde[i] = true;
+            for (int d = 0; d < k; d++) {
+                exces[d] += instance.cout(i, d);
             }
         }
 
-        // Si ce n'est toujours pas admissible → renvoyer vide
-        if (!instance.estAdmissible(selection)) {
-            return new ArrayList<>();
+        int depassees = 0;
+        for (int d = 0; d < k; d++) {
+            if (exces[d] > 0) depassees++;
         }
 
-        // --- 4) Phase d’ajout : tentative d'amélioration
-        List<Objet> resultat = new ArrayList<>(selection);
-        List<Objet> candidats = new ArrayList<>();
-
-        // candidats = objets non présents dans la sélection actuelle
-        for (Objet o : instance.getObjets()) {
-            if (!selection.contains(o)) {
-                candidats.add(o);
+        // --- 2) + 3) Phase de retrait, du moins intéressant au plus intéressant,
+        //             tant qu'au moins une dimension dépasse son budget
+        for (int r = 0; r < ordreRetrait.length && depassees > 0; r++) {
+            int i = ordreRetrait[r];
+            garde[i] = false;
+            for (int d = 0; d < k; d++) {
+                long avant = exces[d];
+                exces[d] = avant - instance.cout(i, d);
+                if (avant > 0 && exces[d] <= 0) {
+                    depassees--;
+                }
             }
         }
 
-        // tri selon critère d’ajout
-        candidats.sort(compAjout);
+        // Si ce n'est toujours pas admissible → renvoyer vide
+        if (depassees > 0) {
+            return new Solution(instance);
+        }
 
-        // tentative d’ajout gloutonne
-        for (Objet o : candidats) {
-            resultat.add(o);
-            if (!instance.estAdmissible(resultat)) {
-                resultat.remove(o);
+        Solution selection = new Solution(instance);
+        for (int i = 0; i < n; i++) {
+            if (garde[i]) {
+                selection.ajouter(i);
+            }
+        }
+
+        // --- 4) Phase d’ajout : tentative d'amélioration
+        //        (candidats = objets absents de la sélection, dans l'ordre d'ajout)
+        for (int i : ordreAjout) {
+            if (!garde[i] && selection.peutAjouter(i)) {
+                selection.ajouter(i);
+                garde[i] = true;
             }
         }
 
-        return resultat;
+        return selection;
     }
 }
@@ -0,0 +1,238 @@
+package solveur.glouton;
+
+import sacADos.InstanceCompacte;
+
+/**
+ * Multiplicateurs par dimension d'une instance, pour des critères gloutons
+ * qui tiennent compte des budgets.
+ *
+ * <p>
+ * Un objet est évalué par utilité / coût pondéré, où le coût pondéré vaut
+ * Σ_d λ_d · coût(i, d). Les dimensions serrées pèsent ainsi plus que
+ * les dimensions où le budget est large, contrairement à f_somme et f_max
+ * qui traitent toutes les dimensions de la même façon.
+ *
+ * <p>
+ * Deux façons de calculer les multiplicateurs :
+ * <ul>
+ *   <li>{@link #surrogate(InstanceCompacte)} — en une passe : λ_d = (demande_d / budget_d) / budget_d,
+ *       où demande_d est la somme des coûts de la dimension d ;</li>
+ *   <li>{@link #lagrangiens(InstanceCompacte)} — par optimisation par sous-gradient
+ *       du dual lagrangien L(λ) = Σ_d λ_d·b_d + Σ_i max(0, u_i − Σ_d λ_d·c_id).</li>
+ * </ul>
+ *
+ * <p>
+ * Pour tout λ ≥ 0, L(λ) majore l'utilité optimale : elle est rendue par
+ * {@link #getBorne()}.
+ *
+ * <p>
+ * Le calcul est fait une fois par instance ; l'objet est immuable et peut être
+ * réutilisé pour toutes les résolutions de la même instance
+ * (glouton à ajout, à retrait, points de départ d'une recherche locale…).
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+public final class Multiplicateurs {
+
+    /** Nombre d'itérations par défaut du sous-gradient. */
+    public static final int ITERATIONS = 200;
+
+    /** Nombre d'itérations sans amélioration avant de diviser le pas par deux. */
+    private static final int PATIENCE = 5;
+
+    /** Multiplicateur de chaque dimension (≥ 0). */
+    private final double[] lambda;
+
+    /** Valeur du dual lagrangien L(λ), majorant de l'optimum. */
+    private final double borne;
+
+    private Multiplicateurs(double[] lambda, double borne) {
+        this.lambda = lambda;
+        this.borne = borne;
+    }
+
+    /**
+     * Multiplicateurs surrogate, calculés en une passe O(n·k).
+     *
+     * @param instance instance compacte du sac à dos
+     * @return multiplicateurs de l'instance
+     */
+    public static Multiplicateurs surrogate(InstanceCompacte instance) {
+        int k = instance.dimension();
+        long[] demande = demandes(instance);
+
+        double[] lambda = new double[k];
+        for (int d = 0; d < k; d++) {
+            double budget = Math.max(1, instance.budget(d));
+            lambda[d] = demande[d] / budget / budget;
+        }
+        return new Multiplicateurs(lambda, dual(instance, lambda, null));
+    }
+
+    /**
+     * Multiplicateurs lagrangiens, avec {@value #ITERATIONS} itérations de sous-gradient.
+     *
+     * @param instance instance compacte du sac à dos
+     * @return multiplicateurs de l'instance
+     */
+    public static Multiplicateurs lagrangiens(InstanceCompacte instance) {
+        return lagrangiens(instance, ITERATIONS);
+    }
+
+    /**
+     * Multiplicateurs lagrangiens, par sous-gradient avec pas de Polyak.
+     *
+     * <p>
+     * La descente part des multiplicateurs surrogate ; la cible du pas est l'utilité
+     * du glouton à ajout qu'ils guident. Chaque itération coûte O(n·k) ; on garde les multiplicateurs de plus
+     * petite borne, et on s'arrête dès que la borne atteint la cible.
+     *
+     * @param instance   instance compacte du sac à dos
+     * @param iterations nombre maximal d'itérations
+     * @return multiplicateurs de l'instance
+     *
+     * @throws IllegalArgumentException si iterations ≤ 0
+     */
+    public static Multiplicateurs lagrangiens(InstanceCompacte instance, int iterations) {
+
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Le nombre d'itérations doit être strictement positif.");
+        }
+
+        int k = instance.dimension();
+
+        // cible : une solution admissible (minorant de l'optimum)
+        Multiplicateurs depart = surrogate(instance);
+        long minorant = new GloutonAjoutSolver().resoudre(instance, depart.critere()).utilite();
+
+        double[] lambda = depart.lambda.clone();
+        double[] meilleurs = depart.lambda.clone();
+        double meilleureBorne = depart.borne;
+
+        double[] gradient = new double[k];
+        double theta = 2;
+        int sansProgres = 0;
+
+        for (int it = 0; it < iterations; it++) {
+
+            double l = dual(instance, lambda, gradient);
+            if (l < meilleureBorne) {
+                meilleureBorne = l;
+                System.arraycopy(lambda, 0, meilleurs, 0, k);
+                sansProgres = 0;
+            } else if (++sansProgres >= PATIENCE) {
+                theta /= 2;
+                sansProgres = 0;
+            }
+
+            // borne atteinte : les utilités étant entières, l'écart est nul
+            if (meilleureBorne - minorant < 1) {
+                break;
+            }
+
+            // projection : une composante nulle qui voudrait devenir négative ne bouge pas
+            double norme = 0;
+            for (int d = 0; d < k; d++) {
+                if (lambda[d] == 0 && gradient[d] > 0) {
+                    gradient[d] = 0;
+                }
+                norme += gradient[d] * gradient[d];
+            }
+            if (norme == 0) {
+                break;
+            }
+
+            double pas = theta * (l - minorant) / norme;
+            for (int d = 0; d < k; d++) {
+                lambda[d] = Math.max(0, lambda[d] - pas * gradient[d]);
+            }
+        }
+
+        return new Multiplicateurs(meilleurs, meilleureBorne);
+    }
+
+    /**
+     * @param d dimension
+     * @return le multiplicateur de la dimension d
+     */
+    public double get(int d) {
+        return lambda[d];
+    }
+
+    /** @return une copie des multiplicateurs. */
+    public double[] valeurs() {
+        return lambda.clone();
+    }
+
+    /** @return L(λ), majorant de l'utilité optimale de l'instance. */
+    public double getBorne() {
+        return borne;
+    }
+
+    /**
+     * Critère glouton : utilité / Σ_d λ_d · coût(i, d)
+     * (infini si le coût pondéré est nul).
+     *
+     * @return critère utilisant ces multiplicateurs
+     */
+    public Critere critere() {
+        return (instance, i) -> {
+            double cout = 0;
+            for (int d = 0; d < lambda.length; d++) {
+                cout += lambda[d] * instance.cout(i, d);
+            }
+            return (cout > 0 ? instance.utilite(i) / cout : Double.POSITIVE_INFINITY);
+        };
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Somme des coûts de chaque dimension. */
+    private static long[] demandes(InstanceCompacte instance) {
+        int n = instance.nombreObjets();
+        int k = instance.dimension();
+        long[] demande = new long[k];
+        for (int i = 0; i < n; i++) {
+            for (int d = 0; d < k; d++) {
+                demande[d] += instance.cout(i, d);
+            }
+        }
+        return demande;
+    }
+
+    /**
+     * Évalue L(λ) et, si demandé, un sous-gradient : b_d − Σ_{i retenu} c_id,
+     * où un objet est retenu si son utilité réduite u_i − Σ_d λ_d·c_id est positive.
+     */
+    private static double dual(InstanceCompacte instance, double[] lambda, double[] gradient) {
+        int n = instance.nombreObjets();
+        int k = instance.dimension();
+
+        double l = 0;
+        for (int d = 0; d < k; d++) {
+            l += lambda[d] * instance.budget(d);
+            if (gradient != null) {
+                gradient[d] = instance.budget(d);
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            double reduite = instance.utilite(i);
+            for (int d = 0; d < k; d++) {
+                reduite -= lambda[d] * instance.cout(i, d);
+            }
+            if (reduite > 0) {
+                l += reduite;
+                if (gradient != null) {
+                    for (int d = 0; d < k; d++) {
+                        gradient[d] -= instance.cout(i, d);
+                    }
+                }
+            }
+        }
+        return l;
+    }
+}
@@ -0,0 +1,221 @@
+package solveur.glouton;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import sacADos.InstanceCompacte;
+import sacADos.Objet;
+import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
+
+/**
+ * Portefeuille de constructions gloutonnes exécutées en parallèle.
+ *
+ * <p>
+ * Variantes lancées, sur la même instance partagée en lecture seule :
+ * <ul>
+ *   <li>{@link GloutonAjoutSolver} avec chaque critère ;</li>
+ *   <li>{@link GloutonRetraitSolver} avec chaque couple (critère de retrait,
+ *       critère d'ajout) — les objets de plus petit score sont retirés en premier ;</li>
+ *   <li>{@link GloutonFmvSolver}.</li>
+ * </ul>
+ * Critères : f_somme, f_max, multiplicateurs surrogate et lagrangiens.
+ *
+ * <p>
+ * L'ordre de chaque critère est calculé une seule fois, dans sa propre tâche,
+ * puis partagé par toutes les variantes qui l'utilisent ; chaque variante
+ * démarre dès que ses ordres sont prêts. Le résultat donne l'utilité et la
+ * durée de chaque variante ainsi que la meilleure solution.
+ *
+ * <p>
+ * Comme {@link Solveur}, il n'a pas de configuration : le nombre de threads
+ * est fixé à la construction.
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+public class PortefeuilleGlouton implements Solveur<Void> {
+
+    /** Noms des critères, dans l'ordre du portefeuille. */
+    private static final String[] CRITERES = {"f_somme", "f_max", "surrogate", "lagrange"};
+
+    /** Nombre de threads de résolution. */
+    private final int nombreThreads;
+
+    /**
+     * Construit un portefeuille utilisant tous les cœurs disponibles.
+     */
+    public PortefeuilleGlouton() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un portefeuille.
+     *
+     * @param nombreThreads nombre de threads de résolution
+     *
+     * @throws IllegalArgumentException si nombreThreads ≤ 0
+     */
+    public PortefeuilleGlouton(int nombreThreads) {
+        if (nombreThreads <= 0) {
+            throw new IllegalArgumentException("Le nombre de threads doit être strictement positif.");
+        }
+        this.nombreThreads = nombreThreads;
+    }
+
+    /**
+     * Exécute toutes les variantes et retourne la meilleure solution.
+     *
+     * @param instance instance du sac à dos
+     * @return objets de la meilleure solution
+     */
+    public List<Objet> resoudre(SacADos instance) {
+        return instance.versObjets(executer(instance.compacte()).getSolution());
+    }
+
+    @Override
+    public String nom() {
+        return "portefeuille";
+    }
+
+    @Override
+    public Void configurationParDefaut() {
+        return null;
+    }
+
+    /**
+     * Exécute toutes les variantes et retourne la meilleure solution (une itération).
+     *
+     * @param instance      instance compacte du sac à dos
+     * @param configuration ignorée
+     * @param controle      contrôle de la résolution
+     * @return meilleure solution du portefeuille
+     */
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Void configuration, Controle controle) {
+        controle.continuer();
+        return executer(instance).getSolution();
+    }
+
+    /**
+     * Exécute toutes les variantes en parallèle.
+     *
+     * @param instance instance compacte du sac à dos (lue simultanément par plusieurs threads)
+     * @return résultats de chaque variante et meilleure solution
+     */
+    public ResultatPortefeuille executer(InstanceCompacte instance) {
+
+        long debut = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(nombreThreads);
+
+        try {
+            // un ordre par critère, calculé une fois
+            List<CompletableFuture<Ordre>> ordres = new ArrayList<>();
+            for (String critere : CRITERES) {
+                ordres.add(CompletableFuture.supplyAsync(() -> Ordre.calculer(critere, instance), pool));
+            }
+
+            List<CompletableFuture<ResultatVariante>> variantes = new ArrayList<>();
+            GloutonAjoutSolver ajout = new GloutonAjoutSolver();
+            GloutonRetraitSolver retrait = new GloutonRetraitSolver();
+
+            for (int c = 0; c < CRITERES.length; c++) {
+                String nom = "ajout/" + CRITERES[c];
+                variantes.add(ordres.get(c).thenApplyAsync(o ->
+                        chronometrer(nom, o.dureeNanos, inst -> ajout.resoudre(inst, o.indices), instance), pool));
+            }
+
+            for (int r = 0; r < CRITERES.length; r++) {
+                for (int a = 0; a < CRITERES.length; a++) {
+                    String nom = "retrait/" + CRITERES[r] + "/" + CRITERES[a];
+                    boolean memeCritere = (r == a);
+                    variantes.add(ordres.get(r).thenCombineAsync(ordres.get(a), (or, oa) ->
+                            chronometrer(nom, or.dureeNanos + (memeCritere ? 0 : oa.dureeNanos),
+                                    inst -> retrait.resoudre(inst, inverser(or.indices), oa.indices), instance), pool));
+                }
+            }
+
+            variantes.add(CompletableFuture.supplyAsync(() ->
+                    chronometrer("fmv", 0, inst -> new GloutonFmvSolver().resoudre(inst), instance), pool));
+
+            List<ResultatVariante> resultats = new ArrayList<>(variantes.size());
+            for (CompletableFuture<ResultatVariante> v : variantes) {
+                resultats.add(v.join());
+            }
+            return new ResultatPortefeuille(resultats, System.nanoTime() - debut);
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Erreur pendant la résolution.", e.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Exécute une variante et mesure sa durée, ajoutée à celle de ses critères. */
+    private static ResultatVariante chronometrer(String nom, long dureeCriteres,
+                                                 Function<InstanceCompacte, Solution> variante,
+                                                 InstanceCompacte instance) {
+        long debut = System.nanoTime();
+        Solution solution = variante.apply(instance);
+        return new ResultatVariante(nom, solution, dureeCriteres + System.nanoTime() - debut);
+    }
+
+    /** Copie inversée d'un ordre (du plus petit score au plus grand). */
+    private static int[] inverser(int[] ordre) {
+        int n = ordre.length;
+        int[] res = new int[n];
+        for (int r = 0; r < n; r++) {
+            res[r] = ordre[n - 1 - r];
+        }
+        return res;
+    }
+
+    /** Ordre d'un critère et durée de son calcul. */
+    private static final class Ordre {
+        final int[] indices;
+        final long dureeNanos;
+
+        private Ordre(int[] indices, long dureeNanos) {
+            this.indices = indices;
+            this.dureeNanos = dureeNanos;
+        }
+
+        static Ordre calculer(String nom, InstanceCompacte instance) {
+            long debut = System.nanoTime();
+            Critere critere;
+            switch (nom) {
+                case "f_somme":
+                    critere = Criteres.f_somme();
+                    break;
+                case "f_max":
+                    critere = Criteres.f_max();
+                    break;
+                case "surrogate":
+                    critere = Multiplicateurs.surrogate(instance).critere();
+                    break;
+                case "lagrange":
+                    critere = Multiplicateurs.lagrangiens(instance).critere();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Critère inconnu : " + nom);
+            }
+            int[] indices = critere.ordre(instance);
+            return new Ordre(indices, System.nanoTime() - debut);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package solveur.glouton;
+
+import java.util.List;
+
+import sacADos.Solution;
+
+/**
+ * Résultat d'une exécution de {@link PortefeuilleGlouton} : toutes les
+ * variantes, dans l'ordre du portefeuille, et la meilleure d'entre elles.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class ResultatPortefeuille {
+
+    /** Résultats de chaque variante. */
+    private final List<ResultatVariante> variantes;
+
+    /** Meilleure variante (la première en cas d'égalité). */
+    private final ResultatVariante meilleure;
+
+    /** Durée totale (temps réel), en nanosecondes. */
+    private final long dureeNanos;
+
+    /**
+     * @param variantes  résultats de chaque variante (au moins une)
+     * @param dureeNanos durée totale en nanosecondes
+     */
+    public ResultatPortefeuille(List<ResultatVariante> variantes, long dureeNanos) {
+        this.variantes = List.copyOf(variantes);
+        this.dureeNanos = dureeNanos;
+
+        ResultatVariante m = this.variantes.get(0);
+        for (ResultatVariante v : this.variantes) {
+            if (v.getUtilite() > m.getUtilite()) {
+                m = v;
+            }
+        }
+        this.meilleure = m;
+    }
+
+    /** @return les résultats de chaque variante, dans l'ordre du portefeuille. */
+    public List<ResultatVariante> getVariantes() {
+        return variantes;
+    }
+
+    /** @return la meilleure variante. */
+    public ResultatVariante getMeilleure() {
+        return meilleure;
+    }
+
+    /** @return la meilleure solution. */
+    public Solution getSolution() {
+        return meilleure.getSolution();
+    }
+
+    /** @return la durée totale (temps réel) en nanosecondes. */
+    public long getDureeNanos() {
+        return dureeNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (ResultatVariante v : variantes) {
+            sb.append(v == meilleure ? "* " : "  ").append(v).append('\n');
+        }
+        sb.append(String.format("%d variantes en %.2f ms", variantes.size(), dureeNanos / 1e6));
+        return sb.toString();
+    }
+}
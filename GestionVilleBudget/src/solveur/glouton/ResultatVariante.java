@@ -0,0 +1,57 @@
+package solveur.glouton;
+
+import sacADos.Solution;
+
+/**
+ * Résultat d'une variante gloutonne exécutée par {@link PortefeuilleGlouton}.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class ResultatVariante {
+
+    /** Nom de la variante (solveur et critères). */
+    private final String nom;
+
+    /** Solution obtenue. */
+    private final Solution solution;
+
+    /** Durée de calcul des critères et de résolution, en nanosecondes. */
+    private final long dureeNanos;
+
+    /**
+     * @param nom        nom de la variante
+     * @param solution   solution obtenue
+     * @param dureeNanos durée (critères + résolution) en nanosecondes
+     */
+    public ResultatVariante(String nom, Solution solution, long dureeNanos) {
+        this.nom = nom;
+        this.solution = solution;
+        this.dureeNanos = dureeNanos;
+    }
+
+    /** @return le nom de la variante. */
+    public String getNom() {
+        return nom;
+    }
+
+    /** @return la solution obtenue. */
+    public Solution getSolution() {
+        return solution;
+    }
+
+    /** @return l'utilité de la solution obtenue. */
+    public long getUtilite() {
+        return solution.utilite();
+    }
+
+    /** @return la durée de calcul des critères et de résolution, en nanosecondes. */
+    public long getDureeNanos() {
+        return dureeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-32s utilite=%-10d temps=%8.2f ms", nom, solution.utilite(), dureeNanos / 1e6);
+    }
+}
@@ -0,0 +1,132 @@
+package solveur.glouton;
+
+/**
+ * Tri d'indices par clé {@code double}, sans objet ni comparateur.
+ *
+ * <p>
+ * Chaque clé est codée en un {@code long} dont l'ordre non signé est celui
+ * de {@link Double#compare} ; les indices sont ensuite triés par base
+ * (6 passes de {@value #BITS} bits, les passes où tous les chiffres sont
+ * égaux étant sautées).
+ * Le tri est stable et linéaire : un million de clés se trient en quelques
+ * millisecondes.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class TriParCles {
+
+    /** Nombre de bits par chiffre du tri par base. */
+    private static final int BITS = 11;
+
+    /** Nombre de passes pour couvrir les 64 bits d'un code. */
+    private static final int PASSES = (Long.SIZE + BITS - 1) / BITS;
+
+    /** Masque d'un chiffre. */
+    private static final int MASQUE = (1 << BITS) - 1;
+
+    /** En dessous de cette taille, un tri par insertion est plus rapide. */
+    private static final int SEUIL_INSERTION = 64;
+
+    private TriParCles() {
+    }
+
+    /**
+     * Trie les indices par clé décroissante (à clé égale, par indice croissant).
+     *
+     * @param cles clés, indexées par objet
+     * @return permutation des indices 0..n-1
+     */
+    public static int[] decroissant(double[] cles) {
+        int n = cles.length;
+        long[] codes = new long[n];
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            codes[i] = ~coder(cles[i]);
+            indices[i] = i;
+        }
+
+        if (n < SEUIL_INSERTION) {
+            insertion(codes, indices);
+            return indices;
+        }
+        return base(codes, indices);
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Code une clé : l'ordre non signé des codes est celui de Double.compare. */
+    private static long coder(double cle) {
+        long bits = Double.doubleToLongBits(cle);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /** Tri par insertion stable, ordre non signé croissant. */
+    private static void insertion(long[] codes, int[] indices) {
+        for (int i = 1; i < codes.length; i++) {
+            long c = codes[i];
+            int idx = indices[i];
+            int j = i - 1;
+            while (j >= 0 && Long.compareUnsigned(codes[j], c) > 0) {
+                codes[j + 1] = codes[j];
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            codes[j + 1] = c;
+            indices[j + 1] = idx;
+        }
+    }
+
+    /**
+     * Tri par base LSD stable, ordre non signé croissant.
+     * Les tableaux alternent avec des tampons : retourne celui qui contient le résultat.
+     */
+    private static int[] base(long[] codes, int[] indices) {
+        int n = codes.length;
+
+        // histogrammes de tous les chiffres en une seule lecture
+        int[][] comptes = new int[PASSES][1 << BITS];
+        for (long c : codes) {
+            for (int o = 0; o < PASSES; o++) {
+                comptes[o][(int) (c >>> (BITS * o)) & MASQUE]++;
+            }
+        }
+
+        long[] codesTmp = new long[n];
+        int[] indicesTmp = new int[n];
+
+        for (int o = 0; o < PASSES; o++) {
+            int[] compte = comptes[o];
+            int decalage = BITS * o;
+
+            // passe inutile : tous les codes ont le même chiffre
+            if (compte[(int) (codes[0] >>> decalage) & MASQUE] == n) {
+                continue;
+            }
+
+            int position = 0;
+            for (int v = 0; v < compte.length; v++) {
+                int c = compte[v];
+                compte[v] = position;
+                position += c;
+            }
+
+            for (int i = 0; i < n; i++) {
+                int p = compte[(int) (codes[i] >>> decalage) & MASQUE]++;
+                codesTmp[p] = codes[i];
+                indicesTmp[p] = indices[i];
+            }
+
+            long[] c = codes;
+            codes = codesTmp;
+            codesTmp = c;
+            int[] t = indices;
+            indices = indicesTmp;
+            indicesTmp = t;
+        }
+
+        return indices;
+    }
+}
@@ -4,8 +4,12 @@
  * <p>
  * Ce package regroupe les différents solveurs dans ses sous-packages :
  * <ul>
- *   <li><strong>solveur.glouton</strong> — méthodes gloutonnes à ajout / à retrait</li>
+ *   <li><strong>solveur.glouton</strong> — méthodes gloutonnes à ajout / à retrait, fmv adaptatif,
+ *       critères sous forme de comparateurs ou de scores précalculés,
+ *       multiplicateurs surrogate / lagrangiens, portefeuille parallèle</li>
  *   <li><strong>solveur.hillclimbing</strong> — algorithme de Hill Climbing</li>
+ *   <li><strong>solveur.exact</strong> — séparation et évaluation</li>
+ *   <li><strong>solveur.grasp</strong> — GRASP multi-départs parallèle</li>
  * </ul>
  *
  * @author ZHU YULEI
@@ -0,0 +1,350 @@
+package solveur.grasp;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import alea.SourceAleatoire;
+import sacADos.InstanceCompacte;
+import sacADos.Objet;
+import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
+import solveur.glouton.Critere;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.glouton.TriParCles;
+import solveur.hillclimbing.HillClimbingSolver;
+
+/**
+ * Implémente la méthode GRASP : constructions gloutonnes randomisées
+ * multiples, chacune suivie d'une recherche locale.
+ *
+ * <p>
+ * Construction d'un départ :
+ * <ul>
+ *   <li>parmi les objets absents qui tiennent encore dans le sac, de scores
+ *       compris entre s_min et s_max, la liste restreinte de candidats (RCL)
+ *       contient ceux de score ≥ s_max − alpha·(s_max − s_min) ;</li>
+ *   <li>un objet de la RCL est tiré uniformément et ajouté ;</li>
+ *   <li>on recommence jusqu'à ce qu'aucun objet ne tienne plus.</li>
+ * </ul>
+ * alpha = 0 redonne le glouton à ajout, alpha = 1 une construction aléatoire.
+ * La solution construite est ensuite améliorée par {@link HillClimbingSolver}.
+ *
+ * <p>
+ * Les scores sont calculés et triés une seule fois ; une construction parcourt
+ * l'ordre trié en écartant paresseusement les objets qui ne tiennent plus
+ * (la consommation ne fait que croître) : chaque objet est écarté au plus une fois.
+ *
+ * <p>
+ * Les départs sont exécutés dans un {@link ForkJoinPool} borné : ils ne font
+ * que du calcul, sans attente, et des threads virtuels n'apporteraient rien
+ * de plus qu'un thread par cœur. Le départ s utilise son propre
+ * {@link SplittableRandom}, le flux s de la {@link SourceAleatoire} de graine
+ * maîtresse ; la meilleure solution est collectée sans verrou (compare-and-set), les
+ * égalités étant départagées par le plus petit numéro de départ. Le résultat
+ * ne dépend donc que de la graine, pas du nombre de threads.
+ *
+ * <p>
+ * Comme {@link Solveur}, chaque départ vérifie le {@link Controle} avant de
+ * commencer, et sa recherche locale compte ses passes comme itérations ;
+ * après un arrêt, la meilleure solution des départs terminés est rendue.
+ *
+ * @author ZHU YULEI
+ * @version 1.2
+ */
+public class GraspSolver implements Solveur<GraspSolver.Configuration> {
+
+    /** Paramètre alpha par défaut. */
+    public static final double ALPHA = 0.2;
+
+    /** Nombre de départs par défaut. */
+    public static final int DEPARTS = 100;
+
+    /**
+     * Paramètres d'une résolution GRASP.
+     */
+    public static final class Configuration {
+        private final double alpha;
+        private final int nombreDeparts;
+        private final long graine;
+        private final int nombreThreads;
+        private final Critere critere;
+
+        /**
+         * @param alpha         paramètre de la liste restreinte, dans [0, 1]
+         * @param nombreDeparts nombre de départs indépendants
+         * @param graine        graine maîtresse
+         * @param nombreThreads nombre de threads
+         * @param critere       critère glouton de la construction
+         *
+         * @throws IllegalArgumentException si un paramètre est invalide
+         */
+        public Configuration(double alpha, int nombreDeparts, long graine, int nombreThreads, Critere critere) {
+            if (!(alpha >= 0 && alpha <= 1)) {
+                throw new IllegalArgumentException("alpha doit être dans [0, 1] : " + alpha);
+            }
+            if (nombreDeparts <= 0 || nombreThreads <= 0) {
+                throw new IllegalArgumentException("Les nombres de départs et de threads doivent être strictement positifs.");
+            }
+            if (critere == null) {
+                throw new NullPointerException("Le critère ne peut pas être null.");
+            }
+            this.alpha = alpha;
+            this.nombreDeparts = nombreDeparts;
+            this.graine = graine;
+            this.nombreThreads = nombreThreads;
+            this.critere = critere;
+        }
+    }
+
+    private final Configuration configuration;
+
+    /**
+     * Construit un solveur GRASP avec alpha = {@value #ALPHA}, {@value #DEPARTS} départs,
+     * la graine 0, tous les cœurs et le critère f_somme.
+     */
+    public GraspSolver() {
+        this(ALPHA, DEPARTS, 0);
+    }
+
+    /**
+     * Construit un solveur GRASP utilisant tous les cœurs et le critère f_somme.
+     *
+     * @param alpha         paramètre de la liste restreinte, dans [0, 1]
+     * @param nombreDeparts nombre de départs indépendants
+     * @param graine        graine maîtresse
+     */
+    public GraspSolver(double alpha, int nombreDeparts, long graine) {
+        this(alpha, nombreDeparts, graine, Runtime.getRuntime().availableProcessors(), Criteres.f_somme());
+    }
+
+    /**
+     * Construit un solveur GRASP.
+     *
+     * @param alpha         paramètre de la liste restreinte, dans [0, 1]
+     * @param nombreDeparts nombre de départs indépendants
+     * @param graine        graine maîtresse
+     * @param nombreThreads nombre de threads
+     * @param critere       critère glouton de la construction
+     *
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public GraspSolver(double alpha, int nombreDeparts, long graine, int nombreThreads, Critere critere) {
+        this.configuration = new Configuration(alpha, nombreDeparts, graine, nombreThreads, critere);
+    }
+
+    @Override
+    public String nom() {
+        return "grasp";
+    }
+
+    /** @return la configuration donnée à la construction. */
+    @Override
+    public Configuration configurationParDefaut() {
+        return configuration;
+    }
+
+    /**
+     * Résout une instance par GRASP.
+     *
+     * @param instance instance du sac à dos
+     * @return objets de la meilleure solution trouvée
+     */
+    public List<Objet> resoudre(SacADos instance) {
+        return instance.versObjets(resoudre(instance.compacte()));
+    }
+
+    /**
+     * Résout une instance compacte par GRASP.
+     *
+     * @param instance instance compacte du sac à dos (lue simultanément par plusieurs threads)
+     * @return meilleure solution trouvée
+     */
+    public Solution resoudre(InstanceCompacte instance) {
+        return resoudre(instance, configuration, Controle.sansLimite());
+    }
+
+    /**
+     * Résout une instance compacte par GRASP sous le contrôle d'un {@link Controle}.
+     *
+     * @param instance      instance compacte du sac à dos (lue simultanément par plusieurs threads)
+     * @param configuration paramètres de la résolution
+     * @param controle      contrôle d'arrêt, partagé par tous les départs
+     * @return meilleure solution trouvée (glouton du critère si aucun départ n'a abouti)
+     */
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Configuration configuration, Controle controle) {
+
+        double[] scores = configuration.critere.scores(instance);
+        int[] ordre = TriParCles.decroissant(scores);
+        double alpha = configuration.alpha;
+        SourceAleatoire alea = new SourceAleatoire(configuration.graine);
+
+        AtomicReference<Meilleure> meilleure = new AtomicReference<>();
+
+        ForkJoinPool pool = new ForkJoinPool(configuration.nombreThreads);
+        try {
+            pool.submit(() -> IntStream.range(0, configuration.nombreDeparts).parallel().forEach(s -> {
+                if (controle.doitArreter()) {
+                    return;
+                }
+                SplittableRandom rnd = alea.flux(s);
+                Solution construite = construire(instance, scores, ordre, alpha, rnd);
+                Solution locale = new HillClimbingSolver().resoudre(instance, construite, 1, 0, controle);
+                proposer(meilleure, new Meilleure(locale, s));
+            })).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("GRASP interrompu.", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Erreur pendant la résolution.", e.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+
+        Meilleure m = meilleure.get();
+        return (m != null ? m.solution : new GloutonAjoutSolver().resoudre(instance, ordre));
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /**
+     * Construction gloutonne randomisée d'un départ.
+     *
+     * @param instance instance compacte du sac à dos
+     * @param scores   score de chaque objet
+     * @param ordre    objets triés par score décroissant
+     * @param alpha    paramètre de la liste restreinte
+     * @param rnd      générateur du départ
+     * @return solution admissible
+     */
+    private static Solution construire(InstanceCompacte instance, double[] scores, int[] ordre, double alpha,
+                                       SplittableRandom rnd) {
+
+        int n = ordre.length;
+        Solution solution = new Solution(instance);
+
+        // écarté[p] : l'objet de rang p est déjà pris ou ne tient plus
+        boolean[] ecarte = new boolean[n];
+        int tete = 0;
+        int queue = n - 1;
+
+        while (true) {
+
+            // extrémités vivantes : meilleur et pire score parmi les objets qui tiennent
+            while (tete <= queue && (ecarte[tete] || !solution.peutAjouter(ordre[tete]))) {
+                ecarte[tete++] = true;
+            }
+            while (queue > tete && (ecarte[queue] || !solution.peutAjouter(ordre[queue]))) {
+                ecarte[queue--] = true;
+            }
+            if (tete > queue) {
+                break;
+            }
+
+            double max = scores[ordre[tete]];
+            double seuil = max - alpha * (max - scores[ordre[queue]]);
+            int fin = finRcl(scores, ordre, tete, queue, seuil);
+
+            int p = tirer(solution, ordre, ecarte, tete, fin, rnd);
+            ecarte[p] = true;
+            solution.ajouter(ordre[p]);
+        }
+
+        return solution;
+    }
+
+    /** Premier rang de (tete, queue + 1] dont le score est sous le seuil (recherche dichotomique). */
+    private static int finRcl(double[] scores, int[] ordre, int tete, int queue, double seuil) {
+        int bas = tete + 1;
+        int haut = queue + 1;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (scores[ordre[milieu]] >= seuil) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    /**
+     * Tire uniformément un rang de [tete, fin) dont l'objet tient encore.
+     * Tirage par rejet (les rangs rejetés sont écartés), puis, si les rejets
+     * se multiplient, parcours complet de la RCL. Le rang tete est toujours valide.
+     */
+    private static int tirer(Solution solution, int[] ordre, boolean[] ecarte, int tete, int fin,
+                             SplittableRandom rnd) {
+        int taille = fin - tete;
+        for (int essai = 0; essai < 2 * taille; essai++) {
+            int p = tete + rnd.nextInt(taille);
+            if (ecarte[p]) {
+                continue;
+            }
+            if (solution.peutAjouter(ordre[p])) {
+                return p;
+            }
+            ecarte[p] = true;
+        }
+
+        int valides = 0;
+        for (int p = tete; p < fin; p++) {
+            if (!ecarte[p]) {
+                if (solution.peutAjouter(ordre[p])) {
+                    valides++;
+                } else {
+                    ecarte[p] = true;
+                }
+            }
+        }
+        int choisi = rnd.nextInt(valides);
+        for (int p = tete; ; p++) {
+            if (!ecarte[p] && choisi-- == 0) {
+                return p;
+            }
+        }
+    }
+
+    /** Remplace la meilleure solution si la proposition est meilleure (sans verrou). */
+    private static void proposer(AtomicReference<Meilleure> meilleure, Meilleure proposition) {
+        Meilleure courante;
+        do {
+            courante = meilleure.get();
+            if (courante != null && !proposition.estMeilleureQue(courante)) {
+                return;
+            }
+        } while (!meilleure.compareAndSet(courante, proposition));
+    }
+
+    /** Solution d'un départ, avec son numéro pour départager les égalités. */
+    private static final class Meilleure {
+        final Solution solution;
+        final int depart;
+
+        Meilleure(Solution solution, int depart) {
+            this.solution = solution;
+            this.depart = depart;
+        }
+
+        boolean estMeilleureQue(Meilleure autre) {
+            long u = solution.utilite();
+            long v = autre.solution.utilite();
+            return u > v || (u == v && depart < autre.depart);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Contient la métaheuristique GRASP (Greedy Randomized Adaptive Search Procedure)
+ * pour le sac-à-dos multidimensionnel.
+ *
+ * <p>
+ * Chaque départ construit une solution gloutonne randomisée (liste restreinte
+ * de candidats contrôlée par un paramètre alpha), puis l'améliore par
+ * Hill Climbing. Les départs sont indépendants et exécutés en parallèle ;
+ * le résultat ne dépend que de la graine maîtresse.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+package solveur.grasp;
+
+
+public class package_info {
+
+}
@@ -1,11 +1,26 @@
 package solveur.hillclimbing;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
-
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import alea.SourceAleatoire;
+import sacADos.InstanceCompacte;
 import sacADos.Objet;
 import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
+import solveur.glouton.Critere;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.voisinage.TirageAleatoire;
 
 /**
  * Implémente l'algorithme de Hill Climbing pour le problème
@@ -20,12 +35,197 @@ import sacADos.SacADos;
  * L’algorithme cherche de meilleurs voisins jusqu'à atteindre un optimum local.
  * Une variante avec mouvements sur plateau est également supportée.
  *
+ * <p>
+ * Le calcul se fait sur la représentation compacte de l'instance
+ * ({@link InstanceCompacte}) avec une {@link Solution} incrémentale.
+ *
+ * <p>
+ * Comme {@link Solveur}, chaque passe sur le voisinage compte pour une itération
+ * du {@link Controle} ; un arrêt demandé au milieu d'une passe applique le
+ * meilleur voisin déjà trouvé, puis rend la solution courante.
+ *
+ * <p>
+ * Sur le voisinage complet, la règle d'{@link Acceptation} choisit entre le
+ * meilleur voisin de chaque passe et le premier voisin améliorant ; les bits
+ * « ne pas regarder » évitent de réexaminer les objets dont le voisinage n'a
+ * rien donné.
+ *
+ * <p>
+ * Avec plusieurs threads, chaque passe du voisinage complet (t = 1) et chaque
+ * lot de voisins aléatoires est découpé en tranches explorées dans un
+ * {@link ForkJoinPool} ; chaque tranche garde son meilleur mouvement, puis une
+ * réduction retient le meilleur, à égalité le premier dans l'ordre de
+ * parcours. Le résultat ne dépend donc pas du nombre de threads. Les
+ * mouvements sur plateau dépendant de l'ordre de parcours, une recherche
+ * avec plateau reste séquentielle.
+ *
+ * <p>
+ * Les tirages viennent d'une {@link SourceAleatoire} : à chaque résolution,
+ * l'ordre aléatoire des retraits suit le flux 0 et le lot de voisins
+ * aléatoires numéro j la sous-source j, dont le voisin i reçoit le flux i.
+ * Aucun générateur n'est partagé entre threads ni entre deux résolutions.
+ *
  * @author ZHU YULEI
- * @version 2.0
+ * @version 3.7
  */
-public class HillClimbingSolver {
+public class HillClimbingSolver implements Solveur<HillClimbingSolver.Configuration> {
+
+    /**
+     * Règle d'acceptation d'un voisin dans le voisinage complet.
+     */
+    public enum Acceptation {
+        /** Toute la passe est parcourue, le meilleur voisin est appliqué. */
+        MEILLEURE,
+        /** Le premier voisin améliorant est appliqué ; la passe suivante reprend au retrait suivant. */
+        PREMIERE,
+        /** Premier voisin améliorant, les retraits étant parcourus dans un ordre aléatoire à chaque passe. */
+        PREMIERE_ALEATOIRE
+    }
+
+    /** Ordre des candidats à l'ajout dans le voisinage complet. */
+    private static final Critere PAR_UTILITE = (instance, i) -> instance.utilite(i);
+
+    /** Nombre de tranches par thread, pour équilibrer des tranches de coûts inégaux. */
+    private static final int TRANCHES_PAR_THREAD = 4;
+
+    /** Source des tirages aléatoires. */
+    private final SourceAleatoire alea;
+
+    /** Nombre de threads d'exploration du voisinage. */
+    private final int nombreThreads;
+
+    /**
+     * Construit un solveur Hill Climbing séquentiel, de graine imprévisible.
+     */
+    public HillClimbingSolver() {
+        this(1);
+    }
+
+    /**
+     * Construit un solveur Hill Climbing explorant le voisinage en parallèle,
+     * de graine imprévisible.
+     *
+     * @param nombreThreads nombre de threads d'exploration
+     *
+     * @throws IllegalArgumentException si nombreThreads ≤ 0
+     */
+    public HillClimbingSolver(int nombreThreads) {
+        this(nombreThreads, SourceAleatoire.nonReproductible());
+    }
+
+    /**
+     * Construit un solveur Hill Climbing reproductible : les tirages aléatoires
+     * ne dépendent que de la graine, quel que soit le nombre de threads.
+     *
+     * @param nombreThreads nombre de threads d'exploration
+     * @param graine        graine maîtresse des tirages aléatoires
+     *
+     * @throws IllegalArgumentException si nombreThreads ≤ 0
+     */
+    public HillClimbingSolver(int nombreThreads, long graine) {
+        this(nombreThreads, new SourceAleatoire(graine));
+    }
 
-    private Random rnd = new Random();
+    /**
+     * Construit un solveur Hill Climbing tirant ses mouvements aléatoires de
+     * la source donnée.
+     *
+     * @param nombreThreads nombre de threads d'exploration
+     * @param alea          source des tirages aléatoires
+     *
+     * @throws IllegalArgumentException si nombreThreads ≤ 0
+     */
+    public HillClimbingSolver(int nombreThreads, SourceAleatoire alea) {
+        if (nombreThreads <= 0) {
+            throw new IllegalArgumentException("Le nombre de threads doit être strictement positif.");
+        }
+        if (alea == null) {
+            throw new NullPointerException("La source aléatoire ne peut pas être null.");
+        }
+        this.nombreThreads = nombreThreads;
+        this.alea = alea;
+    }
+
+    /**
+     * Paramètres d'une recherche locale lancée par le {@link Solveur}.
+     */
+    public static final class Configuration {
+        private final Function<InstanceCompacte, Solution> depart;
+        private final int t;
+        private final int maxPlateauMoves;
+        private final int nombreVoisins;
+        private final Acceptation acceptation;
+        private final boolean nePasRegarder;
+
+        /**
+         * Configuration avec acceptation du meilleur voisin, sans bits « ne pas regarder ».
+         *
+         * @param depart          construction de la solution initiale admissible
+         * @param t               taille du voisinage
+         * @param maxPlateauMoves nombre de déplacements autorisés sur plateau
+         * @param nombreVoisins   voisins aléatoires par itération, ou 0 pour le voisinage complet
+         *
+         * @throws IllegalArgumentException si t ≤ 0, maxPlateauMoves < 0 ou nombreVoisins < 0
+         */
+        public Configuration(Function<InstanceCompacte, Solution> depart, int t, int maxPlateauMoves,
+                             int nombreVoisins) {
+            this(depart, t, maxPlateauMoves, nombreVoisins, Acceptation.MEILLEURE, false);
+        }
+
+        /**
+         * @param depart          construction de la solution initiale admissible
+         * @param t               taille du voisinage
+         * @param maxPlateauMoves nombre de déplacements autorisés sur plateau
+         * @param nombreVoisins   voisins aléatoires par itération, ou 0 pour le voisinage complet
+         * @param acceptation     règle d'acceptation (voisinage complet)
+         * @param nePasRegarder   active les bits « ne pas regarder » (voisinage complet, t = 1)
+         *
+         * @throws IllegalArgumentException si t ≤ 0, maxPlateauMoves < 0 ou nombreVoisins < 0
+         */
+        public Configuration(Function<InstanceCompacte, Solution> depart, int t, int maxPlateauMoves,
+                             int nombreVoisins, Acceptation acceptation, boolean nePasRegarder) {
+            if (depart == null) {
+                throw new NullPointerException("La construction de départ ne peut pas être null.");
+            }
+            if (t <= 0) {
+                throw new IllegalArgumentException("Le paramètre t doit être strictement positif.");
+            }
+            if (maxPlateauMoves < 0 || nombreVoisins < 0) {
+                throw new IllegalArgumentException("Les nombres de mouvements et de voisins doivent être >= 0.");
+            }
+            this.depart = depart;
+            this.t = t;
+            this.maxPlateauMoves = maxPlateauMoves;
+            if (acceptation == null) {
+                throw new NullPointerException("La règle d'acceptation ne peut pas être null.");
+            }
+            this.nombreVoisins = nombreVoisins;
+            this.acceptation = acceptation;
+            this.nePasRegarder = nePasRegarder;
+        }
+    }
+
+    @Override
+    public String nom() {
+        return "hc";
+    }
+
+    /** @return départ glouton f_somme, t = 1, sans plateau, voisinage complet. */
+    @Override
+    public Configuration configurationParDefaut() {
+        return new Configuration(inst -> new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme()), 1, 0, 0);
+    }
+
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Configuration configuration, Controle controle) {
+        Solution depart = configuration.depart.apply(instance);
+        if (configuration.nombreVoisins == 0) {
+            return resoudre(instance, depart, configuration.t, configuration.maxPlateauMoves,
+                    configuration.acceptation, configuration.nePasRegarder, controle);
+        }
+        return resoudreAleatoire(instance, depart, configuration.t, configuration.nombreVoisins,
+                configuration.maxPlateauMoves, controle);
+    }
 
     /**
      * Version simplifiée avec voisinage t=1 et aucun mouvement de plateau.
@@ -64,6 +264,121 @@ public class HillClimbingSolver {
         if (solutionInitiale == null) {
             throw new NullPointerException("La solution initiale ne peut pas être null.");
         }
+
+        Solution solution = resoudre(instance.compacte(), instance.solution(solutionInitiale), t, maxPlateauMoves);
+        return instance.versObjets(solution);
+    }
+
+    /**
+     * Exécute la recherche locale Hill Climbing directement sur une instance compacte.
+     *
+     * <p>
+     * Chaque voisin est évalué par différence, sans allocation : utilité
+     * u(S) − u(retrait) + u(ajout), admissibilité par comparaison des coûts de
+     * l'ajout à la capacité libre après retrait (calculée une fois par retrait).
+     * Les candidats à l'ajout sont parcourus par utilité décroissante, ce qui
+     * arrête le parcours dès qu'aucun ne peut plus battre le meilleur voisin ;
+     * sans plateau, le voisin retenu est, à utilité égale, le premier dans
+     * l'ordre (retrait, ajout).
+     * Seul le mouvement choisi est appliqué, en place, à la fin de la passe.
+     *
+     * <p>
+     * Pour t &gt; 1, le voisinage complet S' = (S \ E) ∪ A, |E| ≤ t, |A| ≤ t,
+     * est énuméré avec coupes par utilité et par capacité ({@link VoisinageEchanges}).
+     *
+     * @param instance         instance compacte du sac à dos
+     * @param solutionInitiale solution admissible (non modifiée)
+     * @param t                taille du voisinage (nombre max. d’ajouts/retraits)
+     * @param maxPlateauMoves  nombre de déplacements autorisés sur plateau (utilité égale)
+     * @return la meilleure solution trouvée (optimum local)
+     *
+     * @throws NullPointerException     si la solution initiale est null
+     * @throws IllegalArgumentException si t ≤ 0 ou maxPlateauMoves < 0
+     */
+    public Solution resoudre(
+            InstanceCompacte instance,
+            Solution solutionInitiale,
+            int t,
+            int maxPlateauMoves) {
+        return resoudre(instance, solutionInitiale, t, maxPlateauMoves, Controle.sansLimite());
+    }
+
+    /**
+     * Exécute la recherche locale Hill Climbing sous le contrôle d'un {@link Controle},
+     * avec acceptation du meilleur voisin.
+     *
+     * @param instance         instance compacte du sac à dos
+     * @param solutionInitiale solution admissible (non modifiée)
+     * @param t                taille du voisinage (nombre max. d’ajouts/retraits)
+     * @param maxPlateauMoves  nombre de déplacements autorisés sur plateau (utilité égale)
+     * @param controle         contrôle d'arrêt (une itération par passe)
+     * @return la meilleure solution trouvée (optimum local si la recherche n'a pas été arrêtée)
+     *
+     * @throws NullPointerException     si la solution initiale est null
+     * @throws IllegalArgumentException si t ≤ 0 ou maxPlateauMoves < 0
+     */
+    public Solution resoudre(
+            InstanceCompacte instance,
+            Solution solutionInitiale,
+            int t,
+            int maxPlateauMoves,
+            Controle controle) {
+        return resoudre(instance, solutionInitiale, t, maxPlateauMoves, Acceptation.MEILLEURE, false, controle);
+    }
+
+    /**
+     * Exécute la recherche locale Hill Climbing avec une règle d'acceptation donnée.
+     *
+     * <p>
+     * Une passe parcourt les retraits et s'arrête, selon l'acceptation, au
+     * premier voisin améliorant ou à la fin du voisinage. Avec
+     * {@link Acceptation#PREMIERE}, la passe suivante reprend au retrait qui
+     * suit le dernier mouvement ; avec {@link Acceptation#PREMIERE_ALEATOIRE},
+     * l'ordre des retraits est tiré à chaque passe. L'optimum local est
+     * atteint quand une passe complète ne trouve aucun voisin. En acceptation
+     * au premier voisin, les mouvements sur plateau sont comptés depuis la
+     * dernière amélioration stricte (et non par passe).
+     *
+     * <p>
+     * Bits « ne pas regarder » (t = 1) : un objet dont le voisinage n'a donné
+     * aucun voisin améliorant est marqué et sauté par les passes suivantes ;
+     * les deux objets d'un mouvement appliqué sont démarqués. Les marques
+     * n'étant qu'une heuristique (un mouvement libère aussi de la place pour
+     * les autres objets), une passe qui n'a rien trouvé en sautant des objets
+     * est refaite sans marques : la solution rendue est bien un optimum local.
+     *
+     * <p>
+     * Pour t &gt; 1, l'acceptation au premier voisin arrête l'énumération de
+     * {@link VoisinageEchanges} au premier voisin améliorant ; l'ordre
+     * aléatoire et les bits « ne pas regarder » ne s'appliquent qu'à t = 1.
+     *
+     * @param instance         instance compacte du sac à dos
+     * @param solutionInitiale solution admissible (non modifiée)
+     * @param t                taille du voisinage (nombre max. d’ajouts/retraits)
+     * @param maxPlateauMoves  nombre de déplacements autorisés sur plateau (utilité égale)
+     * @param acceptation      règle d'acceptation des voisins
+     * @param nePasRegarder    active les bits « ne pas regarder »
+     * @param controle         contrôle d'arrêt (une itération par passe)
+     * @return la meilleure solution trouvée (optimum local si la recherche n'a pas été arrêtée)
+     *
+     * @throws NullPointerException     si la solution initiale ou l'acceptation est null
+     * @throws IllegalArgumentException si t ≤ 0 ou maxPlateauMoves < 0
+     */
+    public Solution resoudre(
+            InstanceCompacte instance,
+            Solution solutionInitiale,
+            int t,
+            int maxPlateauMoves,
+            Acceptation acceptation,
+            boolean nePasRegarder,
+            Controle controle) {
+
+        if (solutionInitiale == null) {
+            throw new NullPointerException("La solution initiale ne peut pas être null.");
+        }
+        if (acceptation == null) {
+            throw new NullPointerException("La règle d'acceptation ne peut pas être null.");
+        }
         if (t <= 0) {
             throw new IllegalArgumentException("Le paramètre t doit être strictement positif.");
         }
@@ -71,61 +386,105 @@ public class HillClimbingSolver {
             throw new IllegalArgumentException("Le nombre de mouvements sur plateau doit être >= 0.");
         }
 
-        List<Objet> solution = new ArrayList<>(solutionInitiale);
-        int utiliteCourante = instance.utiliteTotale(solution);
+        int n = instance.nombreObjets();
+        int k = instance.dimension();
+        Solution solution = solutionInitiale.copie();
+        boolean premiere = (acceptation != Acceptation.MEILLEURE);
 
-        boolean amelioration = true;
+        // ordre des candidats à l'ajout : utilité décroissante, calculé une fois
+        int[] ordreUtilite = PAR_UTILITE.ordre(instance);
+
+        if (t > 1) {
+            VoisinageEchanges voisinage = new VoisinageEchanges(instance, t, ordreUtilite, premiere);
+            while (controle.continuer() && voisinage.chercher(solution, maxPlateauMoves, controle)) {
+                voisinage.appliquer(solution);
+            }
+            return solution;
+        }
 
-        // =======================
-        //     Boucle principale
-        // =======================
-        while (amelioration) {
+        int[] candidats = new int[n];
 
-            amelioration = false;
-            List<Objet> meilleurVoisin = solution;
-            int meilleureUtilite = utiliteCourante;
+        // ordre de parcours des retraits, et marques « ne pas regarder »
+        int[] ordreRetraits = new int[n];
+        for (int i = 0; i < n; i++) {
+            ordreRetraits[i] = i;
+        }
+        boolean[] ignore = (nePasRegarder ? new boolean[n] : null);
+        int plateauRestant = maxPlateauMoves;
+        SplittableRandom ordreAleatoire = (acceptation == Acceptation.PREMIERE_ALEATOIRE ? alea.flux(0) : null);
 
-            int plateauMoves = maxPlateauMoves;
+        // sans plateau, le mouvement retenu ne dépend pas du découpage en tranches
+        ForkJoinPool pool = (nombreThreads > 1 && maxPlateauMoves == 0 ? new ForkJoinPool(nombreThreads) : null);
+        int nbTranches = (pool != null ? Math.max(1, Math.min(n, nombreThreads * TRANCHES_PAR_THREAD)) : 1);
+        Balayage balayage = new Balayage(instance, solution, candidats, ordreRetraits, ignore, premiere,
+                controle, nbTranches);
 
+        try {
             // =======================
-            //   Génération voisins
+            //     Boucle principale
             // =======================
-            for (Objet remove : instance.getObjets()) {
-
-                List<Objet> voisinBase = new ArrayList<>(solution);
-                voisinBase.remove(remove);
-
-                for (Objet add : instance.getObjets()) {
-                    if (solution.contains(add)) continue;
+            while (controle.continuer()) {
 
-                    List<Objet> voisin = new ArrayList<>(voisinBase);
-                    voisin.add(add);
+                long utiliteCourante = solution.utilite();
+                int plateauMoves = (premiere ? plateauRestant : maxPlateauMoves);
 
-                    if (!instance.estAdmissible(voisin))
-                        continue;
+                if (acceptation == Acceptation.PREMIERE_ALEATOIRE) {
+                    melanger(ordreRetraits, ordreAleatoire);
+                    balayage.debut = 0;
+                }
 
-                    int utilite = instance.utiliteTotale(voisin);
+                // absents de la solution courante, par utilité décroissante
+                int nbCandidats = 0;
+                for (int i : ordreUtilite) {
+                    if (!solution.contient(i)) {
+                        candidats[nbCandidats++] = i;
+                    }
+                }
 
-                    if (utilite > meilleureUtilite) {
-                        meilleureUtilite = utilite;
-                        meilleurVoisin = voisin;
-                        amelioration = true;
+                // =======================
+                //   Génération voisins
+                // =======================
+                balayage.preparer(nbCandidats, utiliteCourante, plateauMoves);
+                executer(pool, nbTranches, balayage::explorer);
+                Tranche retenue = balayage.reduire();
+
+                // seul le mouvement retenu est appliqué
+                if (retenue != null) {
+                    if (retenue.retrait >= 0) {
+                        solution.echanger(retenue.retrait, retenue.ajout);
+                    } else {
+                        solution.ajouter(retenue.ajout);
                     }
-                    else if (utilite == meilleureUtilite && plateauMoves > 0) {
-                        plateauMoves--;
-                        meilleurVoisin = voisin;
-                        amelioration = true;
+                    if (ignore != null) {
+                        ignore[retenue.ajout] = false;
+                        if (retenue.retrait >= 0) {
+                            ignore[retenue.retrait] = false;
+                        }
                     }
+                    if (premiere) {
+                        balayage.debut = (retenue.rang + balayage.debut + 1) % n;
+                    }
+                    plateauRestant = (retenue.utilite > utiliteCourante ? maxPlateauMoves : plateauRestant - 1);
+                    continue;
                 }
-            }
 
-            solution = meilleurVoisin;
-            utiliteCourante = meilleureUtilite;
+                // passe de vérification, sans marques, avant de conclure à l'optimum local
+                if (balayage.sautes() && !controle.doitArreter()) {
+                    Arrays.fill(ignore, false);
+                    continue;
+                }
+                break;
+            }
+        }
+        finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
         }
 
         return solution;
     }
-    
+
     /**
      * Variante de Hill Climbing avec génération aléatoire des voisins.
      *
@@ -155,6 +514,60 @@ public class HillClimbingSolver {
             int nombreVoisins,
             int maxPlateauMoves) {
 
+        if (solutionInitiale == null) {
+            throw new NullPointerException("La solution initiale ne peut pas être null.");
+        }
+
+        Solution solution = resoudreAleatoire(instance.compacte(), instance.solution(solutionInitiale),
+                t, nombreVoisins, maxPlateauMoves);
+        return instance.versObjets(solution);
+    }
+
+    /**
+     * Variante aléatoire du Hill Climbing, directement sur une instance compacte.
+     *
+     * @param instance          instance compacte du sac à dos
+     * @param solutionInitiale  solution admissible initiale (non modifiée)
+     * @param t                 taille maximale des mouvements (ajouts / retraits)
+     * @param nombreVoisins     nombre de voisins aléatoires générés par itération
+     * @param maxPlateauMoves   nombre de mouvements autorisés sur plateau
+     * @return solution correspondant à un optimum local
+     *
+     * @throws NullPointerException     si la solution initiale est null
+     * @throws IllegalArgumentException si t ≤ 0 ou nombreVoisins ≤ 0 ou maxPlateauMoves < 0
+     */
+    public Solution resoudreAleatoire(
+            InstanceCompacte instance,
+            Solution solutionInitiale,
+            int t,
+            int nombreVoisins,
+            int maxPlateauMoves) {
+        return resoudreAleatoire(instance, solutionInitiale, t, nombreVoisins, maxPlateauMoves,
+                Controle.sansLimite());
+    }
+
+    /**
+     * Variante aléatoire du Hill Climbing sous le contrôle d'un {@link Controle}.
+     *
+     * @param instance          instance compacte du sac à dos
+     * @param solutionInitiale  solution admissible initiale (non modifiée)
+     * @param t                 taille maximale des mouvements (ajouts / retraits)
+     * @param nombreVoisins     nombre de voisins aléatoires générés par itération
+     * @param maxPlateauMoves   nombre de mouvements autorisés sur plateau
+     * @param controle          contrôle d'arrêt (une itération par lot de voisins)
+     * @return meilleure solution trouvée
+     *
+     * @throws NullPointerException     si la solution initiale est null
+     * @throws IllegalArgumentException si t ≤ 0 ou nombreVoisins ≤ 0 ou maxPlateauMoves < 0
+     */
+    public Solution resoudreAleatoire(
+            InstanceCompacte instance,
+            Solution solutionInitiale,
+            int t,
+            int nombreVoisins,
+            int maxPlateauMoves,
+            Controle controle) {
+
         if (solutionInitiale == null) {
             throw new NullPointerException("La solution initiale ne peut pas être null.");
         }
@@ -168,66 +581,343 @@ public class HillClimbingSolver {
             throw new IllegalArgumentException("Le nombre de mouvements sur plateau doit être >= 0.");
         }
 
-        List<Objet> solution = new ArrayList<>(solutionInitiale);
-        int utiliteCourante = instance.utiliteTotale(solution);
+        Solution solution = solutionInitiale.copie();
 
-        boolean amelioration = true;
+        // sans plateau, le meilleur voisin ne dépend pas du découpage en tranches
+        ForkJoinPool pool = (nombreThreads > 1 && maxPlateauMoves == 0 ? new ForkJoinPool(nombreThreads) : null);
+        int nbTranches = (pool != null ? Math.min(nombreVoisins, nombreThreads * TRANCHES_PAR_THREAD) : 1);
+        Echantillonnage echantillonnage = new Echantillonnage(solution, t, nombreVoisins, nbTranches);
 
-        while (amelioration) {
+        try {
+            long lot = 0;
+            while (controle.continuer()) {
 
-            amelioration = false;
-            List<Objet> meilleurVoisin = solution;
-            int meilleureUtilite = utiliteCourante;
-            int plateauMoves = maxPlateauMoves;
+                // ===============================
+                // Génération aléatoire des voisins
+                // ===============================
+                echantillonnage.preparer(alea.derivee(lot++), maxPlateauMoves);
+                executer(pool, nbTranches, echantillonnage::explorer);
+                Solution meilleurVoisin = echantillonnage.reduire();
 
-            // ===============================
-            // Génération aléatoire des voisins
-            // ===============================
-            for (int i = 0; i < nombreVoisins; i++) {
+                if (meilleurVoisin == null) {
+                    break;
+                }
+                solution.copierDepuis(meilleurVoisin);
+            }
+        }
+        finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+
+        return solution;
+    }
 
-                List<Objet> voisin = new ArrayList<>(solution);
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Exécute les tâches 0 à nombre − 1, en parallèle si un pool est donné. */
+    private static void executer(ForkJoinPool pool, int nombre, IntConsumer tache) {
+        if (pool == null || nombre == 1) {
+            for (int i = 0; i < nombre; i++) {
+                tache.accept(i);
+            }
+            return;
+        }
+        try {
+            pool.submit(() -> IntStream.range(0, nombre).parallel().forEach(tache)).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hill Climbing interrompu.", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Erreur pendant l'exploration du voisinage.", e.getCause());
+        }
+    }
+
+    /** Mélange uniforme d'un tableau (Fisher–Yates). */
+    private static void melanger(int[] tableau, SplittableRandom rnd) {
+        for (int i = tableau.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int tmp = tableau[i];
+            tableau[i] = tableau[j];
+            tableau[j] = tmp;
+        }
+    }
+
+    /** Vrai si l'objet tient dans la capacité libre donnée, dimension par dimension. */
+    private static boolean tient(InstanceCompacte instance, int i, long[] residu, int k) {
+        for (int d = 0; d < k; d++) {
+            if (instance.cout(i, d) > residu[d]) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                // --- Retrait aléatoire ---
-                int nbRetraits = rnd.nextInt(t) + 1;
-                for (int r = 0; r < nbRetraits && !voisin.isEmpty(); r++) {
-                    Objet aRetirer = voisin.get(rnd.nextInt(voisin.size()));
-                    voisin.remove(aRetirer);
+    /** Meilleur mouvement (retrait, ajout) d'une tranche de retraits, propre au thread qui l'explore. */
+    private static final class Tranche {
+        final long[] residu;
+        long utilite;
+        int plateau;
+        int retrait;
+        int ajout;
+        /** Rang de parcours du mouvement retenu, et du premier voisin trouvé. */
+        int rang;
+        int premierRang;
+        boolean sautes;
+
+        Tranche(int k) {
+            this.residu = new long[k];
+        }
+    }
+
+    /**
+     * Une passe sur le voisinage (retrait, ajout), t = 1. Le rang j de parcours
+     * désigne le retrait ordreRetraits[(debut + j) mod n] ; la tranche b couvre
+     * les rangs [b·n / nbTranches, (b + 1)·n / nbTranches).
+     */
+    private static final class Balayage {
+        final InstanceCompacte instance;
+        final Solution solution;
+        final int[] candidats;
+        final int[] ordreRetraits;
+        final boolean[] ignore;
+        final boolean premiere;
+        final Controle controle;
+        final Tranche[] tranches;
+
+        /** Plus petit rang où un voisin a été trouvé (acceptation au premier voisin). */
+        final AtomicInteger coupure = new AtomicInteger();
+
+        int debut;
+        int nbCandidats;
+        long utiliteCourante;
+        int plateauMoves;
+
+        Balayage(InstanceCompacte instance, Solution solution, int[] candidats, int[] ordreRetraits,
+                 boolean[] ignore, boolean premiere, Controle controle, int nbTranches) {
+            this.instance = instance;
+            this.solution = solution;
+            this.candidats = candidats;
+            this.ordreRetraits = ordreRetraits;
+            this.ignore = ignore;
+            this.premiere = premiere;
+            this.controle = controle;
+            this.tranches = new Tranche[nbTranches];
+            for (int b = 0; b < nbTranches; b++) {
+                tranches[b] = new Tranche(instance.dimension());
+            }
+        }
+
+        void preparer(int nbCandidats, long utiliteCourante, int plateauMoves) {
+            this.nbCandidats = nbCandidats;
+            this.utiliteCourante = utiliteCourante;
+            this.plateauMoves = plateauMoves;
+            this.coupure.set(Integer.MAX_VALUE);
+        }
+
+        /** Explore la tranche b ; seuls la tranche et ses objets « résidu » sont modifiés. */
+        void explorer(int b) {
+            int n = ordreRetraits.length;
+            int k = instance.dimension();
+            Tranche tr = tranches[b];
+            long[] residu = tr.residu;
+
+            tr.utilite = utiliteCourante;
+            tr.plateau = plateauMoves;
+            tr.ajout = -1;
+            tr.premierRang = Integer.MAX_VALUE;
+            tr.sautes = false;
+
+            int fin = (int) ((long) n * (b + 1) / tranches.length);
+            for (int j = (int) ((long) n * b / tranches.length); j < fin && !controle.doitArreter(); j++) {
+
+                // une tranche précédente a déjà trouvé le premier voisin
+                if (premiere && j > coupure.get()) {
+                    break;
+                }
+
+                int remove = ordreRetraits[(debut + j) % n];
+                if (ignore != null && ignore[remove]) {
+                    tr.sautes = true;
+                    continue;
+                }
+
+                // retirer un objet absent revient à un simple ajout
+                boolean retrait = solution.contient(remove);
+                long utiliteBase = utiliteCourante - (retrait ? instance.utilite(remove) : 0);
+
+                // capacité libre une fois l'objet retiré, calculée une fois par retrait
+                for (int d = 0; d < k; d++) {
+                    residu[d] = solution.reste(d) + (retrait ? instance.cout(remove, d) : 0);
                 }
 
-                // --- Ajout aléatoire ---
-                int nbAjouts = rnd.nextInt(t) + 1;
-                for (int a = 0; a < nbAjouts; a++) {
-                    Objet candidat = instance.getObjets()
-                            .get(rnd.nextInt(instance.getObjets().size()));
-                    if (!voisin.contains(candidat)) {
-                        voisin.add(candidat);
+                for (int c = 0; c < nbCandidats; c++) {
+
+                    int add = candidats[c];
+                    long utilite = utiliteBase + instance.utilite(add);
+
+                    // candidats par utilité décroissante : les suivants ne font pas mieux
+                    if (utilite < tr.utilite || (utilite == tr.utilite && tr.plateau == 0)) {
+                        break;
+                    }
+                    if (!tient(instance, add, residu, k)) {
+                        continue;
+                    }
+
+                    if (utilite > tr.utilite) {
+                        tr.utilite = utilite;
+                    } else {
+                        tr.plateau--;
+                    }
+                    tr.retrait = (retrait ? remove : -1);
+                    tr.ajout = add;
+                    tr.rang = j;
+                    tr.premierRang = Math.min(tr.premierRang, j);
+
+                    if (premiere) {
+                        break;
                     }
                 }
 
+                if (premiere && tr.premierRang == j) {
+                    coupure.accumulateAndGet(j, Math::min);
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Retient le mouvement de la passe : le premier trouvé, ou le meilleur
+         * (à égalité, le premier rencontré). Les retraits parcourus avant le
+         * premier voisin trouvé n'ont rien donné : ils sont marqués.
+         *
+         * @return la tranche du mouvement retenu, ou null si aucun voisin n'a été trouvé
+         */
+        Tranche reduire() {
+            Tranche retenue = null;
+            int premierRang = Integer.MAX_VALUE;
+            for (Tranche tr : tranches) {
+                if (tr.ajout < 0) {
+                    continue;
+                }
+                premierRang = Math.min(premierRang, tr.premierRang);
+                if (retenue == null || (!premiere && tr.utilite > retenue.utilite)) {
+                    retenue = tr;
+                }
+            }
+
+            if (ignore != null) {
+                int n = ordreRetraits.length;
+                for (int j = 0; j < Math.min(n, premierRang); j++) {
+                    ignore[ordreRetraits[(debut + j) % n]] = true;
+                }
+            }
+            return retenue;
+        }
+
+        /** @return vrai si des retraits marqués ont été sautés pendant la passe. */
+        boolean sautes() {
+            for (Tranche tr : tranches) {
+                if (tr.sautes) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** Meilleur voisin aléatoire d'une tranche de tirages, propre au thread qui l'explore. */
+    private static final class Tirages {
+        final TirageAleatoire tirage;
+        final Solution meilleur;
+        long utilite;
+        int plateau;
+        boolean trouve;
+
+        Tirages(Solution solution, int t) {
+            this.tirage = new TirageAleatoire(solution.instance(), t);
+            this.meilleur = solution.copie();
+        }
+    }
+
+    /**
+     * Un lot de voisins aléatoires. Le voisin i tire ses mouvements de son
+     * propre flux, numéro i de la source du lot : il ne dépend pas
+     * de la tranche qui le construit. Seuls les voisins retenus sont
+     * construits, les autres sont évalués par différence
+     * ({@link TirageAleatoire}).
+     */
+    private static final class Echantillonnage {
+        final Solution solution;
+        final int nombreVoisins;
+        final Tirages[] tranches;
+
+        SourceAleatoire source;
+
+        Echantillonnage(Solution solution, int t, int nombreVoisins, int nbTranches) {
+            this.solution = solution;
+            this.nombreVoisins = nombreVoisins;
+            this.tranches = new Tirages[nbTranches];
+            for (int b = 0; b < nbTranches; b++) {
+                tranches[b] = new Tirages(solution, t);
+            }
+        }
+
+        void preparer(SourceAleatoire source, int plateauMoves) {
+            this.source = source;
+            for (Tirages tr : tranches) {
+                tr.tirage.synchroniser(solution);
+                tr.utilite = solution.utilite();
+                tr.plateau = plateauMoves;
+                tr.trouve = false;
+            }
+        }
+
+        /** Évalue les voisins de la tranche b. */
+        void explorer(int b) {
+            Tirages tr = tranches[b];
+            int fin = (int) ((long) nombreVoisins * (b + 1) / tranches.length);
+            for (int i = (int) ((long) nombreVoisins * b / tranches.length); i < fin; i++) {
+
+                SplittableRandom alea = source.flux(i);
+
                 // Vérification admissibilité
-                if (!instance.estAdmissible(voisin)) {
+                if (!tr.tirage.tirer(alea)) {
                     continue;
                 }
 
-                int utilite = instance.utiliteTotale(voisin);
+                long utilite = solution.utilite() + tr.tirage.delta();
 
-                if (utilite > meilleureUtilite) {
-                    meilleureUtilite = utilite;
-                    meilleurVoisin = voisin;
-                    amelioration = true;
+                if (utilite > tr.utilite) {
+                    tr.utilite = utilite;
+                    tr.tirage.construire(tr.meilleur);
+                    tr.trouve = true;
                 }
-                else if (utilite == meilleureUtilite && plateauMoves > 0) {
-                    plateauMoves--;
-                    meilleurVoisin = voisin;
-                    amelioration = true;
+                else if (utilite == tr.utilite && tr.plateau > 0) {
+                    tr.plateau--;
+                    tr.tirage.construire(tr.meilleur);
+                    tr.trouve = true;
                 }
             }
-
-            solution = meilleurVoisin;
-            utiliteCourante = meilleureUtilite;
         }
 
-        return solution;
+        /** @return le meilleur voisin du lot (à égalité, le premier tiré), ou null s'il n'y en a pas. */
+        Solution reduire() {
+            Tirages retenue = null;
+            for (Tirages tr : tranches) {
+                if (tr.trouve && (retenue == null || tr.utilite > retenue.utilite)) {
+                    retenue = tr;
+                }
+            }
+            return (retenue != null ? retenue.meilleur : null);
+        }
     }
-
 }
@@ -0,0 +1,535 @@
+package solveur.hillclimbing;
+
+import java.util.Arrays;
+
+import sacADos.InstanceCompacte;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.glouton.TriParCles;
+
+/**
+ * Énumération du voisinage S' = (S \ E) ∪ A, avec |E| ≤ t et |A| ≤ t,
+ * à la recherche du meilleur voisin admissible.
+ *
+ * <p>
+ * Les ensembles retirés E sont énumérés parmi les objets de S par utilité
+ * croissante, les ensembles ajoutés A parmi les objets absents par utilité
+ * décroissante. Quatre coupes rendent t = 2 praticable sur des milliers
+ * d'objets, et t = 3 sur des centaines :
+ * <ul>
+ *   <li>utilité : au plus t ajouts rapportent au plus la somme des t
+ *       meilleures utilités restantes (sommes préfixes) ; une branche qui ne
+ *       peut plus battre le meilleur voisin est abandonnée avec toutes les
+ *       suivantes ;</li>
+ *   <li>capacité : un objet n'est ajouté que s'il tient dans la capacité
+ *       libre courante (retraits compris), mise à jour par différence ;</li>
+ *   <li>capacité, encore : pour chaque dimension, et pour la contrainte
+ *       surrogate (somme des coûts pondérés par 1 / budget), les absents sont
+ *       aussi triés par coût croissant avec le maximum cumulé de leurs
+ *       utilités ; une recherche dichotomique par filtre donne l'utilité
+ *       maximale M d'un objet qui tient dans la capacité libre. Le parcours
+ *       des ajouts commence directement au premier candidat d'utilité ≤ M, et
+ *       un ensemble E qui libère trop peu de place est écarté d'emblée ;</li>
+ *   <li>blocs : les candidats sont groupés par blocs de {@value #BLOC} rangs
+ *       consécutifs, avec leur coût minimal pour chaque filtre ; un bloc dont
+ *       un minimum dépasse la capacité libre est sauté en entier.</li>
+ * </ul>
+ * La contrainte surrogate est la plus sélective quand la capacité libre est
+ * faible partout, ce qui est le cas après un premier ajout. Sa relaxation
+ * continue (sac à dos fractionnaire des absents, par utilité / coût surrogate
+ * décroissant) majore en outre le gain de tous les ajouts d'un ensemble E,
+ * et de tous ses prolongements : on cesse d'étendre E dès que le gain
+ * possible ne couvre plus l'utilité retirée.
+ * Rien n'est alloué pendant l'énumération ; le meilleur mouvement est
+ * mémorisé sous forme d'indices puis appliqué en place. En acceptation au
+ * premier voisin, l'énumération s'arrête dès qu'un voisin est retenu.
+ *
+ * <p>
+ * Un voisinage est lié à une instance et à une valeur de t ; il n'est pas
+ * partagé entre threads.
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+final class VoisinageEchanges {
+
+    /** Taille d'un bloc de candidats (puissance de 2). */
+    private static final int BLOC = 16;
+
+    /** log2(BLOC). */
+    private static final int LOG_BLOC = 4;
+
+    /** Échelle des poids entiers de la contrainte surrogate (coûts surrogate exacts en double). */
+    private static final long ECHELLE_SURROGATE = 1L << 16;
+
+    private final InstanceCompacte instance;
+    private final int k;
+    private final int t;
+
+    /** Nombre de filtres de capacité : les k dimensions, puis la contrainte surrogate. */
+    private final int f;
+
+    /** Poids entier de chaque dimension dans la contrainte surrogate. */
+    private final long[] poids;
+
+    /** Coût surrogate de chaque objet. */
+    private final long[] coutSurrogate;
+
+    /** Tous les objets par utilité décroissante. */
+    private final int[] ordreUtilite;
+
+    /** Objets absents par utilité décroissante, leurs utilités et leurs sommes préfixes. */
+    private final int[] candidats;
+    private final long[] utilites;
+    private final long[] prefixe;
+    private int nbCandidats;
+
+    /** Objets présents par utilité croissante, et plus grand coût surrogate à partir de chaque rang. */
+    private final int[] membres;
+    private final long[] coutSurrogateMaxSuffixe;
+    private int nbMembres;
+
+    /**
+     * Relaxation continue : coût surrogate et utilité des absents par rapport
+     * décroissant, et leurs sommes cumulées.
+     */
+    private final long[] relaxCout;
+    private final long[] relaxUtilite;
+    private final long[] relaxCoutCumule;
+    private final long[] relaxUtiliteCumulee;
+
+    /**
+     * Par filtre : coûts des absents triés par ordre croissant, et utilité
+     * maximale des absents jusqu'à ce rang.
+     */
+    private final long[][] coutsTries;
+    private final long[][] utiliteMaxCumulee;
+
+    /** minBloc[b * f + g] : coût minimal pour le filtre g des candidats du bloc b. */
+    private final long[] minBloc;
+
+    /**
+     * residus[p] : capacité libre, pour chaque filtre, après les p premiers
+     * retraits/ajouts du mouvement courant.
+     */
+    private final long[][] residus;
+
+    /** Mouvement en cours de construction. */
+    private final int[] retraits;
+    private final int[] ajouts;
+
+    /** Meilleur mouvement trouvé. */
+    private final int[] meilleursRetraits;
+    private final int[] meilleursAjouts;
+    private int nbMeilleursRetraits;
+    private int nbMeilleursAjouts;
+
+    private long meilleure;
+    private int plateau;
+    private boolean trouve;
+
+    /** Vrai si l'énumération s'arrête au premier voisin retenu. */
+    private final boolean premiere;
+    private Controle controle;
+
+    /**
+     * @param instance     instance compacte du sac à dos
+     * @param t            nombre maximal de retraits et d'ajouts
+     * @param ordreUtilite tous les objets par utilité décroissante
+     * @param premiere     vrai pour s'arrêter au premier voisin améliorant
+     */
+    VoisinageEchanges(InstanceCompacte instance, int t, int[] ordreUtilite, boolean premiere) {
+        int n = instance.nombreObjets();
+        this.instance = instance;
+        this.k = instance.dimension();
+        this.t = t;
+        this.f = k + 1;
+        this.ordreUtilite = ordreUtilite;
+        this.premiere = premiere;
+        this.candidats = new int[n];
+        this.utilites = new long[n];
+        this.prefixe = new long[n + 1];
+        this.membres = new int[n];
+        this.coutSurrogateMaxSuffixe = new long[n + 1];
+        this.relaxCout = new long[n];
+        this.relaxUtilite = new long[n];
+        this.relaxCoutCumule = new long[n + 1];
+        this.relaxUtiliteCumulee = new long[n + 1];
+        this.coutsTries = new long[f][n];
+        this.utiliteMaxCumulee = new long[f][n];
+        this.minBloc = new long[((n + BLOC - 1) / BLOC) * f];
+        this.residus = new long[2 * t + 1][f];
+
+        this.poids = new long[k];
+        for (int d = 0; d < k; d++) {
+            poids[d] = Math.max(1, ECHELLE_SURROGATE / Math.max(1, instance.budget(d)));
+        }
+        this.coutSurrogate = new long[n];
+        for (int i = 0; i < n; i++) {
+            for (int d = 0; d < k; d++) {
+                coutSurrogate[i] += poids[d] * instance.cout(i, d);
+            }
+        }
+        this.retraits = new int[t];
+        this.ajouts = new int[t];
+        this.meilleursRetraits = new int[t];
+        this.meilleursAjouts = new int[t];
+    }
+
+    /**
+     * Cherche le meilleur voisin de la solution (le premier voisin améliorant si premiere).
+     *
+     * @param solution     solution courante admissible (non modifiée)
+     * @param plateauMoves nombre de voisins d'utilité égale acceptables
+     * @param controle     contrôle d'arrêt, consulté à chaque premier retrait
+     * @return true si un voisin meilleur (ou d'utilité égale, sur plateau) a été trouvé
+     */
+    boolean chercher(Solution solution, int plateauMoves, Controle controle) {
+
+        preparer(solution);
+
+        this.meilleure = solution.utilite();
+        this.plateau = plateauMoves;
+        this.trouve = false;
+        this.controle = controle;
+
+        long surrogate = 0;
+        for (int d = 0; d < k; d++) {
+            residus[0][d] = solution.reste(d);
+            surrogate += poids[d] * solution.reste(d);
+        }
+        residus[0][k] = surrogate;
+
+        retirer(0, 0, solution.utilite());
+        return trouve;
+    }
+
+    /**
+     * Applique à la solution le meilleur mouvement trouvé par le dernier appel
+     * à {@link #chercher(Solution, int, Controle)}.
+     *
+     * @param solution solution passée à la recherche
+     */
+    void appliquer(Solution solution) {
+        for (int r = 0; r < nbMeilleursRetraits; r++) {
+            solution.retirer(meilleursRetraits[r]);
+        }
+        for (int a = 0; a < nbMeilleursAjouts; a++) {
+            solution.ajouter(meilleursAjouts[a]);
+        }
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Candidats, membres, sommes préfixes et rapports maximaux de la solution courante. */
+    private void preparer(Solution solution) {
+        int n = ordreUtilite.length;
+
+        nbCandidats = 0;
+        nbMembres = 0;
+
+        for (int r = 0; r < n; r++) {
+            int i = ordreUtilite[r];
+            if (!solution.contient(i)) {
+                candidats[nbCandidats] = i;
+                utilites[nbCandidats] = instance.utilite(i);
+                prefixe[nbCandidats + 1] = prefixe[nbCandidats] + utilites[nbCandidats];
+                nbCandidats++;
+            }
+        }
+
+        Arrays.fill(minBloc, Long.MAX_VALUE);
+        for (int c = 0; c < nbCandidats; c++) {
+            int b = (c >>> LOG_BLOC) * f;
+            for (int g = 0; g < f; g++) {
+                minBloc[b + g] = Math.min(minBloc[b + g], cout(candidats[c], g));
+            }
+        }
+
+        // candidats par coût croissant (clé −coût, exacte en double), pour chaque filtre
+        for (int g = 0; g < f; g++) {
+            double[] cles = new double[nbCandidats];
+            for (int c = 0; c < nbCandidats; c++) {
+                cles[c] = -cout(candidats[c], g);
+            }
+            int[] parCout = TriParCles.decroissant(cles);
+
+            long max = Long.MIN_VALUE;
+            for (int j = 0; j < nbCandidats; j++) {
+                int i = candidats[parCout[j]];
+                coutsTries[g][j] = cout(i, g);
+                max = Math.max(max, instance.utilite(i));
+                utiliteMaxCumulee[g][j] = max;
+            }
+        }
+
+        // relaxation continue de la contrainte surrogate
+        double[] rapports = new double[nbCandidats];
+        for (int c = 0; c < nbCandidats; c++) {
+            long cs = coutSurrogate[candidats[c]];
+            rapports[c] = (cs == 0 ? Double.POSITIVE_INFINITY : (double) utilites[c] / cs);
+        }
+        int[] parRapport = TriParCles.decroissant(rapports);
+        for (int p = 0; p < nbCandidats; p++) {
+            int c = parRapport[p];
+            relaxCout[p] = coutSurrogate[candidats[c]];
+            relaxUtilite[p] = utilites[c];
+            relaxCoutCumule[p + 1] = somme(relaxCoutCumule[p], relaxCout[p]);
+            relaxUtiliteCumulee[p + 1] = relaxUtiliteCumulee[p] + relaxUtilite[p];
+        }
+
+        for (int r = n - 1; r >= 0; r--) {
+            int i = ordreUtilite[r];
+            if (solution.contient(i)) {
+                membres[nbMembres++] = i;
+            }
+        }
+        coutSurrogateMaxSuffixe[nbMembres] = 0;
+        for (int j = nbMembres - 1; j >= 0; j--) {
+            coutSurrogateMaxSuffixe[j] = Math.max(coutSurrogateMaxSuffixe[j + 1], coutSurrogate[membres[j]]);
+        }
+    }
+
+    /**
+     * Énumère les ensembles de retraits prolongeant les nbE premiers,
+     * à partir du membre de rang debut.
+     *
+     * @param u utilité après les retraits courants
+     */
+    private void retirer(int debut, int nbE, long u) {
+
+        // ajouts possibles après ces retraits
+        ajouter(0, nbE, 0, u);
+        if (nbE == t) {
+            return;
+        }
+
+        long gainMax = prefixe[Math.min(t, nbCandidats)];
+        for (int j = debut; j < nbMembres; j++) {
+
+            if (nbE == 0 && controle.doitArreter()) {
+                return;
+            }
+
+            int m = membres[j];
+            long u2 = u - instance.utilite(m);
+            long[] avant = residus[nbE];
+
+            // membres par utilité croissante : les suivants coûtent plus cher, et
+            // ne libèrent pas plus de place surrogate que le plus gros d'entre eux
+            long placeMax = avant[k];
+            for (int r = nbE; r < t; r++) {
+                placeMax = somme(placeMax, coutSurrogateMaxSuffixe[j]);
+            }
+            if (!prometteur(u2 + Math.min(gainMax, relaxation(placeMax)))) {
+                break;
+            }
+
+            long[] apres = residus[nbE + 1];
+            for (int g = 0; g < f; g++) {
+                apres[g] = avant[g] + cout(m, g);
+            }
+            retraits[nbE] = m;
+            retirer(j + 1, nbE + 1, u2);
+        }
+    }
+
+    /**
+     * Énumère les ensembles d'ajouts prolongeant les nbA premiers,
+     * à partir du candidat de rang debut.
+     *
+     * @param u utilité après les retraits et ajouts courants
+     */
+    private void ajouter(int debut, int nbE, int nbA, long u) {
+
+        long[] residu = residus[nbE + nbA];
+        int restants = t - nbA;
+
+        if (!prometteur(u + relaxation(residu[k]))) {
+            return;
+        }
+
+        // aucun candidat d'utilité supérieure à M ne tient
+        long m = utiliteMaxQuiTient(residu, u, restants);
+        if (m < 0) {
+            return;
+        }
+
+        int premier = (debut < nbCandidats && utilites[debut] > m ? premierRangAuPlus(debut, m) : debut);
+        for (int c = premier; c < nbCandidats; c++) {
+
+            // candidats par utilité décroissante : les suivants rapportent moins
+            long borne = u + prefixe[Math.min(c + restants, nbCandidats)] - prefixe[c];
+            if (!prometteur(borne)) {
+                break;
+            }
+
+            // début de bloc : aucun candidat du bloc ne tient si un minimum dépasse
+            if ((c & (BLOC - 1)) == 0 && !blocPeutTenir(c >>> LOG_BLOC, residu)) {
+                c += BLOC - 1;
+                continue;
+            }
+
+            int i = candidats[c];
+            if (!tient(i, residu)) {
+                continue;
+            }
+
+            long u2 = u + utilites[c];
+            ajouts[nbA] = i;
+
+            if (prometteur(u2)) {
+                retenir(nbE, nbA + 1, u2);
+            }
+
+            if (restants > 1) {
+                long[] apres = residus[nbE + nbA + 1];
+                for (int g = 0; g < f; g++) {
+                    apres[g] = residu[g] - cout(i, g);
+                }
+                ajouter(c + 1, nbE, nbA + 1, u2);
+            }
+        }
+    }
+
+    /**
+     * Vrai si une utilité bat le meilleur voisin, ou l'égale alors qu'il reste
+     * des mouvements sur plateau ; toujours faux une fois le premier voisin retenu
+     * en acceptation au premier voisin.
+     */
+    private boolean prometteur(long utilite) {
+        if (premiere && trouve) {
+            return false;
+        }
+        return utilite > meilleure || (utilite == meilleure && plateau > 0);
+    }
+
+    /** Mémorise le mouvement courant comme meilleur voisin. */
+    private void retenir(int nbE, int nbA, long utilite) {
+        if (utilite > meilleure) {
+            meilleure = utilite;
+        } else {
+            plateau--;
+        }
+        System.arraycopy(retraits, 0, meilleursRetraits, 0, nbE);
+        System.arraycopy(ajouts, 0, meilleursAjouts, 0, nbA);
+        nbMeilleursRetraits = nbE;
+        nbMeilleursAjouts = nbA;
+        trouve = true;
+    }
+
+    /**
+     * Majorant M de l'utilité d'un absent qui tient dans la capacité libre :
+     * minimum, sur les filtres, de l'utilité maximale des absents assez peu
+     * coûteux. La contrainte surrogate, la plus sélective, est examinée en
+     * premier ; on s'arrête dès que restants × M ne suffit plus.
+     *
+     * @param u        utilité du mouvement courant
+     * @param restants nombre d'ajouts encore possibles
+     * @return M, ou -1 si aucun ensemble d'ajouts ne peut rendre le mouvement prometteur
+     */
+    private long utiliteMaxQuiTient(long[] residu, long u, int restants) {
+        long m = Long.MAX_VALUE;
+        for (int g = f - 1; g >= 0; g--) {
+            int nb = nombreAuPlus(coutsTries[g], residu[g]);
+            if (nb == 0) {
+                return -1;
+            }
+            m = Math.min(m, utiliteMaxCumulee[g][nb - 1]);
+            if (!prometteur(u + restants * m)) {
+                return -1;
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Valeur du sac à dos fractionnaire des absents pour la contrainte surrogate,
+     * arrondie par excès : majorant de l'utilité de tout ensemble d'ajouts
+     * qui tient dans une place surrogate donnée.
+     */
+    private long relaxation(long place) {
+        // nombre d'objets entiers : plus grand p tel que coût cumulé[p] ≤ place
+        int bas = 0;
+        int haut = nbCandidats;
+        while (bas < haut) {
+            int milieu = (bas + haut + 1) >>> 1;
+            if (relaxCoutCumule[milieu] <= place) {
+                bas = milieu;
+            } else {
+                haut = milieu - 1;
+            }
+        }
+        long valeur = relaxUtiliteCumulee[bas];
+        if (bas < nbCandidats) {
+            valeur += (long) Math.ceil((double) (place - relaxCoutCumule[bas]) * relaxUtilite[bas] / relaxCout[bas]);
+        }
+        return valeur;
+    }
+
+    /** Somme saturée à Long.MAX_VALUE (coûts positifs). */
+    private static long somme(long a, long b) {
+        return (a > Long.MAX_VALUE - b ? Long.MAX_VALUE : a + b);
+    }
+
+    /** Nombre de coûts triés ≤ limite (recherche dichotomique). */
+    private int nombreAuPlus(long[] couts, long limite) {
+        int bas = 0;
+        int haut = nbCandidats;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (couts[milieu] <= limite) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    /** Premier rang ≥ debut de candidat d'utilité ≤ m (candidats par utilité décroissante). */
+    private int premierRangAuPlus(int debut, long m) {
+        int bas = debut;
+        int haut = nbCandidats;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (utilites[milieu] > m) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    /** Coût d'un objet pour un filtre : dimension g, ou contrainte surrogate si g = k. */
+    private long cout(int i, int g) {
+        return (g < k ? instance.cout(i, g) : coutSurrogate[i]);
+    }
+
+    /** Faux si un coût minimal du bloc dépasse la capacité libre donnée. */
+    private boolean blocPeutTenir(int bloc, long[] residu) {
+        int b = bloc * f;
+        for (int g = 0; g < f; g++) {
+            if (minBloc[b + g] > residu[g]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Vrai si l'objet tient dans la capacité libre donnée (rejet rapide par la contrainte surrogate). */
+    private boolean tient(int i, long[] residu) {
+        if (coutSurrogate[i] > residu[k]) {
+            return false;
+        }
+        for (int d = 0; d < k; d++) {
+            if (instance.cout(i, d) > residu[d]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+package solveur.ils;
+
+/**
+ * Critère d'acceptation de la recherche locale itérée : décide si la
+ * solution obtenue après perturbation et descente remplace la solution
+ * courante d'une chaîne.
+ *
+ * <p>
+ * Les critères usuels sont fournis par {@link CriteresAcceptation}.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CritereAcceptation {
+
+    /**
+     * @param candidate utilité de la solution perturbée puis améliorée
+     * @param courante  utilité de la solution courante de la chaîne
+     * @param meilleure utilité de la meilleure solution connue, toutes chaînes confondues
+     * @return true si la candidate devient la solution courante
+     */
+    boolean accepter(long candidate, long courante, long meilleure);
+}
@@ -0,0 +1,50 @@
+package solveur.ils;
+
+/**
+ * Fournit les critères d'acceptation de la recherche locale itérée
+ * ({@link CritereAcceptation}).
+ *
+ * <ul>
+ *   <li>amélioration : la candidate est acceptée si elle vaut au moins la
+ *       solution courante (intensification) ;</li>
+ *   <li>marche aléatoire : toute candidate est acceptée (diversification) ;</li>
+ *   <li>écart relatif : la candidate est acceptée si elle est à moins d'une
+ *       fraction donnée de la meilleure solution connue.</li>
+ * </ul>
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class CriteresAcceptation {
+
+    private CriteresAcceptation() {
+    }
+
+    /**
+     * @return critère acceptant une candidate au moins aussi bonne que la solution courante
+     */
+    public static CritereAcceptation amelioration() {
+        return (candidate, courante, meilleure) -> candidate >= courante;
+    }
+
+    /**
+     * @return critère acceptant toute candidate
+     */
+    public static CritereAcceptation marcheAleatoire() {
+        return (candidate, courante, meilleure) -> true;
+    }
+
+    /**
+     * Critère acceptant une candidate d'utilité ≥ (1 − ecart) × meilleure.
+     *
+     * @param ecart écart relatif toléré à la meilleure solution, dans [0, 1]
+     * @return critère d'acceptation
+     * @throws IllegalArgumentException si l'écart n'est pas dans [0, 1]
+     */
+    public static CritereAcceptation ecartRelatif(double ecart) {
+        if (!(ecart >= 0 && ecart <= 1)) {
+            throw new IllegalArgumentException("L'écart doit être dans [0, 1] : " + ecart);
+        }
+        return (candidate, courante, meilleure) -> candidate >= (1 - ecart) * meilleure;
+    }
+}
@@ -0,0 +1,447 @@
+package solveur.ils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import alea.SourceAleatoire;
+import sacADos.InstanceCompacte;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.voisinage.DescenteVariable;
+import solveur.voisinage.TypeMouvement;
+import solveur.voisinage.Voisinage;
+
+/**
+ * Recherche locale itérée (ILS, <i>Iterated Local Search</i>) à chaînes
+ * parallèles.
+ *
+ * <p>
+ * Une chaîne part de la solution initiale améliorée par descente, puis
+ * répète :
+ * <ul>
+ *   <li>perturbation d'une copie de la solution courante
+ *       ({@link Perturbation}) ;</li>
+ *   <li>descente à voisinages variables sur la copie
+ *       ({@link DescenteVariable}) ;</li>
+ *   <li>acceptation de la copie comme nouvelle solution courante selon le
+ *       {@link CritereAcceptation}.</li>
+ * </ul>
+ *
+ * <p>
+ * Les chaînes s'exécutent dans un {@link ForkJoinPool}, chacune avec son
+ * propre {@link SplittableRandom} : le flux de son numéro dans la
+ * {@link SourceAleatoire} de la graine. La
+ * meilleure solution est partagée sans verrou (compare-and-set sur un
+ * instantané immuable), les égalités étant départagées par le plus petit
+ * numéro de chaîne. Une chaîne qui n'a pas amélioré sa meilleure solution
+ * depuis {@code redemarrage} itérations repart de la meilleure solution
+ * partagée.
+ *
+ * <p>
+ * Les chaînes avancent par tours de {@value #PERIODE_SYNCHRONISATION}
+ * itérations. Pendant un tour, le critère d'acceptation et les redémarrages
+ * ne voient que la meilleure solution partagée relevée au début du tour ;
+ * elle n'est relevée à nouveau qu'une fois toutes les chaînes arrivées au
+ * bout du tour. Ce que fait une chaîne ne dépend donc pas de l'avancement
+ * des autres, et le résultat ne dépend que de la graine, pas de
+ * l'ordonnancement des threads (hors arrêt sur une durée).
+ *
+ * <p>
+ * Chaque chaîne s'arrête après un nombre d'itérations ou une durée donnés,
+ * ou quand le {@link Controle} partagé le demande ; ses descentes comptent
+ * leurs voisinages explorés comme itérations.
+ *
+ * @author ZHU YULEI
+ * @version 1.2
+ */
+public class RechercheLocaleIteree implements Solveur<RechercheLocaleIteree.Configuration> {
+
+    /** Nombre d'objets basculés ou retirés par perturbation, par défaut. */
+    public static final int FORCE = 4;
+
+    /** Nombre d'itérations par chaîne, par défaut. */
+    public static final long ITERATIONS = 1_000;
+
+    /** Nombre d'itérations d'une chaîne entre deux relevés de la meilleure solution partagée. */
+    static final int PERIODE_SYNCHRONISATION = 50;
+
+    /** Voisinages de la descente par défaut. */
+    public static final List<TypeMouvement> VOISINAGES = Collections.unmodifiableList(List.of(
+            TypeMouvement.AJOUT, TypeMouvement.ECHANGE));
+
+    /**
+     * Perturbation de la solution courante d'une chaîne.
+     */
+    public enum Perturbation {
+        /**
+         * {@code force} objets tirés au hasard changent d'état (ajoutés
+         * s'ils étaient absents, retirés sinon) ; la solution est ensuite
+         * réparée en retirant les objets les moins efficaces.
+         */
+        BASCULEMENTS,
+        /**
+         * Ruine : {@code force} objets tirés au hasard parmi les
+         * 2 × {@code force} objets présents les moins efficaces sont retirés ;
+         * la descente reconstruit ensuite la solution.
+         */
+        RUINE
+    }
+
+    /**
+     * Paramètres d'une recherche locale itérée.
+     */
+    public static final class Configuration {
+        private final Function<InstanceCompacte, Solution> depart;
+        private final Perturbation perturbation;
+        private final int force;
+        private final CritereAcceptation acceptation;
+        private final List<TypeMouvement> voisinages;
+        private final int nombreChaines;
+        private final long limiteIterations;
+        private final long limiteTempsMillis;
+        private final long redemarrage;
+        private final long graine;
+
+        /**
+         * @param depart            construction de la solution initiale admissible
+         * @param perturbation      perturbation de la solution courante
+         * @param force             nombre d'objets touchés par une perturbation
+         * @param acceptation       critère d'acceptation
+         * @param voisinages        voisinages de la descente, dans l'ordre d'exploration
+         * @param nombreChaines     nombre de chaînes, chacune sur son thread
+         * @param limiteIterations  nombre maximal d'itérations par chaîne
+         * @param limiteTempsMillis durée maximale de la recherche, en millisecondes
+         * @param redemarrage       itérations sans amélioration avant de repartir de la
+         *                          meilleure solution partagée (0 : jamais)
+         * @param graine            graine maîtresse
+         *
+         * @throws IllegalArgumentException si un paramètre est invalide
+         */
+        public Configuration(Function<InstanceCompacte, Solution> depart, Perturbation perturbation, int force,
+                             CritereAcceptation acceptation, List<TypeMouvement> voisinages, int nombreChaines,
+                             long limiteIterations, long limiteTempsMillis, long redemarrage, long graine) {
+            if (depart == null) {
+                throw new NullPointerException("La construction de départ ne peut pas être null.");
+            }
+            if (perturbation == null) {
+                throw new NullPointerException("La perturbation ne peut pas être null.");
+            }
+            if (acceptation == null) {
+                throw new NullPointerException("Le critère d'acceptation ne peut pas être null.");
+            }
+            if (voisinages == null) {
+                throw new NullPointerException("Les voisinages ne peuvent pas être null.");
+            }
+            List<TypeMouvement> copie = new ArrayList<>(voisinages);
+            if (copie.isEmpty() || copie.contains(null)) {
+                throw new IllegalArgumentException("Il faut au moins un voisinage, et aucun null.");
+            }
+            if (force <= 0 || nombreChaines <= 0) {
+                throw new IllegalArgumentException("La force et le nombre de chaînes doivent être strictement positifs.");
+            }
+            if (limiteIterations <= 0 || limiteTempsMillis <= 0) {
+                throw new IllegalArgumentException("Les limites d'itérations et de temps doivent être strictement positives.");
+            }
+            if (redemarrage < 0) {
+                throw new IllegalArgumentException("Le seuil de redémarrage doit être >= 0.");
+            }
+            this.depart = depart;
+            this.perturbation = perturbation;
+            this.force = force;
+            this.acceptation = acceptation;
+            this.voisinages = Collections.unmodifiableList(copie);
+            this.nombreChaines = nombreChaines;
+            this.limiteIterations = limiteIterations;
+            this.limiteTempsMillis = limiteTempsMillis;
+            this.redemarrage = redemarrage;
+            this.graine = graine;
+        }
+    }
+
+    @Override
+    public String nom() {
+        return "ils";
+    }
+
+    /**
+     * @return départ glouton f_somme, {@value #FORCE} basculements, acceptation si
+     *         amélioration, voisinages {@link #VOISINAGES}, une chaîne par cœur,
+     *         {@value #ITERATIONS} itérations par chaîne, sans limite de temps ni
+     *         redémarrage, graine 0.
+     */
+    @Override
+    public Configuration configurationParDefaut() {
+        return new Configuration(inst -> new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme()),
+                Perturbation.BASCULEMENTS, FORCE, CriteresAcceptation.amelioration(), VOISINAGES,
+                Runtime.getRuntime().availableProcessors(), ITERATIONS, Long.MAX_VALUE, 0, 0);
+    }
+
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Configuration configuration, Controle controle) {
+        return resoudre(instance, configuration.depart.apply(instance), configuration, controle);
+    }
+
+    /**
+     * Recherche locale itérée depuis une solution donnée (la construction de
+     * départ de la configuration est ignorée).
+     *
+     * @param instance         instance compacte du sac à dos (lue simultanément par plusieurs threads)
+     * @param solutionInitiale solution admissible (non modifiée)
+     * @param configuration    paramètres de la recherche
+     * @param controle         contrôle d'arrêt, partagé par toutes les chaînes
+     * @return meilleure solution rencontrée
+     *
+     * @throws NullPointerException     si la solution initiale est null
+     * @throws IllegalArgumentException si la solution initiale n'est pas admissible
+     */
+    public Solution resoudre(InstanceCompacte instance, Solution solutionInitiale, Configuration configuration,
+                             Controle controle) {
+
+        if (solutionInitiale == null) {
+            throw new NullPointerException("La solution initiale ne peut pas être null.");
+        }
+        if (!solutionInitiale.estAdmissible()) {
+            throw new IllegalArgumentException("La solution initiale doit être admissible.");
+        }
+
+        long debut = System.nanoTime();
+        long limiteNanos = (configuration.limiteTempsMillis >= Long.MAX_VALUE / 1_000_000
+                ? Long.MAX_VALUE
+                : configuration.limiteTempsMillis * 1_000_000);
+
+        // objets par efficacité croissante : les premiers retirés par la réparation et la ruine
+        int[] ordre = Criteres.f_somme().inverse().ordre(instance);
+
+        AtomicReference<Meilleure> meilleure = new AtomicReference<>(new Meilleure(solutionInitiale.copie(),
+                Integer.MAX_VALUE));
+
+        SourceAleatoire alea = new SourceAleatoire(configuration.graine);
+        Chaine[] chaines = new Chaine[configuration.nombreChaines];
+        boolean[] actives = new boolean[chaines.length];
+
+        ForkJoinPool pool = new ForkJoinPool(configuration.nombreChaines);
+        try {
+            boolean enCours = true;
+            while (enCours) {
+                // la fin de chaque tour sert de barrière : l'instantané ne dépend pas de l'ordonnancement
+                Meilleure reference = meilleure.get();
+                pool.submit(() -> IntStream.range(0, chaines.length).parallel().forEach(c -> {
+                    if (chaines[c] == null) {
+                        chaines[c] = new Chaine(instance, configuration, ordre, meilleure, c, alea.flux(c));
+                        actives[c] = chaines[c].demarrer(solutionInitiale, controle);
+                    }
+                    if (actives[c]) {
+                        actives[c] = chaines[c].avancer(reference, debut, limiteNanos, controle);
+                    }
+                })).get();
+
+                enCours = false;
+                for (boolean active : actives) {
+                    enCours |= active;
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Recherche locale itérée interrompue.", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Erreur pendant la résolution.", e.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+
+        return meilleure.get().solution.copie();
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Remplace la meilleure solution si la proposition est meilleure (sans verrou). */
+    private static void proposer(AtomicReference<Meilleure> meilleure, Meilleure proposition) {
+        Meilleure courante;
+        do {
+            courante = meilleure.get();
+            if (!proposition.estMeilleureQue(courante)) {
+                return;
+            }
+        } while (!meilleure.compareAndSet(courante, proposition));
+    }
+
+    /** Instantané immuable d'une solution, avec le numéro de sa chaîne pour départager les égalités. */
+    private static final class Meilleure {
+        final Solution solution;
+        final int chaine;
+
+        Meilleure(Solution solution, int chaine) {
+            this.solution = solution;
+            this.chaine = chaine;
+        }
+
+        boolean estMeilleureQue(Meilleure autre) {
+            long u = solution.utilite();
+            long v = autre.solution.utilite();
+            return u > v || (u == v && chaine < autre.chaine);
+        }
+    }
+
+    /** Une chaîne : sa solution courante, ses voisinages et son générateur, propres à son thread. */
+    private static final class Chaine {
+        final InstanceCompacte instance;
+        final Configuration configuration;
+        final int[] ordre;
+        final AtomicReference<Meilleure> meilleure;
+        final int numero;
+        final SplittableRandom alea;
+        final Voisinage[] voisinages;
+        final DescenteVariable descente = new DescenteVariable();
+
+        /** Numéro de la perturbation en cours, et dernière perturbation ayant ajouté chaque objet. */
+        long perturbation;
+        final long[] ajouteA;
+
+        /** État de la chaîne, conservé d'un tour à l'autre. */
+        Solution courante;
+        Solution candidate;
+        long meilleureLocale;
+        long sansAmelioration;
+        long iteration;
+
+        Chaine(InstanceCompacte instance, Configuration configuration, int[] ordre,
+               AtomicReference<Meilleure> meilleure, int numero, SplittableRandom alea) {
+            this.instance = instance;
+            this.configuration = configuration;
+            this.ordre = ordre;
+            this.meilleure = meilleure;
+            this.numero = numero;
+            this.alea = alea;
+            this.voisinages = new Voisinage[configuration.voisinages.size()];
+            for (int v = 0; v < voisinages.length; v++) {
+                voisinages[v] = configuration.voisinages.get(v).creer(instance);
+            }
+            this.ajouteA = new long[instance.nombreObjets()];
+        }
+
+        /**
+         * Améliore la solution initiale par descente et la propose.
+         *
+         * @return false si le contrôle demande déjà l'arrêt
+         */
+        boolean demarrer(Solution solutionInitiale, Controle controle) {
+            if (controle.doitArreter()) {
+                return false;
+            }
+            courante = solutionInitiale.copie();
+            descente.descendre(courante, voisinages, controle);
+            proposer(meilleure, new Meilleure(courante.copie(), numero));
+            candidate = courante.copie();
+            meilleureLocale = courante.utilite();
+            return true;
+        }
+
+        /**
+         * Exécute un tour d'au plus {@value RechercheLocaleIteree#PERIODE_SYNCHRONISATION} itérations.
+         *
+         * @param reference meilleure solution partagée relevée au début du tour
+         * @return false si la chaîne est terminée
+         */
+        boolean avancer(Meilleure reference, long debut, long limiteNanos, Controle controle) {
+            for (int pas = 0; pas < PERIODE_SYNCHRONISATION; pas++) {
+                if (iteration >= configuration.limiteIterations || controle.doitArreter()
+                        || System.nanoTime() - debut > limiteNanos) {
+                    return false;
+                }
+                iteration++;
+
+                candidate.copierDepuis(courante);
+                perturber(candidate);
+                descente.descendre(candidate, voisinages, controle);
+
+                long u = candidate.utilite();
+                // la valeur courante ne sert qu'à éviter une copie : une proposition plus faible ne gagnerait pas
+                if (u >= meilleure.get().solution.utilite()) {
+                    proposer(meilleure, new Meilleure(candidate.copie(), numero));
+                }
+                long globale = Math.max(reference.solution.utilite(), meilleureLocale);
+                if (configuration.acceptation.accepter(u, courante.utilite(), globale)) {
+                    courante.copierDepuis(candidate);
+                }
+
+                if (u > meilleureLocale) {
+                    meilleureLocale = u;
+                    sansAmelioration = 0;
+                }
+                else if (configuration.redemarrage > 0 && ++sansAmelioration >= configuration.redemarrage) {
+                    courante.copierDepuis(reference.solution);
+                    sansAmelioration = 0;
+                }
+            }
+            return iteration < configuration.limiteIterations;
+        }
+
+        /** Applique la perturbation de la configuration ; la solution reste admissible. */
+        void perturber(Solution solution) {
+            int n = instance.nombreObjets();
+            if (n == 0) {
+                return;
+            }
+            int force = configuration.force;
+            if (configuration.perturbation == Perturbation.RUINE) {
+                ruiner(solution, force);
+                return;
+            }
+
+            perturbation++;
+            for (int f = 0; f < force; f++) {
+                int i = alea.nextInt(n);
+                if (solution.contient(i)) {
+                    solution.retirer(i);
+                } else {
+                    solution.ajouter(i);
+                    ajouteA[i] = perturbation;
+                }
+            }
+
+            // réparation : objets les moins efficaces d'abord, ceux qui viennent d'être ajoutés en dernier
+            for (int passe = 0; passe < 2 && !solution.estAdmissible(); passe++) {
+                for (int p = 0; p < ordre.length && !solution.estAdmissible(); p++) {
+                    int i = ordre[p];
+                    if (solution.contient(i) && (passe == 1 || ajouteA[i] != perturbation)) {
+                        solution.retirer(i);
+                    }
+                }
+            }
+        }
+
+        /** Retire force objets tirés parmi les 2 × force objets présents les moins efficaces. */
+        private void ruiner(Solution solution, int force) {
+            int[] candidats = new int[2 * force];
+            int nb = 0;
+            for (int p = 0; p < ordre.length && nb < candidats.length; p++) {
+                if (solution.contient(ordre[p])) {
+                    candidats[nb++] = ordre[p];
+                }
+            }
+            for (int r = 0; r < force && nb > 0; r++) {
+                int j = alea.nextInt(nb);
+                solution.retirer(candidats[j]);
+                candidats[j] = candidats[--nb];
+            }
+        }
+    }
+}
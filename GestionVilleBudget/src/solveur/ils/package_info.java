@@ -0,0 +1,20 @@
+/**
+ * Contient la recherche locale itérée (ILS) pour le sac-à-dos
+ * multidimensionnel.
+ *
+ * <p>
+ * Chaque chaîne perturbe sa solution courante (basculements aléatoires ou
+ * ruine des objets les moins efficaces), lui réapplique une descente
+ * ({@link solveur.voisinage.DescenteVariable}) et accepte le résultat selon
+ * un {@link solveur.ils.CritereAcceptation}. Les chaînes tournent sur des
+ * threads distincts et partagent la meilleure solution sans verrou.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+package solveur.ils;
+
+
+public class package_info {
+
+}
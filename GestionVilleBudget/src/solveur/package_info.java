@@ -0,0 +1,20 @@
+/**
+ * Interface commune des solveurs du sac-à-dos multidimensionnel.
+ *
+ * <p>
+ * Chaque solveur des sous-packages implémente {@link solveur.Solveur} avec
+ * sa propre configuration typée. Le {@link solveur.Registre} les référence
+ * par nom et l'{@link solveur.ExecuteurSolveurs} les lance, seuls ou en parallèle,
+ * avec un budget de temps réel. L'arrêt est coopératif : les solveurs
+ * interrogent régulièrement leur {@link solveur.Controle} et rendent alors
+ * la meilleure solution obtenue, décrite par un {@link solveur.Resultat}.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+package solveur;
+
+
+public class package_info {
+
+}
@@ -0,0 +1,288 @@
+package solveur.recuit;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import alea.SourceAleatoire;
+import sacADos.InstanceCompacte;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.voisinage.TirageAleatoire;
+
+/**
+ * Recuit simulé sur les mouvements aléatoires du Hill Climbing.
+ *
+ * <p>
+ * Chaque mouvement retire jusqu'à {@code t} objets présents puis ajoute
+ * jusqu'à {@code t} objets tirés au hasard ({@link TirageAleatoire}, le
+ * générateur de la variante aléatoire de
+ * {@link solveur.hillclimbing.HillClimbingSolver}). Il est évalué par
+ * différence en O(t·k), sans copie de la solution : un mouvement
+ * inadmissible est rejeté, un mouvement de variation Δ ≥ 0 est accepté, un
+ * mouvement dégradant l'est avec la probabilité exp(Δ / T).
+ *
+ * <p>
+ * La température reste constante pendant un palier de
+ * {@code longueurPalier} mouvements, puis suit le {@link Refroidissement}
+ * choisi, sans jamais dépasser la température initiale. Celle-ci est
+ * calibrée sur un échantillon de mouvements depuis la solution de départ :
+ * la dégradation moyenne y est acceptée avec la probabilité
+ * {@code acceptationInitiale}.
+ *
+ * <p>
+ * La recherche s'arrête après un nombre de mouvements ou une durée donnés
+ * (horloge lue à chaque palier), ou quand son {@link Controle} le demande
+ * (une itération par palier), et rend la meilleure solution rencontrée.
+ * Les tirages ne dépendent que de la graine : la calibration suit le flux 0
+ * de la {@link SourceAleatoire} de cette graine, la marche le flux 1.
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+public class RecuitSimule implements Solveur<RecuitSimule.Configuration> {
+
+    /** Taille maximale des mouvements par défaut. */
+    public static final int T = 2;
+
+    /** Facteur du refroidissement géométrique par défaut. */
+    public static final double ALPHA = 0.99;
+
+    /** Nombre de mouvements par palier de température, par défaut. */
+    public static final int LONGUEUR_PALIER = 1000;
+
+    /** Probabilité d'accepter la dégradation moyenne au départ, par défaut. */
+    public static final double ACCEPTATION_INITIALE = 0.1;
+
+    /** Nombre de mouvements par défaut. */
+    public static final long MOUVEMENTS = 1_000_000;
+
+    /**
+     * Paramètres d'un recuit simulé.
+     */
+    public static final class Configuration {
+        private final Function<InstanceCompacte, Solution> depart;
+        private final int t;
+        private final Refroidissement refroidissement;
+        private final int longueurPalier;
+        private final double acceptationInitiale;
+        private final long limiteMouvements;
+        private final long limiteTempsMillis;
+        private final long graine;
+
+        /**
+         * @param depart              construction de la solution initiale admissible
+         * @param t                   taille maximale des mouvements (ajouts / retraits)
+         * @param refroidissement     loi de température, appliquée à la fin de chaque palier
+         * @param longueurPalier      nombre de mouvements par palier de température
+         * @param acceptationInitiale probabilité d'accepter la dégradation moyenne au départ, dans ]0, 1[
+         * @param limiteMouvements    nombre maximal de mouvements tirés
+         * @param limiteTempsMillis   durée maximale de la recherche, en millisecondes
+         * @param graine              graine des tirages
+         *
+         * @throws IllegalArgumentException si un paramètre est invalide
+         */
+        public Configuration(Function<InstanceCompacte, Solution> depart, int t, Refroidissement refroidissement,
+                             int longueurPalier, double acceptationInitiale, long limiteMouvements,
+                             long limiteTempsMillis, long graine) {
+            if (depart == null) {
+                throw new NullPointerException("La construction de départ ne peut pas être null.");
+            }
+            verifier(t, refroidissement, longueurPalier, acceptationInitiale, limiteMouvements, limiteTempsMillis);
+            this.depart = depart;
+            this.t = t;
+            this.refroidissement = refroidissement;
+            this.longueurPalier = longueurPalier;
+            this.acceptationInitiale = acceptationInitiale;
+            this.limiteMouvements = limiteMouvements;
+            this.limiteTempsMillis = limiteTempsMillis;
+            this.graine = graine;
+        }
+    }
+
+    @Override
+    public String nom() {
+        return "recuit";
+    }
+
+    /**
+     * @return départ glouton f_somme, t = {@value #T}, refroidissement géométrique
+     *         α = {@value #ALPHA}, paliers de {@value #LONGUEUR_PALIER} mouvements,
+     *         acceptation initiale {@value #ACCEPTATION_INITIALE}, {@value #MOUVEMENTS}
+     *         mouvements, sans limite de temps, graine 0.
+     */
+    @Override
+    public Configuration configurationParDefaut() {
+        return new Configuration(inst -> new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme()),
+                T, Refroidissements.geometrique(ALPHA), LONGUEUR_PALIER, ACCEPTATION_INITIALE,
+                MOUVEMENTS, Long.MAX_VALUE, 0);
+    }
+
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Configuration configuration, Controle controle) {
+        return resoudre(instance, configuration.depart.apply(instance), configuration.t,
+                configuration.refroidissement, configuration.longueurPalier, configuration.acceptationInitiale,
+                configuration.limiteMouvements, configuration.limiteTempsMillis, configuration.graine,
+                controle).getSolution();
+    }
+
+    /**
+     * Recuit simulé avec les paramètres par défaut, depuis une solution donnée.
+     *
+     * @param instance         instance compacte du sac à dos
+     * @param solutionInitiale solution admissible (non modifiée)
+     * @param graine           graine des tirages
+     * @return meilleure solution rencontrée et statistiques
+     */
+    public ResultatRecuit resoudre(InstanceCompacte instance, Solution solutionInitiale, long graine) {
+        return resoudre(instance, solutionInitiale, T, Refroidissements.geometrique(ALPHA), LONGUEUR_PALIER,
+                ACCEPTATION_INITIALE, MOUVEMENTS, Long.MAX_VALUE, graine, Controle.sansLimite());
+    }
+
+    /**
+     * Recuit simulé depuis une solution donnée.
+     *
+     * @param instance            instance compacte du sac à dos
+     * @param solutionInitiale    solution admissible (non modifiée)
+     * @param t                   taille maximale des mouvements (ajouts / retraits)
+     * @param refroidissement     loi de température, appliquée à la fin de chaque palier
+     * @param longueurPalier      nombre de mouvements par palier de température
+     * @param acceptationInitiale probabilité d'accepter la dégradation moyenne au départ, dans ]0, 1[
+     * @param limiteMouvements    nombre maximal de mouvements tirés
+     * @param limiteTempsMillis   durée maximale de la recherche, en millisecondes
+     * @param graine              graine des tirages
+     * @param controle            contrôle d'arrêt (une itération par palier)
+     * @return meilleure solution rencontrée et statistiques
+     *
+     * @throws NullPointerException     si la solution initiale est null
+     * @throws IllegalArgumentException si la solution initiale n'est pas admissible, ou si un
+     *                                  paramètre est invalide
+     * @throws IllegalStateException    si la loi de température rend une température non positive
+     */
+    public ResultatRecuit resoudre(InstanceCompacte instance, Solution solutionInitiale, int t,
+                                   Refroidissement refroidissement, int longueurPalier,
+                                   double acceptationInitiale, long limiteMouvements, long limiteTempsMillis,
+                                   long graine, Controle controle) {
+
+        if (solutionInitiale == null) {
+            throw new NullPointerException("La solution initiale ne peut pas être null.");
+        }
+        if (!solutionInitiale.estAdmissible()) {
+            throw new IllegalArgumentException("La solution initiale doit être admissible.");
+        }
+        verifier(t, refroidissement, longueurPalier, acceptationInitiale, limiteMouvements, limiteTempsMillis);
+
+        long debut = System.nanoTime();
+        long limiteNanos = (limiteTempsMillis >= Long.MAX_VALUE / 1_000_000
+                ? Long.MAX_VALUE
+                : limiteTempsMillis * 1_000_000);
+
+        Solution solution = solutionInitiale.copie();
+        Solution meilleure = solutionInitiale.copie();
+        TirageAleatoire tirage = new TirageAleatoire(instance, t, false);
+        tirage.synchroniser(solution);
+
+        SourceAleatoire source = new SourceAleatoire(graine);
+        double temperatureInitiale = calibrer(tirage, source.flux(0), longueurPalier, acceptationInitiale);
+        SplittableRandom alea = source.flux(1);
+        double temperature = temperatureInitiale;
+
+        double[] temperatures = new double[16];
+        double[] taux = new double[16];
+        int paliers = 0;
+        long mouvements = 0;
+        long admissibles = 0;
+        long acceptes = 0;
+
+        while (mouvements < limiteMouvements
+                && System.nanoTime() - debut <= limiteNanos
+                && controle.continuer()) {
+
+            int longueur = (int) Math.min(longueurPalier, limiteMouvements - mouvements);
+            long admissiblesPalier = 0;
+            long acceptesPalier = 0;
+
+            for (int m = 0; m < longueur; m++) {
+                if (!tirage.tirer(alea)) {
+                    continue;
+                }
+                admissiblesPalier++;
+                long delta = tirage.delta();
+                if (delta >= 0 || alea.nextDouble() < Math.exp(delta / temperature)) {
+                    tirage.appliquer();
+                    acceptesPalier++;
+                    if (solution.utilite() > meilleure.utilite()) {
+                        meilleure.copierDepuis(solution);
+                    }
+                }
+            }
+
+            mouvements += longueur;
+            admissibles += admissiblesPalier;
+            acceptes += acceptesPalier;
+            double tauxPalier = (admissiblesPalier == 0 ? 0 : (double) acceptesPalier / admissiblesPalier);
+
+            if (paliers == temperatures.length) {
+                temperatures = Arrays.copyOf(temperatures, 2 * paliers);
+                taux = Arrays.copyOf(taux, 2 * paliers);
+            }
+            temperatures[paliers] = temperature;
+            taux[paliers++] = tauxPalier;
+
+            double suivante = refroidissement.refroidir(temperature, temperatureInitiale, tauxPalier);
+            if (!(suivante > 0)) {
+                throw new IllegalStateException("La loi de température doit rester strictement positive : "
+                        + suivante);
+            }
+            temperature = Math.min(suivante, temperatureInitiale);
+        }
+
+        return new ResultatRecuit(meilleure, Arrays.copyOf(temperatures, paliers), Arrays.copyOf(taux, paliers),
+                mouvements, admissibles, acceptes, System.nanoTime() - debut);
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Vérifie les paramètres d'une recherche. */
+    private static void verifier(int t, Refroidissement refroidissement, int longueurPalier,
+                                 double acceptationInitiale, long limiteMouvements, long limiteTempsMillis) {
+        if (refroidissement == null) {
+            throw new NullPointerException("La loi de température ne peut pas être null.");
+        }
+        if (t <= 0) {
+            throw new IllegalArgumentException("Le paramètre t doit être strictement positif.");
+        }
+        if (longueurPalier <= 0) {
+            throw new IllegalArgumentException("La longueur d'un palier doit être strictement positive.");
+        }
+        if (!(acceptationInitiale > 0 && acceptationInitiale < 1)) {
+            throw new IllegalArgumentException("L'acceptation initiale doit être dans ]0, 1[ : "
+                    + acceptationInitiale);
+        }
+        if (limiteMouvements <= 0 || limiteTempsMillis <= 0) {
+            throw new IllegalArgumentException("Les limites de mouvements et de temps doivent être strictement positives.");
+        }
+    }
+
+    /**
+     * Température initiale : la dégradation moyenne des mouvements admissibles
+     * tirés depuis le départ est acceptée avec la probabilité p, soit
+     * T₀ = −Δ̄ / ln p (1 si aucun mouvement tiré ne dégrade).
+     */
+    private static double calibrer(TirageAleatoire tirage, SplittableRandom alea, int echantillon, double p) {
+        long somme = 0;
+        int degradants = 0;
+        for (int m = 0; m < echantillon; m++) {
+            if (tirage.tirer(alea) && tirage.delta() < 0) {
+                somme -= tirage.delta();
+                degradants++;
+            }
+        }
+        return (degradants == 0 ? 1 : -((double) somme / degradants) / Math.log(p));
+    }
+}
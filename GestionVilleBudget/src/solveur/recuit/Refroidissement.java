@@ -0,0 +1,25 @@
+package solveur.recuit;
+
+/**
+ * Loi de température du recuit simulé, appliquée à la fin de chaque palier.
+ *
+ * <p>
+ * Les lois usuelles sont fournies par {@link Refroidissements} ; une loi
+ * adaptative peut s'appuyer sur le taux d'acceptation du palier écoulé.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Refroidissement {
+
+    /**
+     * Température du palier suivant.
+     *
+     * @param temperature         température du palier écoulé (&gt; 0)
+     * @param temperatureInitiale température du premier palier
+     * @param tauxAcceptation     part des mouvements admissibles du palier qui ont été acceptés, dans [0, 1]
+     * @return nouvelle température (&gt; 0)
+     */
+    double refroidir(double temperature, double temperatureInitiale, double tauxAcceptation);
+}
@@ -0,0 +1,79 @@
+package solveur.recuit;
+
+/**
+ * Fournit les lois de température du recuit simulé ({@link Refroidissement}).
+ *
+ * <ul>
+ *   <li>géométrique : T ← α·T ;</li>
+ *   <li>Lundy–Mees : T ← T / (1 + β·T), lente à haute température, rapide
+ *       à basse température ;</li>
+ *   <li>avec réchauffe : une loi de base, sauf quand le taux d'acceptation
+ *       d'un palier tombe sous un seuil (recherche figée) : la température
+ *       repart alors d'une fraction de la température initiale, et un
+ *       nouveau cycle de refroidissement commence depuis la solution
+ *       courante.</li>
+ * </ul>
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class Refroidissements {
+
+    private Refroidissements() {
+    }
+
+    /**
+     * Refroidissement géométrique : T ← α·T.
+     *
+     * @param alpha facteur de refroidissement, dans ]0, 1[
+     * @return loi de température
+     * @throws IllegalArgumentException si alpha n'est pas dans ]0, 1[
+     */
+    public static Refroidissement geometrique(double alpha) {
+        if (!(alpha > 0 && alpha < 1)) {
+            throw new IllegalArgumentException("alpha doit être dans ]0, 1[ : " + alpha);
+        }
+        return (temperature, initiale, taux) -> alpha * temperature;
+    }
+
+    /**
+     * Refroidissement de Lundy et Mees : T ← T / (1 + β·T).
+     *
+     * @param beta vitesse de refroidissement, strictement positive
+     * @return loi de température
+     * @throws IllegalArgumentException si beta ≤ 0
+     */
+    public static Refroidissement lundyMees(double beta) {
+        if (!(beta > 0)) {
+            throw new IllegalArgumentException("beta doit être strictement positif : " + beta);
+        }
+        return (temperature, initiale, taux) -> temperature / (1 + beta * temperature);
+    }
+
+    /**
+     * Loi de base avec réchauffe : si moins de {@code tauxMinimal} des
+     * mouvements admissibles d'un palier ont été acceptés, la température
+     * repart de {@code fraction} × température initiale au lieu de suivre la
+     * loi de base.
+     *
+     * @param base        loi appliquée hors réchauffe
+     * @param tauxMinimal taux d'acceptation en dessous duquel on réchauffe, dans ]0, 1[
+     * @param fraction    fraction de la température initiale après réchauffe, dans ]0, 1]
+     * @return loi de température
+     * @throws IllegalArgumentException si tauxMinimal ou fraction est invalide
+     */
+    public static Refroidissement avecRechauffe(Refroidissement base, double tauxMinimal, double fraction) {
+        if (base == null) {
+            throw new NullPointerException("La loi de base ne peut pas être null.");
+        }
+        if (!(tauxMinimal > 0 && tauxMinimal < 1)) {
+            throw new IllegalArgumentException("Le taux minimal doit être dans ]0, 1[ : " + tauxMinimal);
+        }
+        if (!(fraction > 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("La fraction de réchauffe doit être dans ]0, 1] : " + fraction);
+        }
+        return (temperature, initiale, taux) -> (taux < tauxMinimal
+                ? fraction * initiale
+                : base.refroidir(temperature, initiale, taux));
+    }
+}
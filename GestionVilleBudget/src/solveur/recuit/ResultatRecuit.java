@@ -0,0 +1,138 @@
+package solveur.recuit;
+
+import sacADos.Solution;
+
+/**
+ * Résultat d'une exécution de {@link RecuitSimule}, avec les statistiques
+ * utiles au réglage : température et taux d'acceptation de chaque palier,
+ * totaux de mouvements tirés, admissibles et acceptés.
+ *
+ * <p>
+ * Le taux d'acceptation d'un palier est la part de ses mouvements
+ * admissibles qui ont été acceptés (0 si aucun n'était admissible).
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class ResultatRecuit {
+
+    /** Meilleure solution rencontrée. */
+    private final Solution solution;
+
+    /** Température et taux d'acceptation de chaque palier. */
+    private final double[] temperatures;
+    private final double[] tauxAcceptation;
+
+    /** Nombre de mouvements tirés, admissibles et acceptés. */
+    private final long mouvements;
+    private final long admissibles;
+    private final long acceptes;
+
+    /** Durée de la recherche, en nanosecondes. */
+    private final long dureeNanos;
+
+    /**
+     * @param solution        meilleure solution rencontrée
+     * @param temperatures    température de chaque palier (non copié)
+     * @param tauxAcceptation taux d'acceptation de chaque palier (non copié)
+     * @param mouvements      nombre de mouvements tirés
+     * @param admissibles     nombre de mouvements admissibles
+     * @param acceptes        nombre de mouvements acceptés
+     * @param dureeNanos      durée de la recherche en nanosecondes
+     */
+    public ResultatRecuit(Solution solution, double[] temperatures, double[] tauxAcceptation,
+                          long mouvements, long admissibles, long acceptes, long dureeNanos) {
+        if (temperatures.length != tauxAcceptation.length) {
+            throw new IllegalArgumentException("Une température et un taux d'acceptation par palier sont attendus.");
+        }
+        this.solution = solution;
+        this.temperatures = temperatures;
+        this.tauxAcceptation = tauxAcceptation;
+        this.mouvements = mouvements;
+        this.admissibles = admissibles;
+        this.acceptes = acceptes;
+        this.dureeNanos = dureeNanos;
+    }
+
+    /** @return la meilleure solution rencontrée. */
+    public Solution getSolution() {
+        return solution;
+    }
+
+    /** @return l'utilité de la meilleure solution rencontrée. */
+    public long getUtilite() {
+        return solution.utilite();
+    }
+
+    /** @return le nombre de paliers effectués. */
+    public int getPaliers() {
+        return temperatures.length;
+    }
+
+    /** @return la température de chaque palier (copie). */
+    public double[] getTemperatures() {
+        return temperatures.clone();
+    }
+
+    /** @return le taux d'acceptation de chaque palier (copie). */
+    public double[] getTauxAcceptation() {
+        return tauxAcceptation.clone();
+    }
+
+    /** @return la température du premier palier (0 s'il n'y en a pas). */
+    public double getTemperatureInitiale() {
+        return (temperatures.length == 0 ? 0 : temperatures[0]);
+    }
+
+    /** @return la température du dernier palier (0 s'il n'y en a pas). */
+    public double getTemperatureFinale() {
+        return (temperatures.length == 0 ? 0 : temperatures[temperatures.length - 1]);
+    }
+
+    /** @return le nombre de paliers dont la température dépasse celle du palier précédent. */
+    public int getRechauffes() {
+        int r = 0;
+        for (int p = 1; p < temperatures.length; p++) {
+            if (temperatures[p] > temperatures[p - 1]) {
+                r++;
+            }
+        }
+        return r;
+    }
+
+    /** @return le nombre de mouvements tirés. */
+    public long getMouvements() {
+        return mouvements;
+    }
+
+    /** @return le nombre de mouvements admissibles. */
+    public long getAdmissibles() {
+        return admissibles;
+    }
+
+    /** @return le nombre de mouvements acceptés. */
+    public long getAcceptes() {
+        return acceptes;
+    }
+
+    /** @return la part des mouvements admissibles qui ont été acceptés, dans [0, 1]. */
+    public double getTauxAcceptationGlobal() {
+        return (admissibles == 0 ? 0 : (double) acceptes / admissibles);
+    }
+
+    /** @return la durée de la recherche en nanosecondes. */
+    public long getDureeNanos() {
+        return dureeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultatRecuit { utilite=" + solution.utilite()
+                + ", paliers=" + temperatures.length
+                + ", T=" + String.format("%.3g", getTemperatureInitiale())
+                + " → " + String.format("%.3g", getTemperatureFinale())
+                + ", acceptation=" + String.format("%.2f %%", 100 * getTauxAcceptationGlobal())
+                + ", rechauffes=" + getRechauffes()
+                + ", mouvements=" + mouvements + " }";
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * Contient le recuit simulé pour le sac-à-dos multidimensionnel.
+ *
+ * <p>
+ * Les mouvements sont ceux de la variante aléatoire du Hill Climbing
+ * (jusqu'à t retraits puis t ajouts, {@link solveur.voisinage.TirageAleatoire}),
+ * évalués en temps constant. Un mouvement dégradant est accepté avec la
+ * probabilité exp(Δ / T) ; la température suit un
+ * {@link solveur.recuit.Refroidissement} (géométrique, Lundy–Mees, avec
+ * réchauffe) et les statistiques de chaque palier sont rendues dans un
+ * {@link solveur.recuit.ResultatRecuit}.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+package solveur.recuit;
+
+
+public class package_info {
+
+}
@@ -0,0 +1,330 @@
+package solveur.tabou;
+
+import java.util.function.Function;
+
+import sacADos.InstanceCompacte;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.voisinage.Mouvement;
+import solveur.voisinage.TypeMouvement;
+import solveur.voisinage.Voisinage;
+
+/**
+ * Recherche tabou sur les basculements d'objets.
+ *
+ * <p>
+ * Une itération parcourt les voisinages ajout, échange 1-1 et retrait
+ * ({@link TypeMouvement}) et applique le meilleur mouvement admissible
+ * autorisé, même dégradant :
+ * <ul>
+ *   <li>tabou : un objet basculé (ajouté ou retiré) ne peut plus être
+ *       basculé pendant {@code duree} itérations ; un mouvement qui touche
+ *       un objet tabou est interdit ;</li>
+ *   <li>aspiration : un mouvement interdit est permis s'il mène à une
+ *       solution meilleure que la meilleure connue ;</li>
+ *   <li>diversification : chaque objet compte ses basculements ; un
+ *       mouvement non améliorant est pénalisé de
+ *       diversification × utilité moyenne × (basculements de ses objets / itérations),
+ *       ce qui oriente la recherche vers des objets peu explorés.</li>
+ * </ul>
+ *
+ * <p>
+ * Chaque mouvement s'évalue en O(k) : utilité par différence, admissibilité
+ * sur la capacité libre après retrait. Les voisinages parcourent les
+ * candidats par utilité et s'arrêtent dès qu'aucun ne peut battre le meilleur
+ * mouvement retenu, la pénalité ne faisant que diminuer la valeur d'un
+ * mouvement.
+ *
+ * <p>
+ * La recherche s'arrête après un nombre d'itérations ou une durée donnés, ou
+ * quand son {@link Controle} le demande (une itération par mouvement), et
+ * rend la meilleure solution rencontrée.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public class RechercheTabou implements Solveur<RechercheTabou.Configuration> {
+
+    /** Durée tabou par défaut, en itérations. */
+    public static final int DUREE = 10;
+
+    /** Poids par défaut de la pénalité de fréquence. */
+    public static final double DIVERSIFICATION = 0.1;
+
+    /** Nombre d'itérations par défaut. */
+    public static final long ITERATIONS = 10_000;
+
+    /** Nombre d'itérations entre deux lectures de l'horloge. */
+    private static final int PERIODE_HORLOGE = 1024;
+
+    /** Voisinages parcourus à chaque itération, les plus prometteurs d'abord. */
+    private static final TypeMouvement[] TYPES = {
+            TypeMouvement.AJOUT, TypeMouvement.ECHANGE, TypeMouvement.RETRAIT
+    };
+
+    /**
+     * Paramètres d'une recherche tabou.
+     */
+    public static final class Configuration {
+        private final Function<InstanceCompacte, Solution> depart;
+        private final int duree;
+        private final double diversification;
+        private final long limiteIterations;
+        private final long limiteTempsMillis;
+
+        /**
+         * @param depart            construction de la solution initiale admissible
+         * @param duree             nombre d'itérations pendant lesquelles un objet basculé reste tabou
+         * @param diversification   poids de la pénalité de fréquence (0 : sans mémoire à long terme)
+         * @param limiteIterations  nombre maximal d'itérations
+         * @param limiteTempsMillis durée maximale de la recherche, en millisecondes
+         *
+         * @throws IllegalArgumentException si la durée ou une limite est négative ou nulle,
+         *                                  ou si la diversification est négative
+         */
+        public Configuration(Function<InstanceCompacte, Solution> depart, int duree, double diversification,
+                             long limiteIterations, long limiteTempsMillis) {
+            if (depart == null) {
+                throw new NullPointerException("La construction de départ ne peut pas être null.");
+            }
+            verifier(duree, diversification, limiteIterations, limiteTempsMillis);
+            this.depart = depart;
+            this.duree = duree;
+            this.diversification = diversification;
+            this.limiteIterations = limiteIterations;
+            this.limiteTempsMillis = limiteTempsMillis;
+        }
+    }
+
+    @Override
+    public String nom() {
+        return "tabou";
+    }
+
+    /**
+     * @return départ glouton f_somme, durée {@value #DUREE}, diversification {@value #DIVERSIFICATION},
+     *         {@value #ITERATIONS} itérations, sans limite de temps.
+     */
+    @Override
+    public Configuration configurationParDefaut() {
+        return new Configuration(inst -> new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme()),
+                DUREE, DIVERSIFICATION, ITERATIONS, Long.MAX_VALUE);
+    }
+
+    /**
+     * Recherche tabou avec les paramètres par défaut, depuis une solution donnée.
+     *
+     * @param instance         instance compacte du sac à dos
+     * @param solutionInitiale solution admissible (non modifiée)
+     * @return meilleure solution rencontrée
+     */
+    public Solution resoudre(InstanceCompacte instance, Solution solutionInitiale) {
+        return resoudre(instance, solutionInitiale, DUREE, DIVERSIFICATION, ITERATIONS, Long.MAX_VALUE,
+                Controle.sansLimite());
+    }
+
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Configuration configuration, Controle controle) {
+        return resoudre(instance, configuration.depart.apply(instance), configuration.duree,
+                configuration.diversification, configuration.limiteIterations, configuration.limiteTempsMillis,
+                controle);
+    }
+
+    /**
+     * Recherche tabou depuis une solution donnée.
+     *
+     * @param instance          instance compacte du sac à dos
+     * @param solutionInitiale  solution admissible (non modifiée)
+     * @param duree             nombre d'itérations pendant lesquelles un objet basculé reste tabou
+     * @param diversification   poids de la pénalité de fréquence (0 : sans mémoire à long terme)
+     * @param limiteIterations  nombre maximal d'itérations
+     * @param limiteTempsMillis durée maximale de la recherche, en millisecondes
+     * @param controle          contrôle d'arrêt (une itération par mouvement)
+     * @return meilleure solution rencontrée
+     *
+     * @throws NullPointerException     si la solution initiale est null
+     * @throws IllegalArgumentException si la solution initiale n'est pas admissible, ou si un
+     *                                  paramètre est invalide
+     */
+    public Solution resoudre(InstanceCompacte instance, Solution solutionInitiale, int duree,
+                             double diversification, long limiteIterations, long limiteTempsMillis,
+                             Controle controle) {
+
+        if (solutionInitiale == null) {
+            throw new NullPointerException("La solution initiale ne peut pas être null.");
+        }
+        if (!solutionInitiale.estAdmissible()) {
+            throw new IllegalArgumentException("La solution initiale doit être admissible.");
+        }
+        verifier(duree, diversification, limiteIterations, limiteTempsMillis);
+
+        long debut = System.nanoTime();
+        long limiteNanos = (limiteTempsMillis >= Long.MAX_VALUE / 1_000_000
+                ? Long.MAX_VALUE
+                : limiteTempsMillis * 1_000_000);
+
+        Solution solution = solutionInitiale.copie();
+        Solution meilleure = solutionInitiale.copie();
+
+        Voisinage[] voisinages = new Voisinage[TYPES.length];
+        for (int v = 0; v < TYPES.length; v++) {
+            voisinages[v] = TYPES[v].creer(instance);
+        }
+        Selection selection = new Selection(instance, duree, diversification);
+
+        for (long iteration = 1; iteration <= limiteIterations; iteration++) {
+
+            if ((iteration % PERIODE_HORLOGE == 0 && System.nanoTime() - debut > limiteNanos)
+                    || !controle.continuer()) {
+                break;
+            }
+
+            // meilleur mouvement autorisé, tous voisinages confondus
+            selection.preparer(iteration, solution.utilite(), meilleure.utilite());
+            long seuil = Long.MIN_VALUE;
+            for (Voisinage v : voisinages) {
+                v.parcourir(solution, seuil, selection);
+                seuil = selection.seuil();
+            }
+
+            if (selection.choix.estVide()) {
+                break;
+            }
+            selection.choix.appliquer(solution);
+            selection.marquer(iteration);
+
+            if (solution.utilite() > meilleure.utilite()) {
+                meilleure.copierDepuis(solution);
+            }
+        }
+
+        return meilleure;
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Vérifie les paramètres d'une recherche. */
+    private static void verifier(int duree, double diversification, long limiteIterations,
+                                 long limiteTempsMillis) {
+        if (duree <= 0) {
+            throw new IllegalArgumentException("La durée tabou doit être strictement positive.");
+        }
+        if (!(diversification >= 0)) {
+            throw new IllegalArgumentException("La diversification doit être >= 0 : " + diversification);
+        }
+        if (limiteIterations <= 0 || limiteTempsMillis <= 0) {
+            throw new IllegalArgumentException("Les limites d'itérations et de temps doivent être strictement positives.");
+        }
+    }
+
+    /**
+     * Visiteur retenant le meilleur mouvement autorisé d'une itération, avec
+     * les mémoires à court terme (tabou) et à long terme (fréquences).
+     */
+    private static final class Selection implements Voisinage.Visiteur {
+        final Mouvement choix = new Mouvement();
+
+        /** Itération jusqu'à laquelle (incluse) chaque objet est tabou. */
+        private final long[] tabouJusqua;
+
+        /** Nombre de basculements de chaque objet. */
+        private final long[] frequences;
+
+        private final int duree;
+
+        /** diversification × utilité moyenne. */
+        private final double poidsPenalite;
+
+        private long iteration;
+        private long utiliteCourante;
+        private long meilleureUtilite;
+        private long meilleurScore;
+
+        Selection(InstanceCompacte instance, int duree, double diversification) {
+            int n = instance.nombreObjets();
+            this.tabouJusqua = new long[n];
+            this.frequences = new long[n];
+            this.duree = duree;
+            long total = 0;
+            for (int i = 0; i < n; i++) {
+                total += instance.utilite(i);
+            }
+            this.poidsPenalite = (n == 0 ? 0 : diversification * total / n);
+        }
+
+        void preparer(long iteration, long utiliteCourante, long meilleureUtilite) {
+            this.iteration = iteration;
+            this.utiliteCourante = utiliteCourante;
+            this.meilleureUtilite = meilleureUtilite;
+            this.meilleurScore = Long.MIN_VALUE;
+            choix.effacer();
+        }
+
+        @Override
+        public long visiter(Mouvement m) {
+            long delta = m.delta();
+
+            // interdit, sauf s'il bat la meilleure solution connue (aspiration)
+            if (estTabou(m) && utiliteCourante + delta <= meilleureUtilite) {
+                return seuil();
+            }
+
+            long score = (delta > 0 ? delta : delta - penalite(m));
+            if (score > meilleurScore) {
+                meilleurScore = score;
+                choix.copierDepuis(m);
+            }
+            return seuil();
+        }
+
+        /** @return plus petite variation d'utilité d'un mouvement qui peut encore être retenu */
+        long seuil() {
+            return (meilleurScore == Long.MIN_VALUE ? Long.MIN_VALUE : meilleurScore + 1);
+        }
+
+        /** Rend tabous les objets du mouvement appliqué et compte leurs basculements. */
+        void marquer(long iteration) {
+            for (int r = 0; r < choix.nombreRetraits(); r++) {
+                tabouJusqua[choix.retrait(r)] = iteration + duree;
+                frequences[choix.retrait(r)]++;
+            }
+            for (int a = 0; a < choix.nombreAjouts(); a++) {
+                tabouJusqua[choix.ajout(a)] = iteration + duree;
+                frequences[choix.ajout(a)]++;
+            }
+        }
+
+        private boolean estTabou(Mouvement m) {
+            for (int r = 0; r < m.nombreRetraits(); r++) {
+                if (tabouJusqua[m.retrait(r)] >= iteration) {
+                    return true;
+                }
+            }
+            for (int a = 0; a < m.nombreAjouts(); a++) {
+                if (tabouJusqua[m.ajout(a)] >= iteration) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private long penalite(Mouvement m) {
+            if (poidsPenalite == 0) {
+                return 0;
+            }
+            long basculements = 0;
+            for (int r = 0; r < m.nombreRetraits(); r++) {
+                basculements += frequences[m.retrait(r)];
+            }
+            for (int a = 0; a < m.nombreAjouts(); a++) {
+                basculements += frequences[m.ajout(a)];
+            }
+            return (long) Math.ceil(poidsPenalite * basculements / iteration);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Contient la recherche tabou pour le sac-à-dos multidimensionnel.
+ *
+ * <p>
+ * À chaque itération, le meilleur mouvement admissible non tabou (ajout,
+ * échange 1-1 ou retrait, évalué par différence) est appliqué, même s'il
+ * dégrade l'utilité. Les objets déplacés deviennent tabous pour quelques
+ * itérations, sauf aspiration ; une mémoire à long terme des fréquences
+ * pénalise les mouvements dégradants sur des objets souvent déplacés.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+package solveur.tabou;
+
+
+public class package_info {
+
+}
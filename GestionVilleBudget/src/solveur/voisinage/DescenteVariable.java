@@ -0,0 +1,167 @@
+package solveur.voisinage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import sacADos.InstanceCompacte;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.Solveur;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+
+/**
+ * Descente à voisinages variables (VND, <i>Variable Neighborhood Descent</i>).
+ *
+ * <p>
+ * Les voisinages N₁, …, Nₘ sont explorés dans l'ordre donné : on applique le
+ * meilleur mouvement améliorant de Nᵢ et l'on revient à N₁ ; si Nᵢ n'en
+ * contient aucun, on passe à Nᵢ₊₁. La descente s'arrête quand aucun
+ * voisinage n'améliore : la solution est un optimum local pour chacun d'eux.
+ * Les voisinages les moins coûteux viennent donc en premier (ajout, échange
+ * 1-1), les plus larges (1-2, 2-1) ne servant qu'à sortir de leurs optima.
+ *
+ * <p>
+ * Comme {@link Solveur}, chaque exploration d'un voisinage compte pour une
+ * itération du {@link Controle} ; après un arrêt, la solution courante
+ * (admissible) est rendue.
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+public class DescenteVariable implements Solveur<DescenteVariable.Configuration> {
+
+    /** Ordre par défaut des voisinages. */
+    public static final List<TypeMouvement> ORDRE = Collections.unmodifiableList(List.of(
+            TypeMouvement.AJOUT, TypeMouvement.ECHANGE, TypeMouvement.ECHANGE_1_2, TypeMouvement.ECHANGE_2_1));
+
+    /**
+     * Paramètres d'une descente lancée par le {@link Solveur}.
+     */
+    public static final class Configuration {
+        private final Function<InstanceCompacte, Solution> depart;
+        private final List<TypeMouvement> ordre;
+
+        /**
+         * @param depart construction de la solution initiale admissible
+         * @param ordre  voisinages, dans l'ordre d'exploration
+         *
+         * @throws IllegalArgumentException si l'ordre est vide
+         */
+        public Configuration(Function<InstanceCompacte, Solution> depart, List<TypeMouvement> ordre) {
+            if (depart == null) {
+                throw new NullPointerException("La construction de départ ne peut pas être null.");
+            }
+            this.depart = depart;
+            this.ordre = verifier(ordre);
+        }
+    }
+
+    @Override
+    public String nom() {
+        return "vnd";
+    }
+
+    /** @return départ glouton f_somme, voisinages {@link #ORDRE}. */
+    @Override
+    public Configuration configurationParDefaut() {
+        return new Configuration(inst -> new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme()), ORDRE);
+    }
+
+    @Override
+    public Solution resoudre(InstanceCompacte instance, Configuration configuration, Controle controle) {
+        return resoudre(instance, configuration.depart.apply(instance), configuration.ordre, controle);
+    }
+
+    /**
+     * Améliore une solution par descente sur les voisinages {@link #ORDRE}.
+     *
+     * @param instance         instance compacte du sac à dos
+     * @param solutionInitiale solution admissible (non modifiée)
+     * @return optimum local commun aux voisinages
+     */
+    public Solution resoudre(InstanceCompacte instance, Solution solutionInitiale) {
+        return resoudre(instance, solutionInitiale, ORDRE, Controle.sansLimite());
+    }
+
+    /**
+     * Améliore une solution par descente à voisinages variables.
+     *
+     * @param instance         instance compacte du sac à dos
+     * @param solutionInitiale solution admissible (non modifiée)
+     * @param ordre            voisinages, dans l'ordre d'exploration
+     * @param controle         contrôle d'arrêt (une itération par voisinage exploré)
+     * @return optimum local commun aux voisinages (si la descente n'a pas été arrêtée)
+     *
+     * @throws NullPointerException     si la solution initiale est null
+     * @throws IllegalArgumentException si l'ordre est vide
+     */
+    public Solution resoudre(InstanceCompacte instance, Solution solutionInitiale, List<TypeMouvement> ordre,
+                             Controle controle) {
+
+        if (solutionInitiale == null) {
+            throw new NullPointerException("La solution initiale ne peut pas être null.");
+        }
+        List<TypeMouvement> types = verifier(ordre);
+
+        Voisinage[] voisinages = new Voisinage[types.size()];
+        for (int v = 0; v < voisinages.length; v++) {
+            voisinages[v] = types.get(v).creer(instance);
+        }
+
+        Solution solution = solutionInitiale.copie();
+        descendre(solution, voisinages, controle);
+        return solution;
+    }
+
+    /**
+     * Améliore une solution sur place par descente à voisinages variables,
+     * avec des voisinages déjà créés (réutilisables d'une descente à l'autre).
+     *
+     * @param solution   solution admissible, modifiée
+     * @param voisinages voisinages de l'instance, dans l'ordre d'exploration
+     * @param controle   contrôle d'arrêt (une itération par voisinage exploré)
+     */
+    public void descendre(Solution solution, Voisinage[] voisinages, Controle controle) {
+        Mouvement meilleur = new Mouvement();
+
+        int v = 0;
+        while (v < voisinages.length && controle.continuer()) {
+
+            // meilleur mouvement strictement améliorant de ce voisinage
+            meilleur.effacer();
+            voisinages[v].parcourir(solution, 1, m -> {
+                meilleur.copierDepuis(m);
+                return m.delta() + 1;
+            });
+
+            if (meilleur.estVide()) {
+                v++;
+            } else {
+                meilleur.appliquer(solution);
+                v = 0;
+            }
+        }
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Copie un ordre de voisinages non vide et sans null. */
+    private static List<TypeMouvement> verifier(List<TypeMouvement> ordre) {
+        if (ordre == null) {
+            throw new NullPointerException("L'ordre des voisinages ne peut pas être null.");
+        }
+        if (ordre.isEmpty()) {
+            throw new IllegalArgumentException("Il faut au moins un voisinage.");
+        }
+        List<TypeMouvement> copie = new ArrayList<>(ordre);
+        if (copie.contains(null)) {
+            throw new NullPointerException("Un voisinage ne peut pas être null.");
+        }
+        return Collections.unmodifiableList(copie);
+    }
+}
@@ -0,0 +1,127 @@
+package solveur.voisinage;
+
+import sacADos.Solution;
+
+/**
+ * Mouvement élémentaire de la recherche locale : au plus {@value #MAX} retraits
+ * et {@value #MAX} ajouts, avec sa variation d'utilité.
+ *
+ * <p>
+ * Un mouvement est mutable : un {@link Voisinage} réutilise le même objet
+ * pour tous les mouvements qu'il énumère ; on le copie
+ * ({@link #copierDepuis(Mouvement)}) pour le conserver.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public final class Mouvement {
+
+    /** Nombre maximal de retraits, et d'ajouts, d'un mouvement. */
+    public static final int MAX = 2;
+
+    private final int[] retraits = new int[MAX];
+    private final int[] ajouts = new int[MAX];
+    private int nombreRetraits;
+    private int nombreAjouts;
+    private long delta;
+
+    /** @return nombre d'objets retirés */
+    public int nombreRetraits() {
+        return nombreRetraits;
+    }
+
+    /**
+     * @param i rang du retrait, dans [0, nombreRetraits())
+     * @return indice de l'objet retiré
+     */
+    public int retrait(int i) {
+        if (i < 0 || i >= nombreRetraits) {
+            throw new IndexOutOfBoundsException("Rang de retrait invalide : " + i);
+        }
+        return retraits[i];
+    }
+
+    /** @return nombre d'objets ajoutés */
+    public int nombreAjouts() {
+        return nombreAjouts;
+    }
+
+    /**
+     * @param i rang de l'ajout, dans [0, nombreAjouts())
+     * @return indice de l'objet ajouté
+     */
+    public int ajout(int i) {
+        if (i < 0 || i >= nombreAjouts) {
+            throw new IndexOutOfBoundsException("Rang d'ajout invalide : " + i);
+        }
+        return ajouts[i];
+    }
+
+    /** @return variation d'utilité : somme des utilités ajoutées moins celle des utilités retirées */
+    public long delta() {
+        return delta;
+    }
+
+    /** @return vrai si le mouvement ne retire ni n'ajoute rien */
+    public boolean estVide() {
+        return nombreRetraits == 0 && nombreAjouts == 0;
+    }
+
+    /**
+     * Applique le mouvement à la solution dont il est issu.
+     *
+     * @param solution solution à modifier
+     */
+    public void appliquer(Solution solution) {
+        for (int r = 0; r < nombreRetraits; r++) {
+            solution.retirer(retraits[r]);
+        }
+        for (int a = 0; a < nombreAjouts; a++) {
+            solution.ajouter(ajouts[a]);
+        }
+    }
+
+    /**
+     * Recopie un autre mouvement.
+     *
+     * @param autre mouvement à recopier
+     */
+    public void copierDepuis(Mouvement autre) {
+        System.arraycopy(autre.retraits, 0, retraits, 0, MAX);
+        System.arraycopy(autre.ajouts, 0, ajouts, 0, MAX);
+        nombreRetraits = autre.nombreRetraits;
+        nombreAjouts = autre.nombreAjouts;
+        delta = autre.delta;
+    }
+
+    /** Vide le mouvement. */
+    public void effacer() {
+        nombreRetraits = 0;
+        nombreAjouts = 0;
+        delta = 0;
+    }
+
+    /** Définit le mouvement (les indices au-delà des nombres donnés sont ignorés). */
+    void definir(long delta, int nombreRetraits, int r1, int r2, int nombreAjouts, int a1, int a2) {
+        this.delta = delta;
+        this.nombreRetraits = nombreRetraits;
+        this.nombreAjouts = nombreAjouts;
+        retraits[0] = r1;
+        retraits[1] = r2;
+        ajouts[0] = a1;
+        ajouts[1] = a2;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("-{");
+        for (int r = 0; r < nombreRetraits; r++) {
+            sb.append(r > 0 ? ", " : "").append(retraits[r]);
+        }
+        sb.append("} +{");
+        for (int a = 0; a < nombreAjouts; a++) {
+            sb.append(a > 0 ? ", " : "").append(ajouts[a]);
+        }
+        return sb.append("} delta=").append(delta).toString();
+    }
+}
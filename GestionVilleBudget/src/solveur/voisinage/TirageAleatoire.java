@@ -0,0 +1,250 @@
+package solveur.voisinage;
+
+import java.util.SplittableRandom;
+
+import sacADos.InstanceCompacte;
+import sacADos.Solution;
+
+/**
+ * Tirage de mouvements aléatoires : jusqu'à {@code t} retraits parmi les
+ * objets présents, puis jusqu'à {@code t} ajouts parmi tous les objets.
+ *
+ * <p>
+ * Un tirage :
+ * <ul>
+ *   <li>retire r objets présents distincts, r uniforme dans [1, t] (au plus
+ *       le nombre d'objets présents) ; r peut aussi valoir 0 si le retrait
+ *       est facultatif, pour qu'une marche aléatoire puisse faire grossir la
+ *       solution ;</li>
+ *   <li>tire a indices uniformes dans [0, n), a uniforme dans [1, t], et
+ *       ajoute ceux qui ne sont pas dans la solution ainsi modifiée (un
+ *       objet retiré peut être remis).</li>
+ * </ul>
+ *
+ * <p>
+ * Le mouvement n'est pas appliqué : sa variation d'utilité et son
+ * admissibilité sont calculées par différence sur la capacité libre, en
+ * O(t·k) quel que soit le nombre d'objets. Les objets présents sont tenus
+ * dans un tableau mis à jour par {@link #appliquer()} ; après toute autre
+ * modification de la solution, il faut {@link #synchroniser(Solution)}.
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+public final class TirageAleatoire {
+
+    private final InstanceCompacte instance;
+    private final int t;
+    private final int k;
+    private final boolean retraitObligatoire;
+
+    private Solution solution;
+
+    /** Objets présents, et rang de chaque objet dans ce tableau (−1 si absent). */
+    private final int[] membres;
+    private final int[] rangs;
+    private int nbMembres;
+
+    /** Dernier tirage. */
+    private final int[] retraits;
+    private final int[] positions;
+    private final int[] ajouts;
+    private int nbRetraits;
+    private int nbAjouts;
+    private long delta;
+    private final long[] residu;
+
+    /** Numéro du tirage en cours, et dernier tirage ayant retiré / ajouté chaque objet. */
+    private long tirage;
+    private final long[] retireAu;
+    private final long[] ajouteAu;
+
+    /**
+     * Tirage avec au moins un retrait (si la solution n'est pas vide).
+     *
+     * @param instance instance compacte du sac à dos
+     * @param t        nombre maximal de retraits, et d'ajouts, d'un mouvement
+     *
+     * @throws IllegalArgumentException si t ≤ 0
+     */
+    public TirageAleatoire(InstanceCompacte instance, int t) {
+        this(instance, t, true);
+    }
+
+    /**
+     * @param instance           instance compacte du sac à dos
+     * @param t                  nombre maximal de retraits, et d'ajouts, d'un mouvement
+     * @param retraitObligatoire vrai pour tirer r dans [1, t], faux pour le tirer dans [0, t]
+     *
+     * @throws IllegalArgumentException si t ≤ 0
+     */
+    public TirageAleatoire(InstanceCompacte instance, int t, boolean retraitObligatoire) {
+        if (instance == null) {
+            throw new NullPointerException("L'instance ne peut pas être null.");
+        }
+        if (t <= 0) {
+            throw new IllegalArgumentException("Le paramètre t doit être strictement positif.");
+        }
+        int n = instance.nombreObjets();
+        this.instance = instance;
+        this.t = t;
+        this.k = instance.dimension();
+        this.retraitObligatoire = retraitObligatoire;
+        this.membres = new int[n];
+        this.rangs = new int[n];
+        this.retraits = new int[t];
+        this.positions = new int[t];
+        this.ajouts = new int[t];
+        this.residu = new long[k];
+        this.retireAu = new long[n];
+        this.ajouteAu = new long[n];
+    }
+
+    /**
+     * Prend pour référence une solution et l'ensemble de ses objets présents,
+     * dans l'ordre croissant des indices. Coût : O(n).
+     *
+     * @param solution solution dont les mouvements sont tirés (conservée, non copiée)
+     */
+    public void synchroniser(Solution solution) {
+        if (solution == null) {
+            throw new NullPointerException("La solution ne peut pas être null.");
+        }
+        this.solution = solution;
+        this.nbMembres = 0;
+        for (int i = 0; i < membres.length; i++) {
+            if (solution.contient(i)) {
+                rangs[i] = nbMembres;
+                membres[nbMembres++] = i;
+            }
+            else {
+                rangs[i] = -1;
+            }
+        }
+        this.nbRetraits = 0;
+        this.nbAjouts = 0;
+        this.delta = 0;
+    }
+
+    /**
+     * Tire un mouvement et l'évalue, sans modifier la solution. Coût : O(t·k).
+     *
+     * @param alea générateur des tirages
+     * @return true si le mouvement n'est pas vide et si la solution obtenue serait admissible
+     *         (toujours false sur une instance sans objet)
+     */
+    public boolean tirer(SplittableRandom alea) {
+        if (membres.length == 0) {
+            return false;
+        }
+        tirage++;
+        delta = 0;
+        for (int d = 0; d < k; d++) {
+            residu[d] = solution.reste(d);
+        }
+
+        // --- Retraits : l'objet retiré passe en fin de tableau ---
+        int restants = nbMembres;
+        nbRetraits = Math.min(retraitObligatoire ? alea.nextInt(t) + 1 : alea.nextInt(t + 1), nbMembres);
+        for (int r = 0; r < nbRetraits; r++) {
+            int pos = alea.nextInt(restants);
+            int i = membres[pos];
+            retraits[r] = i;
+            positions[r] = pos;
+            retireAu[i] = tirage;
+            basculer(i, 1);
+            echanger(pos, --restants);
+        }
+        // ordre initial rétabli : le tirage suivant ne dépend pas de celui-ci
+        for (int r = nbRetraits - 1; r >= 0; r--) {
+            echanger(positions[r], nbMembres - 1 - r);
+        }
+
+        // --- Ajouts : objets absents de la solution ainsi modifiée ---
+        nbAjouts = 0;
+        int tirages = alea.nextInt(t) + 1;
+        for (int a = 0; a < tirages; a++) {
+            int i = alea.nextInt(membres.length);
+            boolean present = (rangs[i] >= 0 && retireAu[i] != tirage) || ajouteAu[i] == tirage;
+            if (!present) {
+                ajouts[nbAjouts++] = i;
+                ajouteAu[i] = tirage;
+                basculer(i, -1);
+            }
+        }
+
+        if (nbRetraits == 0 && nbAjouts == 0) {
+            return false;
+        }
+        for (int d = 0; d < k; d++) {
+            if (residu[d] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return variation d'utilité du dernier mouvement tiré */
+    public long delta() {
+        return delta;
+    }
+
+    /**
+     * Applique le dernier mouvement tiré à la solution de référence et met à
+     * jour ses objets présents. Coût : O(t·k).
+     */
+    public void appliquer() {
+        for (int r = 0; r < nbRetraits; r++) {
+            int i = retraits[r];
+            solution.retirer(i);
+            int rang = rangs[i];
+            int dernier = membres[--nbMembres];
+            membres[rang] = dernier;
+            rangs[dernier] = rang;
+            rangs[i] = -1;
+        }
+        for (int a = 0; a < nbAjouts; a++) {
+            int i = ajouts[a];
+            solution.ajouter(i);
+            rangs[i] = nbMembres;
+            membres[nbMembres++] = i;
+        }
+        nbRetraits = 0;
+        nbAjouts = 0;
+        delta = 0;
+    }
+
+    /**
+     * Construit, dans {@code voisin}, la solution de référence modifiée par le
+     * dernier mouvement tiré ; la solution de référence n'est pas modifiée.
+     *
+     * @param voisin solution recevant le voisin
+     */
+    public void construire(Solution voisin) {
+        voisin.copierDepuis(solution);
+        for (int r = 0; r < nbRetraits; r++) {
+            voisin.retirer(retraits[r]);
+        }
+        for (int a = 0; a < nbAjouts; a++) {
+            voisin.ajouter(ajouts[a]);
+        }
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Retire (signe = 1) ou ajoute (signe = −1) l'objet i dans le mouvement évalué. */
+    private void basculer(int i, int signe) {
+        delta -= signe * (long) instance.utilite(i);
+        for (int d = 0; d < k; d++) {
+            residu[d] += signe * (long) instance.cout(i, d);
+        }
+    }
+
+    private void echanger(int i, int j) {
+        int tmp = membres[i];
+        membres[i] = membres[j];
+        membres[j] = tmp;
+    }
+}
@@ -0,0 +1,48 @@
+package solveur.voisinage;
+
+import sacADos.InstanceCompacte;
+
+/**
+ * Types de mouvements élémentaires de la recherche locale.
+ *
+ * <p>
+ * Un retrait seul n'améliore jamais l'utilité : il ne sert qu'aux
+ * recherches qui acceptent des mouvements dégradants.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public enum TypeMouvement {
+
+    /** Ajout d'un objet qui tient dans la capacité libre. */
+    AJOUT,
+    /** Retrait d'un objet. */
+    RETRAIT,
+    /** Échange 1-1 : un objet retiré, un objet ajouté. */
+    ECHANGE,
+    /** Échange 1-2 : un objet retiré, deux objets ajoutés. */
+    ECHANGE_1_2,
+    /** Échange 2-1 : deux objets retirés, un objet ajouté. */
+    ECHANGE_2_1;
+
+    /**
+     * Crée le voisinage de ce type pour une instance.
+     *
+     * @param instance instance compacte du sac à dos
+     * @return nouveau voisinage, propre à l'appelant
+     */
+    public Voisinage creer(InstanceCompacte instance) {
+        switch (this) {
+            case AJOUT:
+                return new Voisinages.Ajout(instance);
+            case RETRAIT:
+                return new Voisinages.Retrait(instance);
+            case ECHANGE:
+                return new Voisinages.Echange(instance);
+            case ECHANGE_1_2:
+                return new Voisinages.Echange12(instance);
+            default:
+                return new Voisinages.Echange21(instance);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package solveur.voisinage;
+
+import sacADos.Solution;
+
+/**
+ * Voisinage d'une solution : énumère les mouvements admissibles d'un type
+ * donné, évalués par différence.
+ *
+ * <p>
+ * Le parcours est guidé par un seuil : seuls les mouvements de variation
+ * d'utilité ≥ seuil sont visités, et le visiteur rend après chaque mouvement
+ * le seuil à appliquer aux suivants. Les candidats étant parcourus par
+ * utilité, un seuil élevé coupe l'énumération très tôt :
+ * <ul>
+ *   <li>meilleur mouvement améliorant : seuil initial 1, puis delta + 1 ;</li>
+ *   <li>premier mouvement améliorant : seuil initial 1, puis {@link Long#MAX_VALUE} ;</li>
+ *   <li>tous les mouvements admissibles : {@link Long#MIN_VALUE}.</li>
+ * </ul>
+ *
+ * <p>
+ * Un voisinage est lié à une instance ; il réutilise ses tableaux de
+ * travail et n'est pas partagé entre threads. La solution ne doit pas être
+ * modifiée pendant le parcours.
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+public interface Voisinage {
+
+    /**
+     * Reçoit les mouvements énumérés.
+     */
+    @FunctionalInterface
+    interface Visiteur {
+
+        /**
+         * @param mouvement mouvement admissible (réutilisé par le voisinage : le copier pour le garder)
+         * @return seuil des mouvements suivants ({@link Long#MAX_VALUE} pour arrêter)
+         */
+        long visiter(Mouvement mouvement);
+    }
+
+    /** @return type des mouvements énumérés */
+    TypeMouvement type();
+
+    /**
+     * Énumère les mouvements admissibles de la solution dont la variation
+     * d'utilité atteint le seuil.
+     *
+     * @param solution solution admissible (non modifiée)
+     * @param seuil    variation d'utilité minimale des mouvements visités
+     * @param visiteur reçoit chaque mouvement et rend le nouveau seuil
+     */
+    void parcourir(Solution solution, long seuil, Visiteur visiteur);
+}
@@ -0,0 +1,423 @@
+package solveur.voisinage;
+
+import sacADos.InstanceCompacte;
+import sacADos.Solution;
+import solveur.glouton.TriParCles;
+
+/**
+ * Implémentations des voisinages élémentaires.
+ *
+ * <p>
+ * Chaque parcours range d'abord les objets de la solution par utilité
+ * croissante et les absents par utilité décroissante (en O(n), depuis un
+ * ordre calculé une fois). Un mouvement est évalué par différence : sa
+ * variation d'utilité est une somme de deux ou trois utilités, et son
+ * admissibilité se vérifie sur la capacité libre après retraits, mise à jour
+ * par différence. Les candidats étant ordonnés, chaque boucle s'arrête dès
+ * que la meilleure variation encore possible passe sous le seuil.
+ *
+ * <p>
+ * Pour l'ajout et l'échange 1-1, les absents sont aussi rangés par coût
+ * surrogate croissant (somme des coûts pondérés par 1 / budget), avec le
+ * maximum cumulé de leurs utilités. Une recherche dichotomique donne
+ * l'utilité maximale M d'un absent qui tient dans la capacité libre
+ * surrogate, et le parcours commence directement au premier absent
+ * d'utilité ≤ M : les absents plus utiles, qui ne tiennent pas, ne sont pas
+ * examinés. Le coût surrogate sert aussi de rejet rapide avant la
+ * vérification dimension par dimension. (Les mêmes filtres par dimension
+ * coûtent plus qu'ils ne font gagner.)
+ *
+ * @author ZHU YULEI
+ * @version 1.0
+ */
+final class Voisinages {
+
+    /** Échelle des poids entiers de la contrainte surrogate. */
+    private static final long ECHELLE_SURROGATE = 1L << 16;
+
+    private Voisinages() {
+    }
+
+    /** Rangement commun des objets présents et absents, et capacités libres. */
+    abstract static class Base implements Voisinage {
+
+        final InstanceCompacte instance;
+        final int k;
+        final Mouvement mouvement = new Mouvement();
+
+        /** Tous les objets par utilité décroissante. */
+        private final int[] ordreUtilite;
+
+        /** Objets présents par utilité croissante, et leurs utilités. */
+        final int[] membres;
+        final long[] utilitesMembres;
+        int nbMembres;
+
+        /** Objets absents par utilité décroissante, et leurs utilités. */
+        final int[] absents;
+        final long[] utilitesAbsents;
+        int nbAbsents;
+
+        /** residus[0] : capacité libre de la solution ; residus[1], residus[2] : après un ou deux mouvements d'objets. */
+        final long[][] residus;
+
+        /** Poids entier de chaque dimension dans la contrainte surrogate, et coût surrogate de chaque objet. */
+        private final long[] poids;
+        final long[] coutSurrogate;
+
+        /** Tous les objets par coût surrogate croissant (null sans filtre de capacité). */
+        private final int[] parCout;
+
+        /** Coûts surrogate des absents par ordre croissant, et utilité maximale des absents jusqu'à ce rang. */
+        private final long[] coutsAbsents;
+        private final long[] utiliteMaxAbsents;
+
+        Base(InstanceCompacte instance) {
+            this(instance, false);
+        }
+
+        /**
+         * @param instance instance compacte du sac à dos
+         * @param filtre   vrai pour ranger aussi les absents par coût (voir {@link #premierQuiPeutTenir})
+         */
+        Base(InstanceCompacte instance, boolean filtre) {
+            int n = instance.nombreObjets();
+            this.instance = instance;
+            this.k = instance.dimension();
+            double[] utilites = new double[n];
+            for (int i = 0; i < n; i++) {
+                utilites[i] = instance.utilite(i);
+            }
+            this.ordreUtilite = TriParCles.decroissant(utilites);
+            this.membres = new int[n];
+            this.utilitesMembres = new long[n];
+            this.absents = new int[n];
+            this.utilitesAbsents = new long[n];
+            this.residus = new long[3][k];
+
+            this.poids = new long[k];
+            for (int d = 0; d < k; d++) {
+                poids[d] = Math.max(1, ECHELLE_SURROGATE / Math.max(1, instance.budget(d)));
+            }
+            this.coutSurrogate = new long[n];
+            for (int i = 0; i < n; i++) {
+                for (int d = 0; d < k; d++) {
+                    coutSurrogate[i] += poids[d] * instance.cout(i, d);
+                }
+            }
+
+            this.coutsAbsents = (filtre ? new long[n] : null);
+            this.utiliteMaxAbsents = (filtre ? new long[n] : null);
+            if (filtre) {
+                double[] cles = new double[n];
+                for (int i = 0; i < n; i++) {
+                    cles[i] = -coutSurrogate[i];
+                }
+                this.parCout = TriParCles.decroissant(cles);
+            } else {
+                this.parCout = null;
+            }
+        }
+
+        @Override
+        public final void parcourir(Solution solution, long seuil, Visiteur visiteur) {
+            if (visiteur == null) {
+                throw new NullPointerException("Le visiteur ne peut pas être null.");
+            }
+            preparer(solution);
+            enumerer(seuil, visiteur);
+        }
+
+        /** Énumère les mouvements, la solution ayant été préparée. */
+        abstract void enumerer(long seuil, Visiteur visiteur);
+
+        /** Range les objets présents et absents et calcule la capacité libre. */
+        private void preparer(Solution solution) {
+            int n = ordreUtilite.length;
+            nbMembres = 0;
+            nbAbsents = 0;
+            for (int r = 0; r < n; r++) {
+                int i = ordreUtilite[r];
+                if (!solution.contient(i)) {
+                    absents[nbAbsents] = i;
+                    utilitesAbsents[nbAbsents++] = instance.utilite(i);
+                }
+            }
+            for (int r = n - 1; r >= 0; r--) {
+                int i = ordreUtilite[r];
+                if (solution.contient(i)) {
+                    membres[nbMembres] = i;
+                    utilitesMembres[nbMembres++] = instance.utilite(i);
+                }
+            }
+            for (int d = 0; d < k; d++) {
+                residus[0][d] = solution.reste(d);
+            }
+
+            if (parCout != null) {
+                int j = 0;
+                long max = Long.MIN_VALUE;
+                for (int i : parCout) {
+                    if (!solution.contient(i)) {
+                        coutsAbsents[j] = coutSurrogate[i];
+                        max = Math.max(max, instance.utilite(i));
+                        utiliteMaxAbsents[j++] = max;
+                    }
+                }
+            }
+        }
+
+        /** Capacité libre surrogate. */
+        final long surrogate(long[] residu) {
+            long s = 0;
+            for (int d = 0; d < k; d++) {
+                s += poids[d] * Math.max(0, residu[d]);
+            }
+            return s;
+        }
+
+        /**
+         * Premier rang (absents par utilité décroissante) d'un absent qui peut
+         * tenir dans la capacité libre : les absents d'utilité supérieure au
+         * maximum M des absents de coût surrogate assez faible ne tiennent pas.
+         *
+         * @param surrogate capacité libre surrogate ({@link #surrogate(long[])})
+         * @return premier rang d'utilité ≤ M, ou nbAbsents si aucun absent ne tient
+         */
+        final int premierQuiPeutTenir(long surrogate) {
+            // nombre d'absents de coût surrogate ≤ capacité libre
+            int bas = 0;
+            int haut = nbAbsents;
+            while (bas < haut) {
+                int milieu = (bas + haut) >>> 1;
+                if (coutsAbsents[milieu] <= surrogate) {
+                    bas = milieu + 1;
+                } else {
+                    haut = milieu;
+                }
+            }
+            if (bas == 0) {
+                return nbAbsents;
+            }
+            long m = utiliteMaxAbsents[bas - 1];
+
+            // premier absent d'utilité ≤ m
+            bas = 0;
+            haut = nbAbsents;
+            while (bas < haut) {
+                int milieu = (bas + haut) >>> 1;
+                if (utilitesAbsents[milieu] > m) {
+                    bas = milieu + 1;
+                } else {
+                    haut = milieu;
+                }
+            }
+            return bas;
+        }
+
+        /** apres = avant + signe · coûts de l'objet i. */
+        final void deplacer(long[] avant, long[] apres, int i, int signe) {
+            for (int d = 0; d < k; d++) {
+                apres[d] = avant[d] + signe * (long) instance.cout(i, d);
+            }
+        }
+
+        /** Vrai si l'objet i tient dans la capacité libre donnée. */
+        final boolean tient(int i, long[] residu) {
+            for (int d = 0; d < k; d++) {
+                if (instance.cout(i, d) > residu[d]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** Ajout d'un absent qui tient dans la capacité libre. */
+    static final class Ajout extends Base {
+
+        Ajout(InstanceCompacte instance) {
+            super(instance, true);
+        }
+
+        @Override
+        public TypeMouvement type() {
+            return TypeMouvement.AJOUT;
+        }
+
+        @Override
+        void enumerer(long seuil, Visiteur visiteur) {
+            long surrogate = surrogate(residus[0]);
+            for (int c = premierQuiPeutTenir(surrogate); c < nbAbsents; c++) {
+                long delta = utilitesAbsents[c];
+                if (delta < seuil) {
+                    break;
+                }
+                if (coutSurrogate[absents[c]] <= surrogate && tient(absents[c], residus[0])) {
+                    mouvement.definir(delta, 0, -1, -1, 1, absents[c], -1);
+                    seuil = visiteur.visiter(mouvement);
+                }
+            }
+        }
+    }
+
+    /** Retrait d'un objet de la solution (toujours admissible). */
+    static final class Retrait extends Base {
+
+        Retrait(InstanceCompacte instance) {
+            super(instance);
+        }
+
+        @Override
+        public TypeMouvement type() {
+            return TypeMouvement.RETRAIT;
+        }
+
+        @Override
+        void enumerer(long seuil, Visiteur visiteur) {
+            for (int j = 0; j < nbMembres; j++) {
+                long delta = -utilitesMembres[j];
+                if (delta < seuil) {
+                    break;
+                }
+                mouvement.definir(delta, 1, membres[j], -1, 0, -1, -1);
+                seuil = visiteur.visiter(mouvement);
+            }
+        }
+    }
+
+    /** Échange 1-1. */
+    static final class Echange extends Base {
+
+        Echange(InstanceCompacte instance) {
+            super(instance, true);
+        }
+
+        @Override
+        public TypeMouvement type() {
+            return TypeMouvement.ECHANGE;
+        }
+
+        @Override
+        void enumerer(long seuil, Visiteur visiteur) {
+            if (nbAbsents == 0) {
+                return;
+            }
+            long[] residu = residus[1];
+            for (int j = 0; j < nbMembres; j++) {
+                long ur = utilitesMembres[j];
+                if (utilitesAbsents[0] - ur < seuil) {
+                    break;
+                }
+                deplacer(residus[0], residu, membres[j], 1);
+                long surrogate = surrogate(residu);
+                for (int c = premierQuiPeutTenir(surrogate); c < nbAbsents; c++) {
+                    long delta = utilitesAbsents[c] - ur;
+                    if (delta < seuil) {
+                        break;
+                    }
+                    if (coutSurrogate[absents[c]] <= surrogate && tient(absents[c], residu)) {
+                        mouvement.definir(delta, 1, membres[j], -1, 1, absents[c], -1);
+                        seuil = visiteur.visiter(mouvement);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Échange 1-2 : un retrait, deux ajouts. */
+    static final class Echange12 extends Base {
+
+        Echange12(InstanceCompacte instance) {
+            super(instance);
+        }
+
+        @Override
+        public TypeMouvement type() {
+            return TypeMouvement.ECHANGE_1_2;
+        }
+
+        @Override
+        void enumerer(long seuil, Visiteur visiteur) {
+            if (nbAbsents < 2) {
+                return;
+            }
+            long[] apresRetrait = residus[1];
+            long[] apresAjout = residus[2];
+            for (int j = 0; j < nbMembres; j++) {
+                long ur = utilitesMembres[j];
+                if (utilitesAbsents[0] + utilitesAbsents[1] - ur < seuil) {
+                    break;
+                }
+                deplacer(residus[0], apresRetrait, membres[j], 1);
+                for (int c1 = 0; c1 < nbAbsents - 1; c1++) {
+                    long u1 = utilitesAbsents[c1];
+                    if (u1 + utilitesAbsents[c1 + 1] - ur < seuil) {
+                        break;
+                    }
+                    if (!tient(absents[c1], apresRetrait)) {
+                        continue;
+                    }
+                    deplacer(apresRetrait, apresAjout, absents[c1], -1);
+                    for (int c2 = c1 + 1; c2 < nbAbsents; c2++) {
+                        long delta = u1 + utilitesAbsents[c2] - ur;
+                        if (delta < seuil) {
+                            break;
+                        }
+                        if (tient(absents[c2], apresAjout)) {
+                            mouvement.definir(delta, 1, membres[j], -1, 2, absents[c1], absents[c2]);
+                            seuil = visiteur.visiter(mouvement);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Échange 2-1 : deux retraits, un ajout. */
+    static final class Echange21 extends Base {
+
+        Echange21(InstanceCompacte instance) {
+            super(instance);
+        }
+
+        @Override
+        public TypeMouvement type() {
+            return TypeMouvement.ECHANGE_2_1;
+        }
+
+        @Override
+        void enumerer(long seuil, Visiteur visiteur) {
+            if (nbAbsents == 0) {
+                return;
+            }
+            long[] apresPremier = residus[1];
+            long[] apresSecond = residus[2];
+            long umax = utilitesAbsents[0];
+            for (int j1 = 0; j1 < nbMembres - 1; j1++) {
+                long u1 = utilitesMembres[j1];
+                if (umax - u1 - utilitesMembres[j1 + 1] < seuil) {
+                    break;
+                }
+                deplacer(residus[0], apresPremier, membres[j1], 1);
+                for (int j2 = j1 + 1; j2 < nbMembres; j2++) {
+                    long ur = u1 + utilitesMembres[j2];
+                    if (umax - ur < seuil) {
+                        break;
+                    }
+                    deplacer(apresPremier, apresSecond, membres[j2], 1);
+                    for (int c = 0; c < nbAbsents; c++) {
+                        long delta = utilitesAbsents[c] - ur;
+                        if (delta < seuil) {
+                            break;
+                        }
+                        if (tient(absents[c], apresSecond)) {
+                            mouvement.definir(delta, 2, membres[j1], membres[j2], 1, absents[c], -1);
+                            seuil = visiteur.visiter(mouvement);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
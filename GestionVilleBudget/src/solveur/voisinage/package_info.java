@@ -0,0 +1,26 @@
+/**
+ * Contient les voisinages élémentaires de la recherche locale pour le
+ * sac-à-dos multidimensionnel, et leur composition en descente à voisinages
+ * variables (VND).
+ *
+ * <p>
+ * Chaque {@link solveur.voisinage.TypeMouvement} (ajout, retrait, échange
+ * 1-1, 1-2 et 2-1) crée un {@link solveur.voisinage.Voisinage} qui énumère
+ * ses {@link solveur.voisinage.Mouvement}s admissibles, évalués par
+ * différence. La {@link solveur.voisinage.DescenteVariable} les enchaîne
+ * dans un ordre donné.
+ *
+ * <p>
+ * {@link solveur.voisinage.TirageAleatoire} tire au hasard les mouvements
+ * plus larges de la variante aléatoire du Hill Climbing et du recuit simulé
+ * (jusqu'à t retraits puis t ajouts), évalués en O(t·k).
+ *
+ * @author ZHU YULEI
+ * @version 1.1
+ */
+package solveur.voisinage;
+
+
+public class package_info {
+
+}
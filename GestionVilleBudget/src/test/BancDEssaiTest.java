@@ -0,0 +1,83 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sacADos.InstanceBenchmark;
+import sacADos.LecteurORLibrary;
+import solveur.banc.BancDEssai;
+import solveur.banc.ResultatInstance;
+
+/**
+ * Tests unitaires pour {@link LecteurORLibrary} et {@link BancDEssai}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class BancDEssaiTest {
+
+    @TempDir
+    Path dossier;
+
+    private Path fichier;
+
+    @BeforeEach
+    public void init() throws IOException {
+        // 2 problèmes : le premier avec optimum connu (18), le second sans (0)
+        fichier = dossier.resolve("mknap.txt");
+        Files.writeString(fichier,
+                "2\n"
+              + " 3 2 18\n 10 8 5\n 4 3 10\n 3 3 10\n 7 7\n"
+              + " 2 1 0\n 6 9\n 2 5\n 6\n");
+    }
+
+    // ------------------------------------------------------------
+    // TEST 1 : Lecture en flux de tous les problèmes
+    // ------------------------------------------------------------
+
+    @Test
+    public void lecteur_DeuxProblemes_LusDansLOrdre() throws IOException {
+
+        // Act
+        List<InstanceBenchmark> instances;
+        try (LecteurORLibrary lecteur = new LecteurORLibrary(fichier)) {
+            instances = lecteur.instances().toList();
+        }
+
+        // Assert
+        assertEquals(2, instances.size());
+        assertEquals(18, instances.get(0).getMeilleureConnue());
+        assertFalse(instances.get(1).aMeilleureConnue());
+        assertEquals(5, instances.get(1).getInstance().cout(1, 0));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Résolution parallèle et écart à l'optimum
+    // ------------------------------------------------------------
+
+    @Test
+    public void executer_DeuxProblemes_ResultatsEtEcarts() throws IOException {
+
+        // Arrange
+        BancDEssai banc = new BancDEssai(BancDEssai.configuration("ajout"), 2);
+
+        // Act
+        List<ResultatInstance> res = banc.executer(fichier, new long[]{0, 10});
+
+        // Assert
+        assertEquals(2, res.size());
+        assertEquals(18, res.get(0).getUtilite());
+        assertEquals(0.0, res.get(0).getEcart(), 1e-9);
+        assertEquals(6, res.get(1).getUtilite());
+        assertEquals(0.4, res.get(1).getEcart(), 1e-9);
+    }
+}
@@ -0,0 +1,143 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+import sacADos.Objet;
+import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.exact.BranchAndBoundSolver;
+import solveur.exact.BranchAndBoundSolver.Strategie;
+import solveur.exact.ResultatExact;
+import solveur.glouton.Comparateurs;
+import solveur.glouton.GloutonAjoutSolver;
+
+/**
+ * Tests unitaires pour {@link BranchAndBoundSolver}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class BranchAndBoundSolverTest {
+
+    // ------------------------------------------------------------
+    // TEST 1 : Optimum trouvé là où le glouton échoue
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_PetiteInstance_OptimumPlusGrandQueGlouton() {
+
+        // Arrange : le glouton f_somme prend A puis ne peut plus rien ajouter (utilité 10),
+        // alors que B + C donne 12
+        Objet a = new Objet("A", 10, new int[]{6, 6});
+        Objet b = new Objet("B", 6, new int[]{5, 5});
+        Objet c = new Objet("C", 6, new int[]{5, 5});
+        SacADos sac = new SacADos(2, new int[]{10, 10}, Arrays.asList(a, b, c));
+        List<Objet> glouton = new GloutonAjoutSolver().resoudre(sac, Comparateurs.f_somme());
+
+        // Act
+        List<Objet> exacte = new BranchAndBoundSolver().resoudre(sac, glouton);
+
+        // Assert
+        assertEquals(10, sac.utiliteTotale(glouton));
+        assertEquals(12, sac.utiliteTotale(exacte));
+        assertTrue(sac.estAdmissible(exacte));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Les deux stratégies prouvent l'optimum de l'énumération
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_DeuxStrategies_OptimumEnumeration() {
+
+        for (long graine = 1; graine <= 5; graine++) {
+
+            // Arrange
+            InstanceTableaux inst = GenerateurInstances.generer(14, 3, Correlation.FAIBLEMENT_CORRELEE, 0.5, graine);
+            long optimum = enumerer(inst);
+
+            // Act
+            ResultatExact profondeur = new BranchAndBoundSolver().resoudre(inst);
+            ResultatExact meilleureBorne = new BranchAndBoundSolver(
+                    Strategie.MEILLEURE_BORNE_DABORD, Long.MAX_VALUE, Long.MAX_VALUE).resoudre(inst);
+
+            // Assert
+            assertEquals(optimum, profondeur.getUtilite());
+            assertEquals(optimum, meilleureBorne.getUtilite());
+            assertTrue(profondeur.estOptimale());
+            assertTrue(meilleureBorne.getSolution().estAdmissible());
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Limite de nœuds → solution initiale gardée et écart prouvé
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_LimiteNoeuds_EcartProuve() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(200, 5, Correlation.FORTEMENT_CORRELEE, 0.5, 7L);
+        int[] ordre = new SacADos(inst).trierIndices(Comparateurs.f_somme());
+        Solution initiale = new GloutonAjoutSolver().resoudre(inst, ordre);
+
+        // Act
+        ResultatExact res = new BranchAndBoundSolver(Strategie.PROFONDEUR_DABORD, 50, Long.MAX_VALUE)
+                .resoudre(inst, initiale);
+
+        // Assert
+        assertTrue(res.getNoeuds() <= 50);
+        assertTrue(res.getUtilite() >= initiale.utilite());
+        assertTrue(res.getBorneSuperieure() >= res.getUtilite());
+        assertFalse(res.estOptimale());
+        assertTrue(res.getEcart() > 0 && res.getEcart() < 1);
+    }
+
+    // ------------------------------------------------------------
+    // TEST 4 : Solution initiale non admissible
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_InitialeNonAdmissible_LeveException() {
+
+        // Arrange
+        InstanceTableaux inst = new InstanceTableaux(new int[]{5, 5}, new int[]{3, 3}, new int[]{4});
+        Solution initiale = Solution.depuis(inst, new int[]{0, 1});
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new BranchAndBoundSolver().resoudre(inst, initiale));
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Meilleure utilité admissible par énumération des 2^n sous-ensembles. */
+    private static long enumerer(InstanceTableaux inst) {
+        int n = inst.nombreObjets();
+        long meilleure = 0;
+        int[] selection = new int[n];
+        for (int masque = 0; masque < (1 << n); masque++) {
+            int taille = 0;
+            for (int i = 0; i < n; i++) {
+                if ((masque & (1 << i)) != 0) {
+                    selection[taille++] = i;
+                }
+            }
+            if (inst.estAdmissible(selection, taille)) {
+                meilleure = Math.max(meilleure, inst.utiliteTotale(Arrays.copyOf(selection, taille)));
+            }
+        }
+        return meilleure;
+    }
+}
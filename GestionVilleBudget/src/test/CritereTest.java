@@ -0,0 +1,92 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+import sacADos.SacADos;
+import solveur.glouton.Comparateurs;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.glouton.TriParCles;
+
+/**
+ * Tests unitaires pour {@link Criteres} et {@link TriParCles}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class CritereTest {
+
+    // ------------------------------------------------------------
+    // TEST 1 : Même ordre que les comparateurs (tri par base et par insertion)
+    // ------------------------------------------------------------
+
+    @Test
+    public void ordre_MemeOrdreQueComparateurs() {
+
+        for (int n : new int[]{10, 5000}) {
+
+            // Arrange
+            InstanceTableaux inst = GenerateurInstances.generer(n, 4, Correlation.FAIBLEMENT_CORRELEE, 0.5, n);
+            SacADos sac = new SacADos(inst);
+
+            // Act + Assert
+            assertArrayEquals(sac.trierIndices(Comparateurs.f_somme()), Criteres.f_somme().ordre(inst));
+            assertArrayEquals(sac.trierIndices(Comparateurs.f_max()), Criteres.f_max().ordre(inst));
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Valeurs particulières, ordre de Double.compare, tri stable
+    // ------------------------------------------------------------
+
+    @Test
+    public void decroissant_ValeursParticulieres_OrdreDoubleCompare() {
+
+        // Arrange
+        double[] cles = new double[100];
+        cles[3] = Double.POSITIVE_INFINITY;
+        cles[7] = -0.0;
+        cles[11] = -2.5;
+        cles[20] = 1e-300;
+        cles[50] = Double.NEGATIVE_INFINITY;
+
+        // Act
+        int[] ordre = TriParCles.decroissant(cles);
+
+        // Assert
+        assertEquals(3, ordre[0]);
+        assertEquals(20, ordre[1]);
+        assertEquals(0, ordre[2]);              // 0.0 par indices croissants
+        assertEquals(99, ordre[96]);
+        assertEquals(7, ordre[97]);             // -0.0 < 0.0
+        assertEquals(11, ordre[98]);
+        assertEquals(50, ordre[99]);
+        assertEquals(100, ordre.length);
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Le glouton consomme l'ordre précalculé
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_Critere_MemeSolutionQueComparateur() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(2000, 5, Correlation.NON_CORRELEE, 0.25, 3L);
+        SacADos sac = new SacADos(inst);
+        GloutonAjoutSolver solver = new GloutonAjoutSolver();
+
+        // Act
+        long avecCritere = solver.resoudre(inst, Criteres.f_somme()).utilite();
+        long avecComparateur = sac.utiliteTotale(solver.resoudre(sac, Comparateurs.f_somme()));
+
+        // Assert
+        assertEquals(avecComparateur, avecCritere);
+    }
+}
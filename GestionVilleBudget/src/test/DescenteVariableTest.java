@@ -0,0 +1,140 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.hillclimbing.HillClimbingSolver;
+import solveur.voisinage.DescenteVariable;
+import solveur.voisinage.TypeMouvement;
+import solveur.voisinage.Voisinage;
+
+/**
+ * Tests unitaires pour {@link DescenteVariable} et les voisinages de {@link TypeMouvement}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class DescenteVariableTest {
+
+    private final InstanceTableaux inst =
+            GenerateurInstances.generer(40, 3, Correlation.FAIBLEMENT_CORRELEE, 0.5, 17L);
+
+    // ------------------------------------------------------------
+    // TEST 1 : Chaque voisinage énumère exactement les mouvements admissibles
+    // ------------------------------------------------------------
+
+    @Test
+    public void parcourir_SansSeuil_TousLesMouvementsAdmissibles() {
+
+        // Arrange : solution à moitié remplie, avec de la place libre
+        Solution sol = new Solution(inst);
+        for (int i = 0; i < inst.nombreObjets(); i += 3) {
+            if (sol.peutAjouter(i)) {
+                sol.ajouter(i);
+            }
+        }
+
+        for (TypeMouvement type : TypeMouvement.values()) {
+
+            // Act : chaque mouvement visité est vérifié par application
+            long[] visites = {0};
+            type.creer(inst).parcourir(sol, Long.MIN_VALUE, m -> {
+                Solution voisin = sol.copie();
+                m.appliquer(voisin);
+                assertTrue(voisin.estAdmissible(), type + " " + m);
+                assertEquals(sol.utilite() + m.delta(), voisin.utilite(), type + " " + m);
+                visites[0]++;
+                return Long.MIN_VALUE;
+            });
+
+            // Assert : autant de mouvements qu'une énumération naïve
+            assertEquals(compterNaivement(sol, type), visites[0], type.toString());
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : La descente rend un optimum local de tous ses voisinages
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_DepartGlouton_OptimumLocalDeChaqueVoisinage() {
+
+        // Arrange
+        Solution glouton = new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme());
+
+        // Act
+        Solution sol = new DescenteVariable().resoudre(inst, glouton);
+
+        // Assert
+        assertTrue(sol.estAdmissible());
+        assertTrue(sol.utilite() >= new HillClimbingSolver().resoudre(inst, glouton, 1, 0).utilite());
+        for (TypeMouvement type : DescenteVariable.ORDRE) {
+            Voisinage v = type.creer(inst);
+            v.parcourir(sol, 1, m -> fail(type + " améliore encore : " + m));
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Ordre des voisinages vide refusé
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_OrdreVide_Exception() {
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new DescenteVariable().resoudre(inst,
+                new Solution(inst), List.of(), Controle.sansLimite()));
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Nombre de mouvements admissibles du type donné, par énumération directe. */
+    private static long compterNaivement(Solution sol, TypeMouvement type) {
+        int nbR = (type == TypeMouvement.AJOUT ? 0 : type == TypeMouvement.ECHANGE_2_1 ? 2 : 1);
+        int nbA = (type == TypeMouvement.RETRAIT ? 0 : type == TypeMouvement.ECHANGE_1_2 ? 2 : 1);
+
+        long total = 0;
+        for (int[] retraits : sousEnsembles(sol.indices(), nbR)) {
+            for (int[] ajouts : sousEnsembles(sol.absents(), nbA)) {
+                Solution voisin = sol.copie();
+                for (int r : retraits) voisin.retirer(r);
+                for (int a : ajouts) voisin.ajouter(a);
+                if (voisin.estAdmissible()) {
+                    total++;
+                }
+            }
+        }
+        return total;
+    }
+
+    /** Sous-ensembles de 0, 1 ou 2 éléments d'un tableau. */
+    private static List<int[]> sousEnsembles(int[] t, int taille) {
+        List<int[]> res = new ArrayList<>();
+        if (taille == 0) {
+            res.add(new int[0]);
+        }
+        for (int i = 0; i < t.length && taille > 0; i++) {
+            if (taille == 1) {
+                res.add(new int[]{t[i]});
+            }
+            for (int j = i + 1; j < t.length && taille == 2; j++) {
+                res.add(new int[]{t[i], t[j]});
+            }
+        }
+        return res;
+    }
+}
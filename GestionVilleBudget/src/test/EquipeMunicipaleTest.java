@@ -9,10 +9,12 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import alea.SourceAleatoire;
 import equipe.Elu;
 import equipe.EquipeMunicipale;
 import equipe.Evaluateur;
 import equipe.Expert;
+import equipe.Projet;
 import equipe.Secteur;
 import equipe.TypeCout;
 
@@ -98,4 +100,47 @@ public class EquipeMunicipaleTest {
 
         assertEquals(3 * 3, equipe.getProjetsEtudies().size());
     }
+
+    // ------------------------------------------------------------
+    // TEST 4 : Même graine → mêmes projets, mêmes évaluations
+    // ------------------------------------------------------------
+
+    @Test
+    public void executerCycleSimulation_MemeGraine_ProjetsIdentiques() {
+
+        // Arrange
+        EquipeMunicipale a = construire(42L);
+        EquipeMunicipale b = construire(42L);
+        EquipeMunicipale c = construire(43L);
+
+        // Act
+        for (EquipeMunicipale e : List.of(a, b, c)) {
+            e.executerCycleSimulation(2);
+            e.executerCycleSimulation(3);
+        }
+
+        // Assert
+        assertEquals(decrire(a.getProjetsEtudies()), decrire(b.getProjetsEtudies()));
+        assertNotEquals(decrire(a.getProjetsEtudies()), decrire(c.getProjetsEtudies()));
+    }
+
+    private static EquipeMunicipale construire(long graine) {
+        return new EquipeMunicipale(
+                new Elu("Martin", "Pierre", 45),
+                List.of(new Evaluateur("Dupont", "Marie", 35, TypeCout.ECONOMIQUE),
+                        new Evaluateur("Durant", "Sophie", 40, TypeCout.SOCIAL),
+                        new Evaluateur("Bernard", "Luc", 38, TypeCout.ENVIRONNEMENTAL)),
+                List.of(new Expert("Leroy", "Jean", 42, EnumSet.of(Secteur.SPORT, Secteur.EDUCATION)),
+                        new Expert("Moreau", "Claire", 39, EnumSet.of(Secteur.SANTE, Secteur.CULTURE))),
+                new SourceAleatoire(graine));
+    }
+
+    private static List<String> decrire(List<Projet> projets) {
+        List<String> descriptions = new ArrayList<>();
+        for (Projet p : projets) {
+            descriptions.add(p.getTitre() + " " + p.getBenefice() + " " + p.getCoutEconomique() + " "
+                    + p.getCoutSocial() + " " + p.getCoutEnvironnemental());
+        }
+        return descriptions;
+    }
 }
@@ -0,0 +1,95 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+import solveur.ExecuteurSolveurs;
+import solveur.Registre;
+import solveur.Resultat;
+import solveur.exact.BranchAndBoundSolver;
+import solveur.glouton.GloutonAjoutSolver;
+
+/**
+ * Tests unitaires pour {@link ExecuteurSolveurs} et {@link Registre}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class ExecuteurSolveursTest {
+
+    // ------------------------------------------------------------
+    // TEST 1 : Registre par défaut et nom en double
+    // ------------------------------------------------------------
+
+    @Test
+    public void parDefaut_TousLesSolveurs_DoublonRefuse() {
+
+        // Arrange
+        Registre registre = Registre.parDefaut();
+
+        // Act + Assert
+        assertEquals(Arrays.asList("ajout", "retrait", "fmv", "portefeuille", "hc", "vnd", "tabou", "recuit",
+                "ils", "grasp", "exact"), registre.noms());
+        assertThrows(IllegalArgumentException.class, () -> registre.enregistrer(new GloutonAjoutSolver()));
+        assertThrows(IllegalArgumentException.class, () -> registre.get("inconnu"));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Tous les solveurs en parallèle, l'exact prouve l'optimum
+    // ------------------------------------------------------------
+
+    @Test
+    public void executerSolveurs_PetiteInstance_ResultatsDansLOrdre() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(30, 3, Correlation.FAIBLEMENT_CORRELEE, 0.5, 3L);
+        Registre registre = Registre.parDefaut();
+
+        // Act
+        List<Resultat> resultats = new ExecuteurSolveurs(2).executerSolveurs(registre.solveurs(), inst, 30_000);
+
+        // Assert
+        assertEquals(registre.noms().size(), resultats.size());
+        Resultat exact = resultats.get(resultats.size() - 1);
+        for (int s = 0; s < resultats.size(); s++) {
+            Resultat r = resultats.get(s);
+            assertEquals(registre.noms().get(s), r.getSolveur());
+            assertTrue(r.getSolution().estAdmissible());
+            assertFalse(r.estInterrompu());
+            assertTrue(r.getIterations() > 0);
+            assertTrue(r.getUtilite() <= exact.getUtilite());
+        }
+        assertTrue(exact.aBorne());
+        assertEquals(exact.getUtilite(), exact.getBorne());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Budget de temps → arrêt coopératif avec écart prouvé
+    // ------------------------------------------------------------
+
+    @Test
+    public void executer_BudgetCourt_ArretAvecBorne() {
+
+        // Arrange : instance fortement corrélée, hors de portée en 100 ms
+        InstanceTableaux inst = GenerateurInstances.generer(400, 5, Correlation.FORTEMENT_CORRELEE, 0.5, 11L);
+
+        // Act
+        long debut = System.nanoTime();
+        Resultat r = new ExecuteurSolveurs(1).executer(new BranchAndBoundSolver(), inst, 100);
+        long dureeMillis = (System.nanoTime() - debut) / 1_000_000;
+
+        // Assert
+        assertTrue(r.estInterrompu());
+        assertTrue(dureeMillis < 100 + ExecuteurSolveurs.DELAI_GRACE_MILLIS);
+        assertTrue(r.getSolution().estAdmissible());
+        assertTrue(r.getBorne() > r.getUtilite());
+    }
+}
@@ -0,0 +1,95 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sacADos.FormatBinaire;
+import sacADos.InstanceMappee;
+import sacADos.Objet;
+import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.glouton.GloutonAjoutSolver;
+
+/**
+ * Tests unitaires pour {@link FormatBinaire}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class FormatBinaireTest {
+
+    @TempDir
+    Path dossier;
+
+    // ------------------------------------------------------------
+    // TEST 1 : Écriture puis relecture avec labels
+    // ------------------------------------------------------------
+
+    @Test
+    public void ecrireLire_AvecLabels_InstanceIdentique() throws IOException {
+
+        // Arrange
+        SacADos sac = new SacADos(2, new int[]{7, 8}, Arrays.asList(
+                new Objet("Stade", 10, new int[]{4, 3}),
+                new Objet(8, new int[]{3, 3}),
+                new Objet("Médiathèque", 5, new int[]{10, 10})));
+        Path f = dossier.resolve("inst.sacb");
+
+        // Act
+        FormatBinaire.ecrire(f, sac);
+        SacADos relu = FormatBinaire.charger(f);
+
+        // Assert
+        assertArrayEquals(new int[]{7, 8}, relu.getBudgets());
+        assertEquals(3, relu.getObjets().size());
+        assertEquals("Médiathèque", relu.getObjets().get(2).getLabel());
+        assertEquals("", relu.getObjets().get(1).getLabel());
+        assertArrayEquals(new int[]{3, 3}, relu.getObjets().get(1).getCouts());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Conversion texte → binaire puis résolution sur la projection
+    // ------------------------------------------------------------
+
+    @Test
+    public void convertir_PuisResoudreSurProjection() throws IOException {
+
+        // Arrange
+        Path texte = dossier.resolve("inst.txt");
+        Path binaire = dossier.resolve("inst.sacb");
+        Files.writeString(texte, "3 2\n10 8 5\n4 3 10\n3 3 10\n7 7\n");
+
+        // Act
+        FormatBinaire.convertir(texte, binaire);
+        InstanceMappee inst = FormatBinaire.lire(binaire);
+        Solution sol = new GloutonAjoutSolver().resoudre(inst, new int[]{0, 1, 2});
+
+        // Assert
+        assertFalse(inst.aDesLabels());
+        assertEquals(10, inst.cout(2, 1));
+        assertEquals(18, sol.utilite());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Fichier qui n'est pas au format binaire
+    // ------------------------------------------------------------
+
+    @Test
+    public void lire_MauvaisFichier_LeveException() throws IOException {
+
+        // Arrange
+        Path f = dossier.resolve("texte.txt");
+        Files.writeString(f, "3 2\n10 8 5\n4 3 10\n");
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> FormatBinaire.lire(f));
+    }
+}
@@ -0,0 +1,78 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+
+/**
+ * Tests unitaires pour {@link GenerateurInstances}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class GenerateurInstancesTest {
+
+    // ------------------------------------------------------------
+    // TEST 1 : Même graine → même instance
+    // ------------------------------------------------------------
+
+    @Test
+    public void generer_MemeGraine_InstancesIdentiques() {
+
+        // Act
+        InstanceTableaux a = GenerateurInstances.generer(10_000, 5, Correlation.FORTEMENT_CORRELEE, 0.5, 42);
+        InstanceTableaux b = GenerateurInstances.generer(10_000, 5, Correlation.FORTEMENT_CORRELEE, 0.5, 42);
+
+        // Assert
+        for (int i = 0; i < a.nombreObjets(); i++) {
+            assertEquals(a.utilite(i), b.utilite(i));
+            for (int d = 0; d < a.dimension(); d++) {
+                assertEquals(a.cout(i, d), b.cout(i, d));
+            }
+        }
+        assertArrayEquals(a.budgets(), b.budgets());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Budgets = serrage × somme des coûts, par dimension
+    // ------------------------------------------------------------
+
+    @Test
+    public void generer_SerrageParDimension_BudgetsCorrects() {
+
+        // Act
+        InstanceTableaux inst = GenerateurInstances.generer(
+                5_000, 2, Correlation.NON_CORRELEE, new double[]{0.25, 0.75}, 7);
+
+        // Assert
+        for (int d = 0; d < 2; d++) {
+            long somme = 0;
+            for (int i = 0; i < inst.nombreObjets(); i++) {
+                int c = inst.cout(i, d);
+                assertTrue(c >= 1 && c <= GenerateurInstances.COUT_MAX);
+                somme += c;
+            }
+            double serrage = (d == 0 ? 0.25 : 0.75);
+            assertEquals((long) Math.floor(serrage * somme), inst.budget(d));
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Paramètres invalides
+    // ------------------------------------------------------------
+
+    @Test
+    public void generer_SerrageInvalide_LeveException() {
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> GenerateurInstances.generer(10, 2, Correlation.NON_CORRELEE, 1.5, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> GenerateurInstances.generer(10, 2, Correlation.NON_CORRELEE, new double[]{0.5}, 1));
+    }
+}
@@ -0,0 +1,89 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.Objet;
+import sacADos.SacADos;
+import sacADos.Solution;
+import solveur.glouton.Comparateurs;
+import solveur.glouton.GloutonFmvSolver;
+
+/**
+ * Tests unitaires pour {@link GloutonFmvSolver}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class GloutonFmvSolverTest {
+
+    private final GloutonFmvSolver solver = new GloutonFmvSolver();
+
+    // ------------------------------------------------------------
+    // TEST 1 : La dimension critique change après un ajout
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_DimensionCritiqueChange_ChoixAdapte() {
+
+        // Arrange : dimension 0 critique au départ (budget 10 < 20) → A (10/1) ;
+        // ensuite la dimension 1 devient critique (reste 2 < 9) → C (6/1) plutôt que B
+        Objet a = new Objet("A", 10, new int[]{1, 18});
+        Objet b = new Objet("B", 9, new int[]{1, 3});
+        Objet c = new Objet("C", 6, new int[]{8, 1});
+        SacADos sac = new SacADos(2, new int[]{10, 20}, Arrays.asList(a, b, c));
+
+        // Act
+        List<Objet> sol = solver.resoudre(sac);
+
+        // Assert
+        assertEquals(List.of(a, c), sol);
+        assertTrue(sac.estAdmissible(sol));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Même résultat que le tri fmv recalculé à chaque étape
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_MemeResultatQueVersionNaive() {
+
+        // Arrange
+        SacADos sac = new SacADos(GenerateurInstances.generer(300, 5, Correlation.FAIBLEMENT_CORRELEE, 0.3, 11L));
+
+        // Act
+        List<Objet> rapide = solver.resoudre(sac);
+        Solution compacte = solver.resoudre(sac.compacte());
+
+        // Assert
+        assertEquals(naif(sac), rapide);
+        assertEquals(sac.utiliteTotale(rapide), compacte.utilite());
+    }
+
+    /* ============================================================
+       Méthodes utilitaires privées
+       ============================================================ */
+
+    /** Glouton fmv naïf : retrie les objets restants avec Comparateurs.fmv à chaque étape. */
+    private static List<Objet> naif(SacADos sac) {
+        List<Objet> restants = new ArrayList<>(sac.getObjets());
+        List<Objet> selection = new ArrayList<>();
+        while (!restants.isEmpty()) {
+            restants.sort(Comparateurs.fmv(sac.getBudgets(), selection));
+            Objet o = restants.remove(0);
+            selection.add(o);
+            if (!sac.estAdmissible(selection)) {
+                selection.remove(selection.size() - 1);
+            }
+        }
+        return selection;
+    }
+}
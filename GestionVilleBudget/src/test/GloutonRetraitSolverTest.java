@@ -106,4 +106,30 @@ public class GloutonRetraitSolverTest {
 
         assertTrue(total <= sac.getBudgets()[0]);
     }
+
+    // ------------------------------------------------------------
+    // TEST 4 — Retrait arrêté dès que tous les budgets sont respectés
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_Compacte_RetraitArreteDesAdmissible() {
+
+        // Arrange : budgets {10, 10} ; tout prendre coûte {14, 12}
+        // (objet 0 : {4, 0}, 1 : {4, 4}, 2 et 3 : {3, 4})
+        InstanceTableaux inst = new InstanceTableaux(
+                new int[]{5, 4, 3, 2},
+                new int[]{4, 0,   4, 4,   3, 4,   3, 4},
+                new int[]{10, 10});
+
+        // Act : retrait de 0 (→ {10, 12}) puis de 1 (→ {6, 8}), puis arrêt
+        Solution sol = solver.resoudre(inst, new int[]{0, 1, 2, 3}, new int[]{0, 1, 2, 3});
+
+        // Assert : 2 et 3 sont gardés ; en phase d'ajout, 0 tient de nouveau, 1 non
+        assertTrue(sol.estAdmissible());
+        assertTrue(sol.contient(0));
+        assertFalse(sol.contient(1));
+        assertTrue(sol.contient(2));
+        assertTrue(sol.contient(3));
+        assertEquals(10, sol.utilite());
+    }
 }
@@ -0,0 +1,80 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+import sacADos.Solution;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.grasp.GraspSolver;
+import solveur.hillclimbing.HillClimbingSolver;
+
+/**
+ * Tests unitaires pour {@link GraspSolver}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class GraspSolverTest {
+
+    private final InstanceTableaux inst =
+            GenerateurInstances.generer(60, 5, Correlation.FAIBLEMENT_CORRELEE, 0.3, 21L);
+
+    // ------------------------------------------------------------
+    // TEST 1 : Même résultat quel que soit le nombre de threads
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_UnOuQuatreThreads_MemeSolution() {
+
+        // Act
+        Solution seq = new GraspSolver(0.3, 200, 42L, 1, Criteres.f_somme()).resoudre(inst);
+        Solution par = new GraspSolver(0.3, 200, 42L, 4, Criteres.f_somme()).resoudre(inst);
+
+        // Assert
+        assertEquals(seq, par);
+        assertTrue(seq.estAdmissible());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : alpha = 0 → glouton à ajout suivi du Hill Climbing
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_AlphaNul_GloutonPuisHillClimbing() {
+
+        // Arrange
+        Solution glouton = new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme());
+        Solution attendu = new HillClimbingSolver().resoudre(inst, glouton, 1, 0);
+
+        // Act
+        Solution grasp = new GraspSolver(0, 3, 1L, 2, Criteres.f_somme()).resoudre(inst);
+
+        // Assert
+        assertEquals(attendu, grasp);
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Départs randomisés meilleurs que le seul départ glouton
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_DepartsRandomises_MeilleurQueGlouton() {
+
+        // Arrange
+        Solution glouton = new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme());
+        long reference = new HillClimbingSolver().resoudre(inst, glouton, 1, 0).utilite();
+
+        // Act
+        Solution grasp = new GraspSolver(0.2, 300, 7L).resoudre(inst);
+
+        // Assert
+        assertTrue(grasp.estAdmissible());
+        assertTrue(grasp.utilite() > reference);
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import sacADos.*;
+import solveur.Controle;
 import solveur.hillclimbing.HillClimbingSolver;
 
 /**
@@ -105,4 +106,127 @@ public class HillClimbingSolverTest {
                 "La solution Hill Climbing doit toujours être admissible"
         );
     }
+
+    // ------------------------------------------------------------
+    // TEST 4 — Instance compacte : aucun échange ni ajout n'améliore le résultat
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_Compacte_OptimumLocalDesEchanges() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(80, 4,
+                GenerateurInstances.Correlation.FAIBLEMENT_CORRELEE, 0.3, 9L);
+        Solution initiale = new Solution(inst);
+
+        // Act
+        Solution sol = solver.resoudre(inst, initiale, 1, 0);
+
+        // Assert : vérification naïve de tous les voisins (retrait, ajout) et ajouts simples
+        assertTrue(sol.estAdmissible());
+        for (int add : sol.absents()) {
+            assertFalse(sol.peutAjouter(add));
+            for (int remove : sol.indices()) {
+                if (sol.peutEchanger(remove, add)) {
+                    assertTrue(inst.utilite(add) <= inst.utilite(remove));
+                }
+            }
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 5 — t = 2 : aucun échange d'au plus deux objets contre deux n'améliore
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_T2_OptimumLocalDesDoublesEchanges() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(24, 3,
+                GenerateurInstances.Correlation.FAIBLEMENT_CORRELEE, 0.5, 5L);
+        Solution depart = solver.resoudre(inst, new Solution(inst), 1, 0);
+
+        // Act
+        Solution sol = solver.resoudre(inst, depart, 2, 0);
+
+        // Assert : jamais pire que t = 1, et vérification naïve des voisins |E| ≤ 2, |A| ≤ 2
+        assertTrue(sol.estAdmissible());
+        assertTrue(sol.utilite() >= depart.utilite());
+        int[] dedans = sol.indices();
+        int[] dehors = sol.absents();
+        for (int e1 = -1; e1 < dedans.length; e1++) {
+            for (int e2 = e1 + 1; e2 <= dedans.length; e2++) {
+                for (int a1 = -1; a1 < dehors.length; a1++) {
+                    for (int a2 = a1 + 1; a2 <= dehors.length; a2++) {
+                        Solution voisin = sol.copie();
+                        if (e1 >= 0) voisin.retirer(dedans[e1]);
+                        if (e2 < dedans.length) voisin.retirer(dedans[e2]);
+                        if (a1 >= 0) voisin.ajouter(dehors[a1]);
+                        if (a2 < dehors.length) voisin.ajouter(dehors[a2]);
+                        assertFalse(voisin.estAdmissible() && voisin.utilite() > sol.utilite());
+                    }
+                }
+            }
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 6 — Premier voisin améliorant et bits « ne pas regarder » : optimum local atteint
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_ToutesAcceptations_OptimumLocalDesEchanges() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(120, 4,
+                GenerateurInstances.Correlation.NON_CORRELEE, 0.4, 13L);
+
+        for (HillClimbingSolver.Acceptation acceptation : HillClimbingSolver.Acceptation.values()) {
+            for (boolean nePasRegarder : new boolean[]{false, true}) {
+
+                // Act
+                Solution sol = solver.resoudre(inst, new Solution(inst), 1, 0, acceptation, nePasRegarder,
+                        Controle.sansLimite());
+
+                // Assert : aucun ajout ni échange (retrait, ajout) n'améliore
+                assertTrue(sol.estAdmissible());
+                for (int add : sol.absents()) {
+                    assertFalse(sol.peutAjouter(add), acceptation + " / " + nePasRegarder);
+                    for (int remove : sol.indices()) {
+                        assertFalse(sol.peutEchanger(remove, add) && inst.utilite(add) > inst.utilite(remove),
+                                acceptation + " / " + nePasRegarder);
+                    }
+                }
+            }
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 7 — Exploration parallèle : même résultat avec 1 ou 4 threads
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_UnOuQuatreThreads_MemeSolution() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(150, 3,
+                GenerateurInstances.Correlation.FAIBLEMENT_CORRELEE, 0.5, 21L);
+        Solution depart = new Solution(inst);
+
+        for (HillClimbingSolver.Acceptation acceptation : HillClimbingSolver.Acceptation.values()) {
+
+            // Act
+            Solution seq = new HillClimbingSolver(1, 5L).resoudre(inst, depart, 1, 0, acceptation, true,
+                    Controle.sansLimite());
+            Solution par = new HillClimbingSolver(4, 5L).resoudre(inst, depart, 1, 0, acceptation, true,
+                    Controle.sansLimite());
+
+            // Assert
+            assertEquals(seq, par, acceptation.toString());
+        }
+
+        // Act + Assert : voisins aléatoires
+        assertEquals(new HillClimbingSolver(1, 5L).resoudreAleatoire(inst, depart, 2, 40, 0),
+                new HillClimbingSolver(4, 5L).resoudreAleatoire(inst, depart, 2, 40, 0));
+    }
 }
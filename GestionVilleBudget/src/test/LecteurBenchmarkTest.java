@@ -0,0 +1,128 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sacADos.InstanceTableaux;
+import sacADos.LecteurBenchmark;
+import sacADos.SacADos;
+import sacADos.VersSacADos;
+
+/**
+ * Tests unitaires pour {@link LecteurBenchmark}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class LecteurBenchmarkTest {
+
+    @TempDir
+    Path dossier;
+
+    // ------------------------------------------------------------
+    // TEST 1 : Fichier au format ligne par ligne
+    // ------------------------------------------------------------
+
+    @Test
+    public void lire_FormatClassique_InstanceCorrecte() throws IOException {
+
+        // Arrange : 3 objets, 2 dimensions
+        Path f = dossier.resolve("inst.txt");
+        Files.writeString(f, "3 2\n10\n8\n5\n4 3 10\n3 3 10\n7 7\n");
+
+        // Act
+        InstanceTableaux inst = LecteurBenchmark.lire(f);
+
+        // Assert
+        assertEquals(3, inst.nombreObjets());
+        assertEquals(2, inst.dimension());
+        assertEquals(8, inst.utilite(1));
+        assertEquals(4, inst.cout(0, 0));
+        assertEquals(3, inst.cout(0, 1));
+        assertEquals(10, inst.cout(2, 1));
+        assertArrayEquals(new int[]{7, 7}, inst.budgets());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Valeurs réparties sur des lignes quelconques
+    // ------------------------------------------------------------
+
+    @Test
+    public void lire_RetoursALaLigneArbitraires_MemeInstance() throws IOException {
+
+        // Arrange
+        Path f = dossier.resolve("inst.txt");
+        Files.writeString(f, "  3\r\n2 10 8\n\n5 4\t3\n10 3 3 10 7\n   7");
+
+        // Act
+        InstanceTableaux inst = LecteurBenchmark.lire(f);
+
+        // Assert
+        assertEquals(5, inst.utilite(2));
+        assertEquals(3, inst.cout(1, 0));
+        assertEquals(10, inst.cout(2, 0));
+        assertEquals(7, inst.budget(1));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Fichier tronqué et fichier absent
+    // ------------------------------------------------------------
+
+    @Test
+    public void depuisFichier_FichierTronqueOuAbsent_LeveException() throws IOException {
+
+        // Arrange
+        Path f = dossier.resolve("tronque.txt");
+        Files.writeString(f, "3 2\n10 8 5\n4 3");
+
+        // Act + Assert
+        assertThrows(RuntimeException.class, () -> VersSacADos.depuisFichier(f.toString()));
+        assertThrows(IllegalArgumentException.class,
+                () -> VersSacADos.depuisFichier(dossier.resolve("absent.txt").toString()));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 4 : Vue SacADos construite depuis le fichier
+    // ------------------------------------------------------------
+
+    @Test
+    public void depuisFichier_VueObjets() throws IOException {
+
+        // Arrange
+        Path f = dossier.resolve("inst.txt");
+        Files.writeString(f, "2 1\n6 9\n2 5\n6\n");
+
+        // Act
+        SacADos sac = VersSacADos.depuisFichier(f.toString());
+
+        // Assert
+        assertEquals(2, sac.getObjets().size());
+        assertEquals(9, sac.getObjets().get(1).getUtilite());
+        assertArrayEquals(new int[]{5}, sac.getObjets().get(1).getCouts());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 5 : Valeur décimale → erreur de format avec sa position
+    // ------------------------------------------------------------
+
+    @Test
+    public void lire_ValeurDecimale_NumberFormatException() throws IOException {
+
+        // Arrange : le '.' est l'octet 8
+        Path f = dossier.resolve("decimal.txt");
+        Files.writeString(f, "3 2\n10 8.5 5\n4 3 10\n3 3 10\n7 7\n");
+
+        // Act
+        NumberFormatException e = assertThrows(NumberFormatException.class, () -> LecteurBenchmark.lire(f));
+
+        // Assert
+        assertTrue(e.getMessage().contains("octet 8"), e.getMessage());
+    }
+}
@@ -0,0 +1,83 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+import sacADos.Solution;
+import solveur.exact.BranchAndBoundSolver;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.glouton.GloutonRetraitSolver;
+import solveur.glouton.Multiplicateurs;
+
+/**
+ * Tests unitaires pour {@link Multiplicateurs}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class MultiplicateursTest {
+
+    /** Budgets très déséquilibrés : deux dimensions serrées, trois larges. */
+    private static final double[] SERRAGE = {0.05, 0.9, 0.3, 0.7, 0.15};
+
+    // ------------------------------------------------------------
+    // TEST 1 : Budgets déséquilibrés → meilleurs que f_somme, borne valide
+    // ------------------------------------------------------------
+
+    @Test
+    public void lagrangiens_BudgetsDesequilibres_MeilleurQueFSommeEtBorneValide() {
+
+        GloutonAjoutSolver glouton = new GloutonAjoutSolver();
+        long totalSomme = 0;
+        long totalLagrange = 0;
+
+        for (long graine = 1; graine <= 4; graine++) {
+
+            // Arrange
+            InstanceTableaux inst = GenerateurInstances.generer(40, 5, Correlation.FAIBLEMENT_CORRELEE, SERRAGE, graine);
+            long optimum = new BranchAndBoundSolver().resoudre(inst).getUtilite();
+
+            // Act
+            Multiplicateurs m = Multiplicateurs.lagrangiens(inst);
+            totalSomme += glouton.resoudre(inst, Criteres.f_somme()).utilite();
+            totalLagrange += glouton.resoudre(inst, m.critere()).utilite();
+
+            // Assert
+            assertTrue(m.getBorne() >= optimum);
+            for (double lambda : m.valeurs()) {
+                assertTrue(lambda >= 0);
+            }
+        }
+
+        assertTrue(totalLagrange > totalSomme);
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Mêmes multiplicateurs réutilisés par les deux gloutons
+    // ------------------------------------------------------------
+
+    @Test
+    public void surrogate_ReutiliseParAjoutEtRetrait_SolutionsAdmissibles() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(500, 5, Correlation.NON_CORRELEE, SERRAGE, 9L);
+        Multiplicateurs m = Multiplicateurs.surrogate(inst);
+
+        // Act
+        Solution ajout1 = new GloutonAjoutSolver().resoudre(inst, m.critere());
+        Solution ajout2 = new GloutonAjoutSolver().resoudre(inst, m.critere());
+        Solution retrait = new GloutonRetraitSolver().resoudre(inst, m.critere().inverse(), m.critere());
+
+        // Assert
+        assertEquals(ajout1, ajout2);
+        assertTrue(ajout1.estAdmissible());
+        assertTrue(retrait.estAdmissible());
+        assertTrue(m.get(0) > m.get(1));     // dimension 0 la plus serrée
+    }
+}
@@ -0,0 +1,68 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+import solveur.glouton.PortefeuilleGlouton;
+import solveur.glouton.ResultatPortefeuille;
+import solveur.glouton.ResultatVariante;
+
+/**
+ * Tests unitaires pour {@link PortefeuilleGlouton}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class PortefeuilleGloutonTest {
+
+    // ------------------------------------------------------------
+    // TEST 1 : Toutes les variantes, la meilleure est retenue
+    // ------------------------------------------------------------
+
+    @Test
+    public void executer_ToutesVariantes_MeilleureRetenue() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(300, 5, Correlation.FAIBLEMENT_CORRELEE, 0.3, 5L);
+
+        // Act
+        ResultatPortefeuille res = new PortefeuilleGlouton(4).executer(inst);
+
+        // Assert : 4 ajouts + 4 × 4 retraits + fmv
+        List<ResultatVariante> variantes = res.getVariantes();
+        assertEquals(21, variantes.size());
+        assertEquals("ajout/f_somme", variantes.get(0).getNom());
+        for (ResultatVariante v : variantes) {
+            assertTrue(v.getSolution().estAdmissible());
+            assertTrue(v.getUtilite() <= res.getMeilleure().getUtilite());
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Résultat indépendant du nombre de threads
+    // ------------------------------------------------------------
+
+    @Test
+    public void executer_UnOuPlusieursThreads_MemesUtilites() {
+
+        // Arrange
+        InstanceTableaux inst = GenerateurInstances.generer(200, 3, Correlation.NON_CORRELEE, 0.5, 8L);
+
+        // Act
+        ResultatPortefeuille seq = new PortefeuilleGlouton(1).executer(inst);
+        ResultatPortefeuille par = new PortefeuilleGlouton(8).executer(inst);
+
+        // Assert
+        for (int v = 0; v < seq.getVariantes().size(); v++) {
+            assertEquals(seq.getVariantes().get(v).getSolution(), par.getVariantes().get(v).getSolution());
+        }
+        assertEquals(seq.getMeilleure().getNom(), par.getMeilleure().getNom());
+    }
+}
@@ -0,0 +1,143 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceCompacte;
+import sacADos.InstanceTableaux;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.ils.CriteresAcceptation;
+import solveur.ils.RechercheLocaleIteree;
+import solveur.ils.RechercheLocaleIteree.Configuration;
+import solveur.ils.RechercheLocaleIteree.Perturbation;
+import solveur.voisinage.DescenteVariable;
+import solveur.voisinage.TypeMouvement;
+
+/**
+ * Tests unitaires pour {@link RechercheLocaleIteree}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class RechercheLocaleItereeTest {
+
+    private final InstanceTableaux inst =
+            GenerateurInstances.generer(80, 3, Correlation.FORTEMENT_CORRELEE, 0.5, 31L);
+
+    private final Function<InstanceCompacte, Solution> glouton =
+            i -> new GloutonAjoutSolver().resoudre(i, Criteres.f_somme());
+
+    // ------------------------------------------------------------
+    // TEST 1 : Chaînes indépendantes → résultat reproductible
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_QuatreChainesSansRedemarrage_ReproductibleEtAuMoinsLaDescente() {
+
+        // Arrange
+        Configuration config = new Configuration(glouton, Perturbation.BASCULEMENTS, 3,
+                CriteresAcceptation.amelioration(), RechercheLocaleIteree.VOISINAGES, 4, 200, Long.MAX_VALUE, 0, 5L);
+        Solution descente = new DescenteVariable().resoudre(inst, glouton.apply(inst),
+                RechercheLocaleIteree.VOISINAGES, Controle.sansLimite());
+
+        // Act
+        Solution s1 = new RechercheLocaleIteree().resoudre(inst, config, Controle.sansLimite());
+        Solution s2 = new RechercheLocaleIteree().resoudre(inst, config, Controle.sansLimite());
+
+        // Assert
+        assertTrue(s1.estAdmissible());
+        assertEquals(s1, s2);
+        assertTrue(s1.utilite() >= descente.utilite());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Ruine, marche aléatoire et redémarrages partagés
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_RuineAvecRedemarrage_MeilleureSolutionAdmissible() {
+
+        // Arrange
+        Solution initiale = glouton.apply(inst);
+        Configuration config = new Configuration(glouton, Perturbation.RUINE, 5,
+                CriteresAcceptation.marcheAleatoire(), List.of(TypeMouvement.AJOUT), 3, 100, Long.MAX_VALUE, 10, 9L);
+        Controle controle = Controle.sansLimite();
+
+        // Act
+        Solution sol = new RechercheLocaleIteree().resoudre(inst, initiale, config, controle);
+
+        // Assert : la meilleure solution n'est jamais perdue par la marche aléatoire
+        assertTrue(sol.estAdmissible());
+        assertTrue(sol.utilite() >= initiale.utilite());
+        assertTrue(controle.getIterations() >= 3 * 100);
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Paramètres invalides
+    // ------------------------------------------------------------
+
+    @Test
+    public void configuration_ParametresInvalides_Exception() {
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new Configuration(glouton, Perturbation.RUINE, 0,
+                CriteresAcceptation.amelioration(), RechercheLocaleIteree.VOISINAGES, 1, 10, 10, 0, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new Configuration(glouton, Perturbation.RUINE, 2,
+                CriteresAcceptation.amelioration(), List.of(), 1, 10, 10, 0, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new Configuration(glouton, Perturbation.RUINE, 2,
+                CriteresAcceptation.amelioration(), RechercheLocaleIteree.VOISINAGES, 1, 10, 10, -1, 0L));
+        assertThrows(IllegalArgumentException.class, () -> CriteresAcceptation.ecartRelatif(1.5));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 4 : Instance sans objet → solution vide
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_InstanceVide_SolutionVide() {
+
+        // Arrange
+        InstanceTableaux vide = new InstanceTableaux(new int[0], new int[0], new int[]{10, 10});
+        RechercheLocaleIteree ils = new RechercheLocaleIteree();
+
+        // Act
+        Solution sol = ils.resoudre(vide, ils.configurationParDefaut(), Controle.sansLimite());
+
+        // Assert
+        assertEquals(0, sol.utilite());
+        assertEquals(0, sol.taille());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 5 : Écart relatif et redémarrages → reproductible malgré le partage
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_EcartRelatifAvecRedemarrage_Reproductible() {
+
+        // Arrange : les chaînes consultent la meilleure solution partagée
+        Configuration config = new Configuration(glouton, Perturbation.BASCULEMENTS, 3,
+                CriteresAcceptation.ecartRelatif(0.02), RechercheLocaleIteree.VOISINAGES, 4, 300, Long.MAX_VALUE,
+                20, 11L);
+
+        // Act
+        Solution s1 = new RechercheLocaleIteree().resoudre(inst, config, Controle.sansLimite());
+        Solution s2 = new RechercheLocaleIteree().resoudre(inst, config, Controle.sansLimite());
+        Solution s3 = new RechercheLocaleIteree().resoudre(inst, config, Controle.sansLimite());
+
+        // Assert
+        assertTrue(s1.estAdmissible());
+        assertEquals(s1, s2);
+        assertEquals(s1, s3);
+    }
+}
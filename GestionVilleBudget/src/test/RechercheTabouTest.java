@@ -0,0 +1,96 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.tabou.RechercheTabou;
+import solveur.voisinage.TypeMouvement;
+
+/**
+ * Tests unitaires pour {@link RechercheTabou}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class RechercheTabouTest {
+
+    private final InstanceTableaux inst =
+            GenerateurInstances.generer(60, 3, Correlation.FAIBLEMENT_CORRELEE, 0.5, 23L);
+
+    // ------------------------------------------------------------
+    // TEST 1 : La meilleure solution rencontrée est un optimum local
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_DepartGlouton_OptimumLocalDesBasculements() {
+
+        // Arrange
+        Solution glouton = new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme());
+        Solution copieGlouton = glouton.copie();
+
+        // Act
+        Solution sol = new RechercheTabou().resoudre(inst, glouton);
+
+        // Assert : un mouvement améliorant depuis la meilleure solution aurait été
+        // retenu (au besoin par aspiration) et aurait donné une solution meilleure
+        assertTrue(sol.estAdmissible());
+        assertEquals(copieGlouton, glouton);
+        assertTrue(sol.utilite() >= glouton.utilite());
+        for (TypeMouvement type : new TypeMouvement[] {TypeMouvement.AJOUT, TypeMouvement.ECHANGE}) {
+            type.creer(inst).parcourir(sol, 1, m -> fail(type + " améliorant : " + m));
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Limite d'itérations et contrôle d'arrêt
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_LimiteIterations_UneIterationParMouvement() {
+
+        // Arrange
+        Solution glouton = new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme());
+        Controle controle = Controle.sansLimite();
+
+        // Act
+        Solution sol = new RechercheTabou().resoudre(inst, glouton, 5, 0.0, 500, Long.MAX_VALUE, controle);
+
+        // Assert
+        assertTrue(sol.estAdmissible());
+        assertTrue(sol.utilite() >= glouton.utilite());
+        assertEquals(500, controle.getIterations());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Paramètres et solution initiale invalides
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_ParametresInvalides_Exception() {
+
+        // Arrange
+        RechercheTabou tabou = new RechercheTabou();
+        Solution glouton = new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme());
+        Solution inadmissible = new Solution(inst);
+        for (int i = 0; i < inst.nombreObjets(); i++) {
+            inadmissible.ajouter(i);
+        }
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> tabou.resoudre(inst, glouton, 0, 0.1, 100, 100, Controle.sansLimite()));
+        assertThrows(IllegalArgumentException.class,
+                () -> tabou.resoudre(inst, glouton, 5, -1.0, 100, 100, Controle.sansLimite()));
+        assertThrows(IllegalArgumentException.class,
+                () -> tabou.resoudre(inst, inadmissible, 5, 0.1, 100, 100, Controle.sansLimite()));
+    }
+}
@@ -0,0 +1,131 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import sacADos.GenerateurInstances;
+import sacADos.GenerateurInstances.Correlation;
+import sacADos.InstanceTableaux;
+import sacADos.Solution;
+import solveur.Controle;
+import solveur.glouton.Criteres;
+import solveur.glouton.GloutonAjoutSolver;
+import solveur.recuit.RecuitSimule;
+import solveur.recuit.Refroidissements;
+import solveur.recuit.ResultatRecuit;
+
+/**
+ * Tests unitaires pour {@link RecuitSimule} et {@link Refroidissements}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class RecuitSimuleTest {
+
+    private final InstanceTableaux inst =
+            GenerateurInstances.generer(60, 3, Correlation.FAIBLEMENT_CORRELEE, 0.5, 29L);
+
+    private final Solution glouton = new GloutonAjoutSolver().resoudre(inst, Criteres.f_somme());
+
+    // ------------------------------------------------------------
+    // TEST 1 : Refroidissement géométrique, statistiques cohérentes
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_Geometrique_StatistiquesParPalier() {
+
+        // Arrange
+        Controle controle = Controle.sansLimite();
+
+        // Act
+        ResultatRecuit r = new RecuitSimule().resoudre(inst, glouton, 2, Refroidissements.geometrique(0.9),
+                100, 0.5, 5_000, Long.MAX_VALUE, 3L, controle);
+
+        // Assert
+        assertTrue(r.getSolution().estAdmissible());
+        assertTrue(r.getUtilite() >= glouton.utilite());
+        assertEquals(5_000, r.getMouvements());
+        assertEquals(50, r.getPaliers());
+        assertEquals(50, controle.getIterations());
+        assertTrue(r.getAcceptes() <= r.getAdmissibles() && r.getAdmissibles() <= r.getMouvements());
+
+        double[] temperatures = r.getTemperatures();
+        for (int p = 1; p < temperatures.length; p++) {
+            assertEquals(0.9 * temperatures[p - 1], temperatures[p], 1e-9 * temperatures[p - 1]);
+        }
+        for (double taux : r.getTauxAcceptation()) {
+            assertTrue(taux >= 0 && taux <= 1);
+        }
+        assertEquals(0, r.getRechauffes());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Réchauffe et reproductibilité à graine égale
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_AvecRechauffe_ReproductibleAGraineEgale() {
+
+        // Arrange : réchauffe dès que le taux d'acceptation passe sous 60 %
+        RecuitSimule recuit = new RecuitSimule();
+
+        // Act
+        ResultatRecuit r1 = recuit.resoudre(inst, glouton, 1,
+                Refroidissements.avecRechauffe(Refroidissements.lundyMees(0.01), 0.6, 0.5),
+                100, 0.5, 20_000, Long.MAX_VALUE, 7L, Controle.sansLimite());
+        ResultatRecuit r2 = recuit.resoudre(inst, glouton, 1,
+                Refroidissements.avecRechauffe(Refroidissements.lundyMees(0.01), 0.6, 0.5),
+                100, 0.5, 20_000, Long.MAX_VALUE, 7L, Controle.sansLimite());
+
+        // Assert
+        assertTrue(r1.getRechauffes() > 0);
+        for (double temperature : r1.getTemperatures()) {
+            assertTrue(temperature <= r1.getTemperatureInitiale());
+        }
+        assertEquals(r1.getSolution(), r2.getSolution());
+        assertArrayEquals(r1.getTemperatures(), r2.getTemperatures());
+        assertEquals(r1.getAcceptes(), r2.getAcceptes());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Paramètres invalides
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_ParametresInvalides_Exception() {
+
+        // Arrange
+        RecuitSimule recuit = new RecuitSimule();
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> Refroidissements.geometrique(1.0));
+        assertThrows(IllegalArgumentException.class, () -> Refroidissements.lundyMees(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> Refroidissements.avecRechauffe(Refroidissements.geometrique(0.9), 0.1, 2));
+        assertThrows(IllegalArgumentException.class, () -> recuit.resoudre(inst, glouton, 1,
+                Refroidissements.geometrique(0.9), 100, 1.0, 1_000, 1_000, 0L, Controle.sansLimite()));
+        assertThrows(IllegalArgumentException.class, () -> recuit.resoudre(inst, glouton, 1,
+                Refroidissements.geometrique(0.9), 0, 0.5, 1_000, 1_000, 0L, Controle.sansLimite()));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 4 : Instance sans objet → solution vide
+    // ------------------------------------------------------------
+
+    @Test
+    public void resoudre_InstanceVide_SolutionVide() {
+
+        // Arrange
+        InstanceTableaux vide = new InstanceTableaux(new int[0], new int[0], new int[]{10, 10});
+        RecuitSimule recuit = new RecuitSimule();
+
+        // Act
+        Solution sol = recuit.resoudre(vide, recuit.configurationParDefaut(), Controle.sansLimite());
+
+        // Assert
+        assertEquals(0, sol.utilite());
+        assertEquals(0, sol.taille());
+    }
+}
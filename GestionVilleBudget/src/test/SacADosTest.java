@@ -7,6 +7,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import sacADos.InstanceTableaux;
 import sacADos.Objet;
 import sacADos.SacADos;
 
@@ -70,4 +71,44 @@ public class SacADosTest {
         // Assert
         assertEquals(10, util);
     }
+
+    // ------------------------------------------------------------
+    // TEST 4 : Représentation compacte cohérente avec les objets
+    // ------------------------------------------------------------
+
+    @Test
+    public void compacte_DeuxObjets_IndicesEtCoutsCoherents() {
+
+        // Act
+        int[] indices = sac.indices(List.of(o2, o1));
+
+        // Assert
+        assertArrayEquals(new int[]{1, 0}, indices);
+        assertEquals(5, sac.compacte().utilite(1));
+        assertEquals(1, sac.compacte().cout(0, 0));
+        assertEquals(List.of(o2, o1), sac.versObjets(indices));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 5 : Vue objet construite depuis une instance compacte
+    // ------------------------------------------------------------
+
+    @Test
+    public void constructeurCompacte_VueObjetsAvecLabels() {
+
+        // Arrange
+        InstanceTableaux compacte = new InstanceTableaux(
+                new int[]{7, 3},
+                new int[]{1, 2, 3, 4},
+                new int[]{5, 6});
+
+        // Act
+        SacADos vue = new SacADos(compacte, new String[]{"A", "B"});
+
+        // Assert
+        assertEquals(2, vue.getObjets().size());
+        assertEquals("B", vue.getObjets().get(1).getLabel());
+        assertArrayEquals(new int[]{3, 4}, vue.getObjets().get(1).getCouts());
+        assertTrue(vue.estAdmissible(vue.getObjets()));
+    }
 }
@@ -0,0 +1,156 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import sacADos.InstanceTableaux;
+import sacADos.Solution;
+
+/**
+ * Tests unitaires pour la classe {@link Solution}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class SolutionTest {
+
+    private InstanceTableaux instance;
+    private Solution solution;
+
+    @BeforeEach
+    public void init() {
+        // 3 objets, 2 dimensions, budgets {7, 7}
+        instance = new InstanceTableaux(
+                new int[]{10, 8, 5},
+                new int[]{4, 3,   3, 3,   10, 10},
+                new int[]{7, 7});
+        solution = new Solution(instance);
+    }
+
+    // ------------------------------------------------------------
+    // TEST 1 : Ajouts successifs, consommation et utilité maintenues
+    // ------------------------------------------------------------
+
+    @Test
+    public void ajouter_DeuxObjets_ConsommationEtUtiliteCorrectes() {
+
+        // Act
+        solution.ajouter(0);
+        solution.ajouter(1);
+
+        // Assert
+        assertEquals(18, solution.utilite());
+        assertEquals(7, solution.consommation(0));
+        assertEquals(1, solution.reste(1));
+        assertEquals(2, solution.taille());
+        assertTrue(solution.estAdmissible());
+        assertArrayEquals(new int[]{0, 1}, solution.indices());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Tests d'ajout et d'échange en O(k)
+    // ------------------------------------------------------------
+
+    @Test
+    public void peutAjouterEtEchanger_RespecteLesBudgets() {
+
+        // Arrange
+        solution.ajouter(0);
+
+        // Assert
+        assertTrue(solution.peutAjouter(1));
+        assertFalse(solution.peutAjouter(2));
+        assertTrue(solution.peutEchanger(0, 1));
+        assertFalse(solution.peutEchanger(0, 2));
+    }
+
+    // ------------------------------------------------------------
+    // TEST 3 : Une copie est indépendante de l'original
+    // ------------------------------------------------------------
+
+    @Test
+    public void copie_ModificationOriginal_CopieInchangee() {
+
+        // Arrange
+        solution.ajouter(0);
+        Solution copie = solution.copie();
+
+        // Act
+        solution.echanger(0, 1);
+
+        // Assert
+        assertTrue(copie.contient(0));
+        assertFalse(copie.contient(1));
+        assertEquals(10, copie.utilite());
+        assertEquals(8, solution.utilite());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 4 : Ajout d'un objet déjà présent
+    // ------------------------------------------------------------
+
+    @Test
+    public void ajouter_ObjetDejaPresent_LeveException() {
+
+        // Arrange
+        solution.ajouter(2);
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> solution.ajouter(2));
+        assertFalse(solution.estAdmissible());
+
+        // Act + Assert : échange vers un objet déjà présent → solution inchangée
+        solution.ajouter(0);
+        assertThrows(IllegalArgumentException.class, () -> solution.echanger(0, 2));
+        assertTrue(solution.contient(0));
+        assertTrue(solution.contient(2));
+        assertEquals(15, solution.utilite());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 5 : Parcours du bitset, égalité et hachage
+    // ------------------------------------------------------------
+
+    @Test
+    public void bitset_ParcoursEgaliteHachage() {
+
+        // Arrange
+        solution.ajouter(1);
+        Solution autre = new Solution(instance);
+        autre.ajouter(1);
+
+        // Assert
+        assertEquals(1, solution.prochainPresent(0));
+        assertEquals(-1, solution.prochainPresent(2));
+        assertEquals(2, solution.prochainAbsent(1));
+        assertArrayEquals(new int[]{0, 2}, solution.absents());
+        assertEquals(solution, autre);
+        assertEquals(solution.hashCode(), autre.hashCode());
+        assertEquals(0, solution.compareTo(autre));
+
+        // Act
+        autre.ajouter(0);
+
+        // Assert
+        assertNotEquals(solution, autre);
+        assertTrue(solution.compareTo(autre) < 0);
+    }
+
+    // ------------------------------------------------------------
+    // TEST 6 : Indice hors de l'instance → solution inchangée
+    // ------------------------------------------------------------
+
+    @Test
+    public void ajouter_IndiceHorsInstance_SolutionInchangee() {
+
+        // Act + Assert : 5 tient dans le premier mot du bitset
+        assertThrows(IndexOutOfBoundsException.class, () -> solution.ajouter(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> solution.retirer(-1));
+        assertEquals(0, solution.taille());
+        assertEquals(0, solution.utilite());
+        assertFalse(solution.contient(5));
+    }
+}
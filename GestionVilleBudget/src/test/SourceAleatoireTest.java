@@ -0,0 +1,70 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import alea.SourceAleatoire;
+
+/**
+ * Tests unitaires pour {@link SourceAleatoire}.
+ *
+ * Chaque test suit la méthode AAA (Arrange, Act, Assert).
+ *
+ * @author ZHU YULEI
+ */
+public class SourceAleatoireTest {
+
+    // ------------------------------------------------------------
+    // TEST 1 : Même graine et même numéro → même suite de tirages
+    // ------------------------------------------------------------
+
+    @Test
+    public void flux_MemeNumero_MemeSuite() {
+
+        // Arrange
+        SourceAleatoire a = new SourceAleatoire(42L);
+        SourceAleatoire b = new SourceAleatoire(42L);
+
+        // Act : le flux 3 de b est obtenu sans passer par les précédents
+        SplittableRandom fa = a.flux(3);
+        SplittableRandom fb = b.flux(3);
+
+        // Assert
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(fa.nextLong(), fb.nextLong());
+        }
+        assertEquals(a.derivee(5).graine(), b.derivee(5).graine());
+        assertNotEquals(a.flux(3).nextLong(), new SourceAleatoire(43L).flux(3).nextLong());
+        assertNotEquals(SourceAleatoire.nonReproductible().graine(), SourceAleatoire.nonReproductible().graine());
+    }
+
+    // ------------------------------------------------------------
+    // TEST 2 : Flux voisins et sous-sources sans tirage commun
+    // ------------------------------------------------------------
+
+    @Test
+    public void flux_NumerosVoisins_AucunTirageCommun() {
+
+        // Arrange
+        SourceAleatoire source = new SourceAleatoire(7L);
+        Set<Long> tirages = new HashSet<>();
+
+        // Act : un décalage d'un tirage entre deux flux donnerait des doublons
+        for (int numero = 0; numero < 8; numero++) {
+            SplittableRandom flux = source.flux(numero);
+            SplittableRandom sous = source.derivee(numero).flux(0);
+            for (int i = 0; i < 1_000; i++) {
+                tirages.add(flux.nextLong());
+                tirages.add(sous.nextLong());
+            }
+        }
+
+        // Assert
+        assertEquals(2 * 8 * 1_000, tirages.size());
+    }
+}